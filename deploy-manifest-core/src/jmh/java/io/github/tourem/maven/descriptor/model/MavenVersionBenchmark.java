@@ -0,0 +1,119 @@
+package io.github.tourem.maven.descriptor.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting 10k realistic version strings: {@link MavenVersion} (cached parse, allocation-free compare)
+ * against the former regex-based comparison of DependencyVersionLookup.
+ *
+ * Run with: {@code mvn -Pbenchmarks -pl deploy-manifest-core test-compile exec:exec}
+ * @author tourem
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MavenVersionBenchmark {
+
+    private static final String[] QUALIFIERS = {"", "", "", "-SNAPSHOT", "-rc1", "-M2", "-beta-1", ".RELEASE", ".Final", "-jre"};
+
+    private List<String> versions;
+    private List<MavenVersion> parsed;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        versions = new ArrayList<>(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            versions.add(random.nextInt(10) + "." + random.nextInt(30) + "." + random.nextInt(50)
+                    + QUALIFIERS[random.nextInt(QUALIFIERS.length)]);
+        }
+        parsed = new ArrayList<>(versions.size());
+        for (String v : versions) {
+            parsed.add(MavenVersion.parse(v));
+        }
+    }
+
+    @Benchmark
+    public List<String> sortStringsWithCachedParse() {
+        List<String> copy = new ArrayList<>(versions);
+        copy.sort(MavenVersion.COMPARATOR);
+        return copy;
+    }
+
+    @Benchmark
+    public List<MavenVersion> sortParsedVersions() {
+        List<MavenVersion> copy = new ArrayList<>(parsed);
+        copy.sort(null);
+        return copy;
+    }
+
+    @Benchmark
+    public List<String> sortStringsWithRegexComparison() {
+        List<String> copy = new ArrayList<>(versions);
+        copy.sort(MavenVersionBenchmark::legacyCompare);
+        return copy;
+    }
+
+    /** Comparison previously used by DependencyVersionLookup, kept as the baseline. */
+    private static int legacyCompare(String v1, String v2) {
+        if (v1.equals(v2)) return 0;
+        String[] parts1 = legacyNormalize(v1).split("\\.");
+        String[] parts2 = legacyNormalize(v2).split("\\.");
+        int maxLen = Math.max(parts1.length, parts2.length);
+        for (int i = 0; i < maxLen; i++) {
+            int p1 = i < parts1.length ? legacyPart(parts1[i]) : 0;
+            int p2 = i < parts2.length ? legacyPart(parts2[i]) : 0;
+            if (p1 != p2) return Integer.compare(p1, p2);
+        }
+        return Integer.compare(legacyRank(v1), legacyRank(v2));
+    }
+
+    private static String legacyNormalize(String version) {
+        return version
+                .replaceAll("(?i)-SNAPSHOT", "")
+                .replaceAll("(?i)\\.RELEASE", "")
+                .replaceAll("(?i)-RELEASE", "")
+                .replaceAll("(?i)\\.Final", "")
+                .replaceAll("(?i)-Final", "")
+                .replaceAll("(?i)\\.GA", "")
+                .replaceAll("(?i)-GA", "");
+    }
+
+    private static int legacyPart(String part) {
+        try {
+            return Integer.parseInt(part);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static int legacyRank(String version) {
+        String upper = version.toUpperCase();
+        if (upper.contains("SNAPSHOT")) return 0;
+        if (upper.contains("ALPHA")) return 1;
+        if (upper.contains("BETA")) return 2;
+        if (upper.contains("RC")) return 3;
+        if (upper.contains("M")) return 4;
+        if (upper.contains("RELEASE")) return 5;
+        if (upper.contains("GA")) return 6;
+        if (upper.contains("FINAL")) return 7;
+        return 5;
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.tourem.maven.descriptor.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading the deployment keys of an application.yml that embeds a large unrelated block: {@link YamlKeyExtractor}
+ * (event stream, selected paths only) against the former full {@code new Yaml().load} of the whole document.
+ *
+ * Run with: {@code mvn -Pbenchmarks -pl deploy-manifest-core test-compile exec:exec -Djmh.benchmarks=YamlExtractionBenchmark}
+ * @author tourem
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class YamlExtractionBenchmark {
+
+    /** Entries of the embedded block. */
+    @Param({"10", "1000", "20000"})
+    public int entries;
+
+    private String yaml;
+    private YamlKeyExtractor extractor;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("""
+                server:
+                  port: 8080
+                  servlet:
+                    context-path: /api
+                spring:
+                  application:
+                    name: orders
+                  profiles:
+                    active: dev
+                management:
+                  endpoints:
+                    web:
+                      base-path: /manage
+                catalog:
+                  entries:
+                """);
+        for (int i = 0; i < entries; i++) {
+            sb.append("    - id: ").append(i).append('\n')
+                    .append("      name: product-").append(i).append('\n')
+                    .append("      price: ").append(i % 100).append(".99\n")
+                    .append("      tags: [a, b, c]\n")
+                    .append("      labels: {en: Label ").append(i).append(", fr: Libelle ").append(i).append("}\n");
+        }
+        sb.append("""
+                ---
+                spring.config.activate.on-profile: prod
+                server:
+                  port: 9090
+                """);
+        yaml = sb.toString();
+        extractor = new YamlKeyExtractor(SpringConfiguration.KEYS);
+    }
+
+    @Benchmark
+    public Object selectiveExtraction() {
+        List<YamlKeyExtractor.Document> documents = extractor.extract(new StringReader(yaml));
+        return new SpringConfiguration.ConfigFile(null, documents.get(0).tree(), List.of()).get("server.port");
+    }
+
+    @Benchmark
+    public Object fullLoad() {
+        Object port = null;
+        for (Object document : new Yaml().loadAll(new StringReader(yaml))) {
+            if (port == null && document instanceof Map<?, ?> map && map.get("server") instanceof Map<?, ?> server) {
+                port = server.get("port");
+            }
+        }
+        return port;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.tourem.maven.descriptor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Options controlling how the analyzer walks the reactor modules.
+ * This is configured by the Maven plugin then passed into the analyzer.
+ *
+ * Defaults keep the historical sequential behaviour.
+ * @author tourem
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisOptions {
+    /** Analyze modules concurrently (disabled by default). */
+    @Builder.Default
+    private boolean parallel = false;
+
+    /** Worker threads used in parallel mode: 0 or less = available processors. */
+    @Builder.Default
+    private int threads = 0;
+
+    /**
+     * State file of incremental analysis: modules whose inputs did not change since the run that wrote it are
+     * reused instead of analyzed again. Null disables incremental analysis.
+     */
+    private String incrementalStateFile;
+
+    /** Number of worker threads actually used in parallel mode. */
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /** Whether a state file is configured for incremental analysis. */
+    public boolean isIncremental() {
+        return incrementalStateFile != null && !incrementalStateFile.isBlank();
+    }
+}
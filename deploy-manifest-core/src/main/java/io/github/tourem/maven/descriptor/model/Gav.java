@@ -0,0 +1,24 @@
+package io.github.tourem.maven.descriptor.model;
+
+/**
+ * Maven artifact coordinates (groupId:artifactId:version).
+ *
+ * @param groupId Maven groupId
+ * @param artifactId Maven artifactId
+ * @param version version in use (may be null when unknown)
+ * @author tourem
+ */
+public record Gav(String groupId, String artifactId, String version) {
+
+    /**
+     * groupId:artifactId, the key under which repositories publish maven-metadata.xml.
+     */
+    public String ga() {
+        return groupId + ":" + artifactId;
+    }
+
+    @Override
+    public String toString() {
+        return groupId + ":" + artifactId + ":" + version;
+    }
+}
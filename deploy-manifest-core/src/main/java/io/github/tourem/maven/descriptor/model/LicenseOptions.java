@@ -32,12 +32,35 @@ public class LicenseOptions {
     @Builder.Default
     private boolean includeTransitiveLicenses = true;
 
+    /** Persist resolved licenses of released artifacts across builds (disabled by default) */
+    @Builder.Default
+    private boolean cache = false;
+
+    /** Directory of the persistent license cache (null = ~/.m2/deploy-manifest) */
+    private String cacheDirectory;
+
+    /** Resolve dependency levels breadth-first on a worker pool (disabled by default: sequential depth-first walk) */
+    @Builder.Default
+    private boolean parallelResolution = false;
+
+    /** Worker threads for parallel resolution: 0 or less = available processors */
+    @Builder.Default
+    private int resolutionThreads = 0;
+
+    /** Maximum wait for the pre-resolution of a module before collecting its licenses without it, in seconds */
+    @Builder.Default
+    private long preResolveTimeoutSeconds = 300;
+
     public static Set<String> defaultIncompatibleLicenses() {
         Set<String> s = new HashSet<>();
         Collections.addAll(s, "GPL-3.0", "AGPL-3.0", "SSPL");
         return s;
     }
 
+    public int effectiveResolutionThreads() {
+        return resolutionThreads > 0 ? resolutionThreads : Runtime.getRuntime().availableProcessors();
+    }
+
     public Set<String> normalizedIncompatibleSet() {
         if (incompatibleLicenses == null || incompatibleLicenses.isEmpty()) return Set.of();
         Set<String> norm = new HashSet<>();
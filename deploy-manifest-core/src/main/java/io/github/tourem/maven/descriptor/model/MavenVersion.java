@@ -0,0 +1,246 @@
+package io.github.tourem.maven.descriptor.model;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parsed Maven version, ordered like Maven's {@code ComparableVersion} for the usual version schemes.
+ *
+ * A version is tokenized once into a compact {@code long[]}: numbers keep their value, well-known qualifiers
+ * are encoded by rank (alpha &lt; beta &lt; milestone &lt; rc &lt; snapshot &lt; release &lt; sp &lt; other), and a
+ * marker stands for a {@code -} separator followed by a number (Maven sub-list). Trailing zeros and release
+ * qualifiers are dropped, so {@code 1}, {@code 1.0.0} and {@code 1.0.0.RELEASE} are equal.
+ * Comparisons use no regex and allocate nothing; parsed versions are cached by string.
+ * @author tourem
+ */
+public final class MavenVersion implements Comparable<MavenVersion> {
+
+    /** Compares version strings through the parse cache. */
+    public static final Comparator<String> COMPARATOR = MavenVersion::compare;
+
+    private static final int CACHE_LIMIT = 50_000;
+    private static final Map<String, MavenVersion> CACHE = new ConcurrentHashMap<>();
+
+    private static final long QUALIFIER = Long.MIN_VALUE;
+    private static final long ALPHA = QUALIFIER;
+    private static final long BETA = QUALIFIER + 1;
+    private static final long MILESTONE = QUALIFIER + 2;
+    private static final long RC = QUALIFIER + 3;
+    private static final long SNAPSHOT = QUALIFIER + 4;
+    private static final long RELEASE = QUALIFIER + 5;
+    private static final long SP = QUALIFIER + 6;
+    private static final long UNKNOWN = QUALIFIER + 7;
+    /** Sub-list marker: ranks above every qualifier and below every number. */
+    private static final long SUBLIST = QUALIFIER + 8;
+
+    private final String value;
+    private final long[] tokens;
+    /** Lower-cased text of UNKNOWN qualifiers, same index as {@link #tokens}; null when there are none. */
+    private final String[] texts;
+    private final boolean snapshot;
+
+    private MavenVersion(String value, long[] tokens, String[] texts, boolean snapshot) {
+        this.value = value;
+        this.tokens = tokens;
+        this.texts = texts;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Parsed form of the version, from the cache when it was seen before.
+     */
+    public static MavenVersion parse(String version) {
+        String key = version == null ? "" : version;
+        MavenVersion parsed = CACHE.get(key);
+        if (parsed == null) {
+            if (CACHE.size() >= CACHE_LIMIT) {
+                CACHE.clear();
+            }
+            parsed = CACHE.computeIfAbsent(key, MavenVersion::tokenize);
+        }
+        return parsed;
+    }
+
+    /**
+     * Compare two version strings: positive if {@code v1} is newer, negative if older, 0 if equivalent.
+     */
+    public static int compare(String v1, String v2) {
+        if (v1 != null && v1.equals(v2)) return 0;
+        return parse(v1).compareTo(parse(v2));
+    }
+
+    /**
+     * First component when numeric, -1 when the version does not start with a number.
+     */
+    public long major() {
+        if (tokens.length == 0) return 0;
+        return tokens[0] >= 0 ? tokens[0] : -1;
+    }
+
+    /**
+     * Second component when numeric, 0 otherwise.
+     */
+    public long minor() {
+        return tokens.length > 1 && tokens[1] >= 0 ? tokens[1] : 0;
+    }
+
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public int compareTo(MavenVersion other) {
+        long[] a = tokens;
+        long[] b = other.tokens;
+        int n = Math.max(a.length, b.length);
+        for (int i = 0; i < n; i++) {
+            long x = i < a.length ? a[i] : padFor(b[i]);
+            long y = i < b.length ? b[i] : padFor(a[i]);
+            if (x == UNKNOWN && y == UNKNOWN) {
+                int c = texts[i].compareTo(other.texts[i]);
+                if (c != 0) return c;
+            } else if (x != y) {
+                return Long.compare(x, y);
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MavenVersion other)) return false;
+        return Arrays.equals(tokens, other.tokens) && Arrays.equals(texts, other.texts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(tokens) + Arrays.hashCode(texts);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    /** Missing component: 0 against a number, the release qualifier against anything else. */
+    private static long padFor(long other) {
+        return other >= 0 ? 0 : RELEASE;
+    }
+
+    private static MavenVersion tokenize(String version) {
+        long[] tokens = new long[8];
+        String[] texts = null;
+        int count = 0;
+        int runStart = 0;
+        boolean snapshot = false;
+        int len = version.length();
+        int i = 0;
+        while (i < len) {
+            char c = version.charAt(i);
+            if (c == '.') {
+                i++;
+                continue;
+            }
+            if (c == '-' || c == '_') {
+                count = trimRun(tokens, runStart, count);
+                runStart = count;
+                i++;
+                if (i < len && isDigit(version.charAt(i)) && count > 0) {
+                    tokens = ensureCapacity(tokens, count + 1);
+                    tokens[count++] = SUBLIST;
+                }
+                continue;
+            }
+            tokens = ensureCapacity(tokens, count + 1);
+            int start = i;
+            if (isDigit(c)) {
+                long number = 0;
+                while (i < len && isDigit(version.charAt(i))) {
+                    int digit = version.charAt(i) - '0';
+                    number = number > (Long.MAX_VALUE - digit) / 10 ? Long.MAX_VALUE : number * 10 + digit;
+                    i++;
+                }
+                tokens[count++] = number;
+            } else {
+                // A qualifier starts a sub-list whatever precedes it: 1.0alpha and 1.0.alpha are 1.0-alpha
+                count = trimRun(tokens, runStart, count);
+                runStart = count;
+                while (i < len && !isDigit(version.charAt(i)) && !isSeparator(version.charAt(i))) {
+                    i++;
+                }
+                boolean followedByDigit = i < len && isDigit(version.charAt(i));
+                long rank = qualifierRank(version, start, i, followedByDigit);
+                if (rank == UNKNOWN) {
+                    if (texts == null) texts = new String[tokens.length];
+                    texts = Arrays.copyOf(texts, tokens.length);
+                    texts[count] = version.substring(start, i).toLowerCase(Locale.ROOT);
+                }
+                snapshot |= rank == SNAPSHOT;
+                tokens[count++] = rank;
+                if (followedByDigit) {
+                    // A number right after a qualifier (rc1) starts a sub-list, like rc-1
+                    count = trimRun(tokens, runStart, count);
+                    runStart = count;
+                    tokens = ensureCapacity(tokens, count + 1);
+                    tokens[count++] = SUBLIST;
+                }
+            }
+        }
+        count = trimRun(tokens, runStart, count);
+        return new MavenVersion(version, Arrays.copyOf(tokens, count),
+                texts == null ? null : Arrays.copyOf(texts, count), snapshot);
+    }
+
+    /**
+     * Drop trailing zeros and release qualifiers of the current run, then a dangling sub-list marker.
+     */
+    private static int trimRun(long[] tokens, int runStart, int count) {
+        while (count > runStart && (tokens[count - 1] == 0 || tokens[count - 1] == RELEASE)) {
+            count--;
+        }
+        if (count == runStart && count > 0 && tokens[count - 1] == SUBLIST) {
+            count--;
+        }
+        return count;
+    }
+
+    private static long qualifierRank(String s, int start, int end, boolean followedByDigit) {
+        int length = end - start;
+        if (length == 1 && followedByDigit) {
+            switch (Character.toLowerCase(s.charAt(start))) {
+                case 'a': return ALPHA;
+                case 'b': return BETA;
+                case 'm': return MILESTONE;
+                default: break;
+            }
+        }
+        if (is(s, start, length, "alpha")) return ALPHA;
+        if (is(s, start, length, "beta")) return BETA;
+        if (is(s, start, length, "milestone")) return MILESTONE;
+        if (is(s, start, length, "rc") || is(s, start, length, "cr")) return RC;
+        if (is(s, start, length, "snapshot")) return SNAPSHOT;
+        if (is(s, start, length, "ga") || is(s, start, length, "final") || is(s, start, length, "release")) return RELEASE;
+        if (is(s, start, length, "sp")) return SP;
+        return UNKNOWN;
+    }
+
+    private static boolean is(String s, int start, int length, String qualifier) {
+        return length == qualifier.length() && s.regionMatches(true, start, qualifier, 0, length);
+    }
+
+    private static long[] ensureCapacity(long[] tokens, int size) {
+        return size <= tokens.length ? tokens : Arrays.copyOf(tokens, tokens.length * 2);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '.' || c == '-' || c == '_';
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.tourem.maven.descriptor.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only view of configuration layers stacked on top of each other, resolved as if the layers had been deep-merged
+ * (an upper layer overrides the keys it defines, nested sections are merged key by key) without copying any of them.
+ *
+ * Layers are shared, not copied: stacking a profile over the common configuration costs one list entry, and a lookup
+ * walks only the sections on its key path. Layers must not be modified while a view uses them.
+ * @author tourem
+ */
+public final class ConfigOverlay {
+
+    private static final ConfigOverlay EMPTY = new ConfigOverlay(List.of());
+
+    /** Top layer first. */
+    private final List<Map<String, Object>> layers;
+
+    private ConfigOverlay(List<Map<String, Object>> layers) {
+        this.layers = layers;
+    }
+
+    public static ConfigOverlay empty() {
+        return EMPTY;
+    }
+
+    /**
+     * A view with {@code layer} on top of this one. This view is unchanged.
+     */
+    public ConfigOverlay with(Map<String, Object> layer) {
+        if (layer == null || layer.isEmpty()) {
+            return this;
+        }
+        List<Map<String, Object>> stacked = new ArrayList<>(layers.size() + 1);
+        stacked.add(layer);
+        stacked.addAll(layers);
+        return new ConfigOverlay(Collections.unmodifiableList(stacked));
+    }
+
+    /**
+     * Value at a nested path ({@code "server", "port"}) as the deep merge of the layers would hold it.
+     * Null when the path is absent, blocked by a scalar, or names a section rather than a value.
+     */
+    public Object get(String... path) {
+        List<Map<?, ?>> sections = new ArrayList<>(layers);
+        for (int i = 0; i < path.length; i++) {
+            List<Map<?, ?>> next = new ArrayList<>(sections.size());
+            for (Map<?, ?> section : sections) {
+                if (!section.containsKey(path[i])) {
+                    continue;
+                }
+                Object value = section.get(path[i]);
+                if (value instanceof Map<?, ?> nested) {
+                    next.add(nested);
+                } else if (next.isEmpty()) {
+                    // The topmost definition is a value: it hides every lower layer
+                    return i == path.length - 1 ? value : null;
+                } else {
+                    // A lower scalar is hidden by an upper section
+                    break;
+                }
+            }
+            if (next.isEmpty()) {
+                return null;
+            }
+            sections = next;
+        }
+        return null;
+    }
+
+    /**
+     * Value of a top-level key taken as written ({@code "server.port"} in a properties file), from the topmost
+     * layer that defines it.
+     */
+    public Object getKey(String key) {
+        for (Map<String, Object> layer : layers) {
+            if (layer.containsKey(key)) {
+                return layer.get(key);
+            }
+        }
+        return null;
+    }
+}
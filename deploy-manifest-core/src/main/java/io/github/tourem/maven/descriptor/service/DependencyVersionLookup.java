@@ -1,46 +1,84 @@
 package io.github.tourem.maven.descriptor.service;
 
+import io.github.tourem.maven.descriptor.model.Gav;
+import io.github.tourem.maven.descriptor.model.MavenVersion;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Repository;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.ByteArrayInputStream;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * Service to lookup available versions of Maven dependencies from configured repositories.
  * Uses maven-metadata.xml from JFrog/Nexus or other Maven repositories.
+ * A lookup created without an HTTP client opens its own: close the lookup when done.
  *
  * @author tourem
  */
 @Slf4j
-public class DependencyVersionLookup {
+public class DependencyVersionLookup implements AutoCloseable {
 
     private static final int DEFAULT_TIMEOUT_MS = 5000;
+    public static final int DEFAULT_MAX_IN_FLIGHT = 16;
+    public static final long DEFAULT_DEADLINE_MS = 30_000;
+    /** Hedge delay value selecting the historical behaviour: repositories are tried one after the other. */
+    public static final long SEQUENTIAL = -1;
     private static final String MAVEN_CENTRAL = "https://repo1.maven.org/maven2";
 
     private final List<String> repositoryUrls;
     private final int timeoutMs;
+    private final MetadataHttpClient http;
+    private final boolean ownsHttp;
+    private final long hedgeDelayMs;
+
+    /** Threads racing repositories for this lookup; requests beyond it wait for a free thread */
+    private static final int HEDGE_THREADS = 2 * DEFAULT_MAX_IN_FLIGHT;
+
+    private ExecutorService hedgeExecutor;
 
     /**
      * Constructor with Maven Model to extract repository URLs.
      */
     public DependencyVersionLookup(Model model, int timeoutMs) {
+        this(model, timeoutMs, null);
+    }
+
+    /**
+     * Constructor with Maven Model to extract repository URLs, sending requests through the given client
+     * (null = a client owned by this lookup).
+     */
+    public DependencyVersionLookup(Model model, int timeoutMs, MetadataHttpClient http) {
+        this(model, timeoutMs, http, SEQUENTIAL);
+    }
+
+    /**
+     * Constructor with Maven Model to extract repository URLs, querying repositories in a hedged race.
+     *
+     * @param hedgeDelayMs delay before the next repository is queried while earlier ones have not answered:
+     *                     0 queries all repositories at once, {@link #SEQUENTIAL} (negative) disables racing
+     */
+    public DependencyVersionLookup(Model model, int timeoutMs, MetadataHttpClient http, long hedgeDelayMs) {
+        this.hedgeDelayMs = hedgeDelayMs;
         this.timeoutMs = timeoutMs > 0 ? timeoutMs : DEFAULT_TIMEOUT_MS;
+        this.ownsHttp = http == null;
+        this.http = http != null ? http : new MetadataHttpClient();
         this.repositoryUrls = extractRepositoryUrls(model);
     }
 
@@ -48,13 +86,50 @@ public class DependencyVersionLookup {
      * Constructor with explicit repository URLs.
      */
     public DependencyVersionLookup(List<String> repositoryUrls, int timeoutMs) {
+        this(repositoryUrls, timeoutMs, null);
+    }
+
+    /**
+     * Constructor with explicit repository URLs, sending requests through the given client
+     * (null = a client owned by this lookup).
+     */
+    public DependencyVersionLookup(List<String> repositoryUrls, int timeoutMs, MetadataHttpClient http) {
+        this(repositoryUrls, timeoutMs, http, SEQUENTIAL);
+    }
+
+    /**
+     * Constructor with explicit repository URLs, querying repositories in a hedged race.
+     *
+     * @see #DependencyVersionLookup(Model, int, MetadataHttpClient, long)
+     */
+    public DependencyVersionLookup(List<String> repositoryUrls, int timeoutMs, MetadataHttpClient http, long hedgeDelayMs) {
+        this.hedgeDelayMs = hedgeDelayMs;
         this.timeoutMs = timeoutMs > 0 ? timeoutMs : DEFAULT_TIMEOUT_MS;
+        this.ownsHttp = http == null;
+        this.http = http != null ? http : new MetadataHttpClient();
         this.repositoryUrls = repositoryUrls != null ? new ArrayList<>(repositoryUrls) : new ArrayList<>();
         if (this.repositoryUrls.isEmpty()) {
             this.repositoryUrls.add(MAVEN_CENTRAL);
         }
     }
 
+    /**
+     * Stop the threads of hedged lookups, and close the HTTP client if this lookup opened it; a client handed in
+     * belongs to the caller.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (hedgeExecutor != null) {
+                hedgeExecutor.shutdownNow();
+                hedgeExecutor = null;
+            }
+        }
+        if (ownsHttp) {
+            http.close();
+        }
+    }
+
     /**
      * Lookup available versions for a dependency, returning max 3 versions after the current version.
      *
@@ -73,16 +148,11 @@ public class DependencyVersionLookup {
 
         int max = maxVersions > 0 ? maxVersions : 3;
 
-        // Try each repository until we get results
-        for (String repoUrl : repositoryUrls) {
-            try {
-                List<String> versions = fetchVersionsFromRepository(repoUrl, groupId, artifactId);
-                if (versions != null && !versions.isEmpty()) {
-                    return filterVersionsAfterCurrent(versions, currentVersion, max);
-                }
-            } catch (Exception e) {
-                log.debug("Failed to fetch versions from {}: {}", repoUrl, e.getMessage());
-            }
+        List<String> versions = hedgeDelayMs < 0
+                ? fetchSequentially(groupId, artifactId)
+                : fetchHedged(groupId, artifactId);
+        if (!versions.isEmpty()) {
+            return filterVersionsAfterCurrent(versions, currentVersion, max);
         }
 
         log.debug("No versions found for {}:{}:{}", groupId, artifactId, currentVersion);
@@ -90,170 +160,193 @@ public class DependencyVersionLookup {
     }
 
     /**
-     * Fetch all versions from maven-metadata.xml in a repository.
+     * Try each repository with a closed circuit in declaration order until one knows the artifact.
      */
-    private List<String> fetchVersionsFromRepository(String repoUrl, String groupId, String artifactId)
-            throws Exception {
-        String path = groupId.replace('.', '/') + "/" + artifactId + "/maven-metadata.xml";
-        String url = repoUrl.endsWith("/") ? repoUrl + path : repoUrl + "/" + path;
-
-        log.debug("Fetching versions from: {}", url);
-
-        HttpClient client = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofMillis(timeoutMs))
-                .build();
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(Duration.ofMillis(timeoutMs))
-                .header("User-Agent", "deploy-manifest-plugin/2.4.0")
-                .GET()
-                .build();
-
-        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
-
-        if (response.statusCode() >= 200 && response.statusCode() < 300) {
-            String xml = new String(response.body(), StandardCharsets.UTF_8);
-            return parseVersionsFromMetadata(xml);
-        } else {
-            log.debug("HTTP {} from {}", response.statusCode(), url);
-            return Collections.emptyList();
+    private List<String> fetchSequentially(String groupId, String artifactId) {
+        RepositoryStats stats = http.repositoryStats();
+        for (String repoUrl : repositoryUrls) {
+            if (!stats.allowRequest(repoUrl)) {
+                log.debug("Skipping repository {}: circuit open", repoUrl);
+                continue;
+            }
+            List<String> versions = fetchTimed(repoUrl, groupId, artifactId);
+            if (!versions.isEmpty()) {
+                return versions;
+            }
         }
+        return Collections.emptyList();
     }
 
     /**
-     * Parse versions from maven-metadata.xml.
+     * Race repositories with a closed circuit, fastest first: the next one is queried when the previous ones have all answered
+     * without versions, or when the hedge delay elapses. The first non-empty answer wins, the others are cancelled.
      */
-    private List<String> parseVersionsFromMetadata(String xml) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder builder = factory.newDocumentBuilder();
-        Document doc = builder.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
-
-        NodeList versionNodes = doc.getElementsByTagName("version");
-        List<String> versions = new ArrayList<>();
-
-        for (int i = 0; i < versionNodes.getLength(); i++) {
-            Element versionElement = (Element) versionNodes.item(i);
-            String version = versionElement.getTextContent().trim();
-            if (!version.isEmpty()) {
-                versions.add(version);
-            }
+    private List<String> fetchHedged(String groupId, String artifactId) {
+        List<String> repos = http.repositoryStats().rank(repositoryUrls);
+        if (repos.size() <= 1) {
+            return repos.isEmpty() ? Collections.emptyList() : fetchTimed(repos.get(0), groupId, artifactId);
         }
 
-        log.debug("Parsed {} versions from metadata", versions.size());
-        return versions;
+        BlockingQueue<List<String>> answers = new LinkedBlockingQueue<>();
+        List<Future<?>> inFlight = new ArrayList<>();
+        int launched = 0;
+        int answered = 0;
+        try {
+            while (answered < repos.size()) {
+                if (launched < repos.size() && (launched == answered || hedgeDelayMs == 0)) {
+                    String repoUrl = repos.get(launched++);
+                    inFlight.add(hedgeExecutor().submit(() -> answers.add(fetchTimed(repoUrl, groupId, artifactId))));
+                    continue;
+                }
+                List<String> versions = launched < repos.size()
+                        ? answers.poll(hedgeDelayMs, TimeUnit.MILLISECONDS)
+                        : answers.take();
+                if (versions == null) {
+                    // Hedge delay elapsed: give the next repository a chance while the slow ones keep running
+                    String repoUrl = repos.get(launched++);
+                    inFlight.add(hedgeExecutor().submit(() -> answers.add(fetchTimed(repoUrl, groupId, artifactId))));
+                    continue;
+                }
+                answered++;
+                if (!versions.isEmpty()) {
+                    return versions;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (Future<?> request : inFlight) {
+                request.cancel(true);
+            }
+        }
+        return Collections.emptyList();
     }
 
-
-
     /**
-     * Filter versions to return only those after currentVersion, sorted descending.
-     * Uses semantic version comparison when possible.
+     * Fetch versions from one repository, recording its latency and outcome. Never throws; failures give an empty list.
      */
-    private List<String> filterVersionsAfterCurrent(List<String> allVersions, String currentVersion, int maxVersions) {
-        // Filter out snapshots unless current is also snapshot
-        boolean includeSnapshots = currentVersion.toUpperCase().contains("SNAPSHOT");
-
-        List<String> filtered = allVersions.stream()
-                .filter(v -> includeSnapshots || !v.toUpperCase().contains("SNAPSHOT"))
-                .filter(v -> isVersionAfter(v, currentVersion))
-                .collect(Collectors.toList());
-
-        // Sort descending (newest first) using semantic version comparison
-        filtered.sort((v1, v2) -> compareVersions(v2, v1));
-
-        // Return max N versions
-        return filtered.stream()
-                .limit(maxVersions)
-                .collect(Collectors.toList());
+    private List<String> fetchTimed(String repoUrl, String groupId, String artifactId) {
+        RepositoryStats stats = http.repositoryStats();
+        long start = System.nanoTime();
+        try {
+            List<String> versions = fetchVersionsFromRepository(repoUrl, groupId, artifactId);
+            stats.recordSuccess(repoUrl, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return versions != null ? versions : Collections.emptyList();
+        } catch (InterruptedException e) {
+            // Cancelled by a faster repository: not a failure of this one
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            stats.recordFailure(repoUrl, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            log.debug("Failed to fetch versions from {}: {}", repoUrl, e.getMessage());
+        }
+        return Collections.emptyList();
     }
 
     /**
-     * Check if version1 is after version2.
+     * Bounded pool of this lookup, created on the first hedged race; idle threads exit.
      */
-    private boolean isVersionAfter(String version1, String version2) {
-        return compareVersions(version1, version2) > 0;
+    private synchronized ExecutorService hedgeExecutor() {
+        if (hedgeExecutor == null) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(HEDGE_THREADS, HEDGE_THREADS, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), new DaemonThreadFactory("deploy-manifest-hedge"));
+            executor.allowCoreThreadTimeOut(true);
+            hedgeExecutor = executor;
+        }
+        return hedgeExecutor;
     }
 
     /**
-     * Compare two versions semantically.
-     * Returns: positive if v1 > v2, negative if v1 < v2, 0 if equal.
+     * Lookup available versions for many artifacts at once with the default in-flight limit and deadline.
      *
-     * Handles formats like: 1.2.3, 1.2.3-SNAPSHOT, 1.2.3.RELEASE, etc.
+     * @see #lookupAll(Collection, int, int, long)
      */
-    private int compareVersions(String v1, String v2) {
-        if (v1.equals(v2)) return 0;
-
-        // Normalize versions (remove qualifiers for comparison)
-        String[] parts1 = normalizeVersion(v1).split("\\.");
-        String[] parts2 = normalizeVersion(v2).split("\\.");
-
-        int maxLen = Math.max(parts1.length, parts2.length);
-
-        for (int i = 0; i < maxLen; i++) {
-            int p1 = i < parts1.length ? parseVersionPart(parts1[i]) : 0;
-            int p2 = i < parts2.length ? parseVersionPart(parts2[i]) : 0;
-
-            if (p1 != p2) {
-                return Integer.compare(p1, p2);
-            }
-        }
-
-        // If numeric parts are equal, compare qualifiers
-        return compareQualifiers(v1, v2);
+    public CompletableFuture<Map<Gav, List<String>>> lookupAll(Collection<Gav> artifacts, int maxVersions) {
+        return lookupAll(artifacts, maxVersions, DEFAULT_MAX_IN_FLIGHT, DEFAULT_DEADLINE_MS);
     }
 
     /**
-     * Normalize version string for comparison.
-     * Examples: 1.2.3-SNAPSHOT -> 1.2.3, 1.2.3.RELEASE -> 1.2.3
+     * Lookup available versions for many artifacts concurrently.
+     * Duplicated coordinates are looked up once. Lookups still running when the deadline expires
+     * are cancelled and reported with an empty list, like lookups that failed.
+     *
+     * @param artifacts coordinates to look up (version = current version)
+     * @param maxVersions maximum number of versions per artifact (default 3)
+     * @param maxInFlight maximum concurrent lookups (0 or less = default)
+     * @param deadlineMs overall deadline for the whole batch (0 or less = default)
+     * @return future completed with one entry per distinct artifact, in input order
      */
-    private String normalizeVersion(String version) {
-        // Remove common qualifiers
-        return version
-                .replaceAll("(?i)-SNAPSHOT", "")
-                .replaceAll("(?i)\\.RELEASE", "")
-                .replaceAll("(?i)-RELEASE", "")
-                .replaceAll("(?i)\\.Final", "")
-                .replaceAll("(?i)-Final", "")
-                .replaceAll("(?i)\\.GA", "")
-                .replaceAll("(?i)-GA", "");
-    }
+    public CompletableFuture<Map<Gav, List<String>>> lookupAll(Collection<Gav> artifacts, int maxVersions,
+                                                               int maxInFlight, long deadlineMs) {
+        Set<Gav> distinct = new LinkedHashSet<>(artifacts != null ? artifacts : List.of());
+        if (distinct.isEmpty()) {
+            return CompletableFuture.completedFuture(new LinkedHashMap<>());
+        }
+        int threads = Math.min(maxInFlight > 0 ? maxInFlight : DEFAULT_MAX_IN_FLIGHT, distinct.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("deploy-manifest-versions"));
 
-    /**
-     * Parse a version part as integer, handling non-numeric parts.
-     */
-    private int parseVersionPart(String part) {
-        try {
-            return Integer.parseInt(part);
-        } catch (NumberFormatException e) {
-            // For non-numeric parts, use hashCode for consistent ordering
-            return 0;
+        Map<Gav, CompletableFuture<List<String>>> lookups = new LinkedHashMap<>();
+        for (Gav gav : distinct) {
+            lookups.put(gav, CompletableFuture.supplyAsync(
+                    () -> lookupAvailableVersions(gav.groupId(), gav.artifactId(), gav.version(), maxVersions), executor));
         }
+
+        return CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture<?>[0]))
+                .completeOnTimeout(null, deadlineMs > 0 ? deadlineMs : DEFAULT_DEADLINE_MS, TimeUnit.MILLISECONDS)
+                .handle((ignored, error) -> {
+                    executor.shutdownNow();
+                    Map<Gav, List<String>> results = new LinkedHashMap<>();
+                    int missed = 0;
+                    for (Map.Entry<Gav, CompletableFuture<List<String>>> entry : lookups.entrySet()) {
+                        CompletableFuture<List<String>> lookup = entry.getValue();
+                        List<String> versions = lookup.isDone() && !lookup.isCompletedExceptionally() ? lookup.join() : null;
+                        if (versions == null) missed++;
+                        results.put(entry.getKey(), versions != null ? versions : Collections.emptyList());
+                    }
+                    if (missed > 0) {
+                        log.debug("Version lookup deadline reached: {} of {} lookups did not complete", missed, results.size());
+                    }
+                    return results;
+                });
     }
 
     /**
-     * Compare version qualifiers (SNAPSHOT < RELEASE < GA < Final).
+     * Fetch all versions from maven-metadata.xml in a repository.
      */
-    private int compareQualifiers(String v1, String v2) {
-        int q1 = getQualifierRank(v1);
-        int q2 = getQualifierRank(v2);
-        return Integer.compare(q1, q2);
+    private List<String> fetchVersionsFromRepository(String repoUrl, String groupId, String artifactId)
+            throws Exception {
+        String path = groupId.replace('.', '/') + "/" + artifactId + "/maven-metadata.xml";
+        String url = repoUrl.endsWith("/") ? repoUrl + path : repoUrl + "/" + path;
+
+        log.debug("Fetching versions from: {}", url);
+
+        byte[] body = http.fetchMetadata(url, timeoutMs);
+        if (body == null) {
+            log.debug("No metadata at {}", url);
+            return Collections.emptyList();
+        }
+        List<String> versions = MavenMetadataParser.parse(body).versions();
+        log.debug("Parsed {} versions from metadata", versions.size());
+        return versions;
     }
 
     /**
-     * Get qualifier rank for ordering.
+     * Filter versions to return only those after currentVersion, sorted descending.
+     * Uses semantic version comparison when possible.
      */
-    private int getQualifierRank(String version) {
-        String upper = version.toUpperCase();
-        if (upper.contains("SNAPSHOT")) return 0;
-        if (upper.contains("ALPHA")) return 1;
-        if (upper.contains("BETA")) return 2;
-        if (upper.contains("RC")) return 3;
-        if (upper.contains("M")) return 4; // Milestone
-        if (upper.contains("RELEASE")) return 5;
-        if (upper.contains("GA")) return 6;
-        if (upper.contains("FINAL")) return 7;
-        return 5; // Default to RELEASE level
+    private List<String> filterVersionsAfterCurrent(List<String> allVersions, String currentVersion, int maxVersions) {
+        MavenVersion current = MavenVersion.parse(currentVersion);
+        // Filter out snapshots unless current is also snapshot
+        boolean includeSnapshots = current.isSnapshot();
+
+        // Sort descending (newest first) using Maven version ordering; each version is parsed once
+        return allVersions.stream()
+                .map(MavenVersion::parse)
+                .filter(v -> includeSnapshots || !v.isSnapshot())
+                .filter(v -> v.compareTo(current) > 0)
+                .sorted(Comparator.reverseOrder())
+                .limit(maxVersions)
+                .map(MavenVersion::toString)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -4,11 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Plugin;
-import org.yaml.snakeyaml.Yaml;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 
@@ -24,6 +20,21 @@ public class DeploymentMetadataDetector {
     private static final String DEFAULT_ACTUATOR_BASE_PATH = "/actuator";
     private static final String HEALTH_ENDPOINT = "/health";
     private static final String INFO_ENDPOINT = "/info";
+    private static final List<String> CONFIG_FILES =
+            List.of("application.properties", "application.yml", "application.yaml");
+
+    private final ResourceIndexCache resourceIndexes;
+
+    public DeploymentMetadataDetector() {
+        this(null);
+    }
+
+    /**
+     * @param resourceIndexes resource directory indexes of the analysis run
+     */
+    public DeploymentMetadataDetector(ResourceIndexCache resourceIndexes) {
+        this.resourceIndexes = resourceIndexes != null ? resourceIndexes : ResourceIndexCache.uncached();
+    }
 
     /**
      * Detect Java version from Maven compiler configuration.
@@ -123,27 +134,12 @@ public class DeploymentMetadataDetector {
      * Detect server port from application configuration files.
      */
     public Integer detectServerPort(Path modulePath) {
-        Path resourcesDir = modulePath.resolve("src/main/resources");
-        if (!Files.exists(resourcesDir)) {
-            return null;
-        }
-
-        // Try application.properties
-        Integer port = detectPortFromProperties(resourcesDir.resolve("application.properties"));
-        if (port != null) {
-            return port;
-        }
-
-        // Try application.yml
-        port = detectPortFromYaml(resourcesDir.resolve("application.yml"));
-        if (port != null) {
-            return port;
-        }
-
-        // Try application.yaml
-        port = detectPortFromYaml(resourcesDir.resolve("application.yaml"));
-        if (port != null) {
-            return port;
+        SpringConfiguration configuration = resourceIndexes.springConfiguration(modulePath);
+        for (String fileName : CONFIG_FILES) {
+            Integer port = detectPort(configuration.file(fileName));
+            if (port != null) {
+                return port;
+            }
         }
 
         return null;
@@ -199,28 +195,12 @@ public class DeploymentMetadataDetector {
             return null;
         }
 
-        Path resourcesDir = modulePath.resolve("src/main/resources");
-        if (!Files.exists(resourcesDir)) {
-            log.debug("Using default Actuator base path: {}", DEFAULT_ACTUATOR_BASE_PATH);
-            return DEFAULT_ACTUATOR_BASE_PATH;
-        }
-
-        // Try application.properties
-        String basePath = detectActuatorBasePathFromProperties(resourcesDir.resolve("application.properties"));
-        if (basePath != null) {
-            return basePath;
-        }
-
-        // Try application.yml
-        basePath = detectActuatorBasePathFromYaml(resourcesDir.resolve("application.yml"));
-        if (basePath != null) {
-            return basePath;
-        }
-
-        // Try application.yaml
-        basePath = detectActuatorBasePathFromYaml(resourcesDir.resolve("application.yaml"));
-        if (basePath != null) {
-            return basePath;
+        SpringConfiguration configuration = resourceIndexes.springConfiguration(modulePath);
+        for (String fileName : CONFIG_FILES) {
+            String basePath = detectActuatorBasePath(configuration.file(fileName));
+            if (basePath != null) {
+                return basePath;
+            }
         }
 
         // Return default if not configured
@@ -310,114 +290,39 @@ public class DeploymentMetadataDetector {
         return null;
     }
 
-    private Integer detectPortFromProperties(Path propertiesFile) {
-        if (!Files.exists(propertiesFile)) {
+    private Integer detectPort(SpringConfiguration.ConfigFile configFile) {
+        if (configFile == null) {
             return null;
         }
 
-        try (var inputStream = new FileInputStream(propertiesFile.toFile())) {
-            Properties props = new Properties();
-            props.load(inputStream);
-
-            String port = props.getProperty("server.port");
-            if (port != null) {
-                log.debug("Found server port in properties: {}", port);
-                return Integer.parseInt(port.trim());
-            }
-        } catch (IOException | NumberFormatException e) {
-            log.warn("Error reading port from properties file {}: {}", propertiesFile, e.getMessage());
-        }
-
-        return null;
-    }
-
-    @SuppressWarnings("unchecked")
-    private Integer detectPortFromYaml(Path yamlFile) {
-        if (!Files.exists(yamlFile)) {
-            return null;
-        }
-
-        try (var inputStream = new FileInputStream(yamlFile.toFile())) {
-            Yaml yaml = new Yaml();
-            Map<String, Object> data = yaml.load(inputStream);
-
-            if (data != null && data.get("server") instanceof Map<?, ?> serverMap) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> server = (Map<String, Object>) serverMap;
-                if (server.containsKey("port")) {
-                    Object portObj = server.get("port");
-                    if (portObj instanceof Integer port) {
-                        log.debug("Found server port in YAML: {}", port);
-                        return port;
-                    } else if (portObj instanceof String portStr) {
-                        log.debug("Found server port in YAML: {}", portStr);
-                        return Integer.parseInt(portStr.trim());
-                    }
-                }
-            }
-        } catch (IOException | NumberFormatException e) {
-            log.warn("Error reading port from YAML file {}: {}", yamlFile, e.getMessage());
-        }
-
-        return null;
-    }
-
-    private String detectActuatorBasePathFromProperties(Path propertiesFile) {
-        if (!Files.exists(propertiesFile)) {
-            return null;
-        }
-
-        try (var inputStream = new FileInputStream(propertiesFile.toFile())) {
-            Properties props = new Properties();
-            props.load(inputStream);
-
-            String basePath = props.getProperty("management.endpoints.web.base-path");
-            if (basePath != null) {
-                log.debug("Found Actuator base path in properties: {}", basePath);
-                return basePath.trim();
+        Object portObj = configFile.get("server.port");
+        if (portObj instanceof Integer port) {
+            log.debug("Found server port in {}: {}", configFile.path().getFileName(), port);
+            return port;
+        } else if (portObj instanceof String portStr) {
+            try {
+                log.debug("Found server port in {}: {}", configFile.path().getFileName(), portStr);
+                return Integer.parseInt(portStr.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Error reading port from {}: {}", configFile.path(), e.getMessage());
             }
-        } catch (IOException e) {
-            log.warn("Error reading Actuator base path from properties file {}: {}", propertiesFile, e.getMessage());
         }
 
         return null;
     }
 
-    @SuppressWarnings("unchecked")
-    private String detectActuatorBasePathFromYaml(Path yamlFile) {
-        if (!Files.exists(yamlFile)) {
+    private String detectActuatorBasePath(SpringConfiguration.ConfigFile configFile) {
+        if (configFile == null) {
             return null;
         }
 
-        try (var inputStream = new FileInputStream(yamlFile.toFile())) {
-            Yaml yaml = new Yaml();
-            Map<String, Object> data = yaml.load(inputStream);
-
-            if (data != null && data.get("management") instanceof Map<?, ?> managementMap) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> management = (Map<String, Object>) managementMap;
-                if (management.get("endpoints") instanceof Map<?, ?> endpointsMap) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> endpoints = (Map<String, Object>) endpointsMap;
-                    if (endpoints.get("web") instanceof Map<?, ?> webMap) {
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> web = (Map<String, Object>) webMap;
-                        if (web.containsKey("base-path")) {
-                            Object basePathObj = web.get("base-path");
-                            if (basePathObj != null) {
-                                String basePath = basePathObj.toString().trim();
-                                log.debug("Found Actuator base path in YAML: {}", basePath);
-                                return basePath;
-                            }
-                        }
-                    }
-                }
-            }
-        } catch (IOException e) {
-            log.warn("Error reading Actuator base path from YAML file {}: {}", yamlFile, e.getMessage());
+        Object basePathObj = configFile.get("management.endpoints.web.base-path");
+        if (basePathObj != null) {
+            String basePath = basePathObj.toString().trim();
+            log.debug("Found Actuator base path in {}: {}", configFile.path().getFileName(), basePath);
+            return basePath;
         }
 
         return null;
     }
 }
-
@@ -0,0 +1,27 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+
+import java.io.IOException;
+
+/**
+ * Receives a project descriptor piece by piece while the project is analyzed, so that modules can be written out
+ * and released as soon as they are ready instead of being held until the whole reactor is analyzed.
+ *
+ * See {@link MavenProjectAnalyzer#analyzeProject(java.nio.file.Path, DescriptorSink)}.
+ * @author tourem
+ */
+public interface DescriptorSink {
+
+    /**
+     * Called once before any module, with the project coordinates, generation time and Maven repository URL.
+     * The module list of {@code header} is empty; counters and build info are not known yet.
+     */
+    void begin(ProjectDescriptor header) throws IOException;
+
+    /**
+     * Called for each deployable module, in reactor order, once it is fully analyzed.
+     */
+    void module(DeployableModule module) throws IOException;
+}
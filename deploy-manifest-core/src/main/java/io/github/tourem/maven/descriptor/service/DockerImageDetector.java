@@ -41,6 +41,19 @@ public class DockerImageDetector {
     private static final String JKUBE_K8S_A = "kubernetes-maven-plugin";
     private static final String JKUBE_OS_A = "openshift-maven-plugin";
 
+    private final ResourceIndexCache resourceIndexes;
+
+    public DockerImageDetector() {
+        this(null);
+    }
+
+    /**
+     * @param resourceIndexes resource directory indexes of the analysis run
+     */
+    public DockerImageDetector(ResourceIndexCache resourceIndexes) {
+        this.resourceIndexes = resourceIndexes != null ? resourceIndexes : ResourceIndexCache.uncached();
+    }
+
     public ContainerInfo detect(Model model, Path modulePath) {
         List<Plugin> plugins = getPlugins(model);
 
@@ -320,8 +333,8 @@ public class DockerImageDetector {
             if (name == null) {
                 // Try application.properties
                 try {
-                    Path propsPath = modulePath.resolve("src/main/resources/application.properties");
-                    if (Files.exists(propsPath)) {
+                    Path propsPath = resourceIndexes.index(modulePath).file("application.properties");
+                    if (propsPath != null) {
                         List<String> lines = Files.readAllLines(propsPath);
                         for (String line : lines) {
                             String trimmed = line.trim();
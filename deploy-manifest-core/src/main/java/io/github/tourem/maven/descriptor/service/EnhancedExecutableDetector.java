@@ -9,7 +9,6 @@ import org.apache.maven.model.Plugin;
 import org.apache.maven.model.PluginExecution;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,6 +32,19 @@ public class EnhancedExecutableDetector {
     private static final String SPRING_BOOT_GROUP = "org.springframework.boot";
     private static final String SPRING_BOOT_PLUGIN = "spring-boot-maven-plugin";
 
+    private final ResourceIndexCache resourceIndexes;
+
+    public EnhancedExecutableDetector() {
+        this(null);
+    }
+
+    /**
+     * @param resourceIndexes resource directory indexes of the analysis run
+     */
+    public EnhancedExecutableDetector(ResourceIndexCache resourceIndexes) {
+        this.resourceIndexes = resourceIndexes != null ? resourceIndexes : ResourceIndexCache.uncached();
+    }
+
     /**
      * Detect if a module generates an executable artifact.
      *
@@ -454,37 +466,24 @@ public class EnhancedExecutableDetector {
     private List<String> detectSpringBootProfiles(Path modulePath) {
         List<String> profiles = new ArrayList<>();
 
-        try {
-            Path resourcesPath = modulePath.resolve("src/main/resources");
-            if (!Files.exists(resourcesPath)) {
-                return profiles;
+        // Look for application-{profile}.properties or application-{profile}.yml/yaml
+        for (String fileName : resourceIndexes.index(modulePath).fileNames()) {
+            // Match application-{profile}.properties
+            if (fileName.startsWith("application-") && fileName.endsWith(".properties")) {
+                String profile = fileName.substring("application-".length(), fileName.length() - ".properties".length());
+                if (!profile.isEmpty() && !profiles.contains(profile)) {
+                    profiles.add(profile);
+                }
+            }
+            // Match application-{profile}.yml or application-{profile}.yaml
+            else if (fileName.startsWith("application-") &&
+                    (fileName.endsWith(".yml") || fileName.endsWith(".yaml"))) {
+                String extension = fileName.endsWith(".yml") ? ".yml" : ".yaml";
+                String profile = fileName.substring("application-".length(), fileName.length() - extension.length());
+                if (!profile.isEmpty() && !profiles.contains(profile)) {
+                    profiles.add(profile);
+                }
             }
-
-            // Look for application-{profile}.properties or application-{profile}.yml/yaml
-            Files.list(resourcesPath)
-                    .filter(Files::isRegularFile)
-                    .forEach(file -> {
-                        String fileName = file.getFileName().toString();
-
-                        // Match application-{profile}.properties
-                        if (fileName.startsWith("application-") && fileName.endsWith(".properties")) {
-                            String profile = fileName.substring("application-".length(), fileName.length() - ".properties".length());
-                            if (!profile.isEmpty() && !profiles.contains(profile)) {
-                                profiles.add(profile);
-                            }
-                        }
-                        // Match application-{profile}.yml or application-{profile}.yaml
-                        else if (fileName.startsWith("application-") &&
-                                (fileName.endsWith(".yml") || fileName.endsWith(".yaml"))) {
-                            String extension = fileName.endsWith(".yml") ? ".yml" : ".yaml";
-                            String profile = fileName.substring("application-".length(), fileName.length() - extension.length());
-                            if (!profile.isEmpty() && !profiles.contains(profile)) {
-                                profiles.add(profile);
-                            }
-                        }
-                    });
-        } catch (Exception e) {
-            log.debug("Error detecting Spring Boot profiles", e);
         }
 
         return profiles;
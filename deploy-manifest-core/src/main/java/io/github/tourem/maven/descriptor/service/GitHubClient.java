@@ -0,0 +1,504 @@
+package io.github.tourem.maven.descriptor.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GitHub API client for repository health data, aware of rate limits.
+ *
+ * With a token, repositories are fetched in batches through a single GraphQL query per batch (stars, forks,
+ * archived flag, license, open issues and pull requests, last commit date, mentionable users as contributor count).
+ * Without a token GraphQL is not available and each repository costs two REST calls (repository and contributors).
+ * The GraphQL endpoint is derived from the REST base: {@code https://api.github.com/graphql} on github.com,
+ * {@code https://host/api/graphql} for a GitHub Enterprise base {@code https://host/api/v3}.
+ *
+ * GraphQL has no contributor count, so the two modes measure it differently: mentionable users (collaborators and
+ * people who committed, commented or were assigned) with a token, commit authors including anonymous ones without.
+ * Both serve as a team-size signal; {@link #queryMode()} tells which one a client reports.
+ *
+ * Every response updates the known {@code X-RateLimit-Remaining}/{@code X-RateLimit-Reset} state. Before a request,
+ * an exhausted quota is waited out; 403/429 answers are retried after {@code Retry-After}, the reset time or an
+ * exponential backoff. The total time spent waiting is capped: once the budget is used up, remaining repositories
+ * are skipped instead of failing the build.
+ * @author tourem
+ */
+@Slf4j
+public class GitHubClient {
+
+    public static final String DEFAULT_API_URL = "https://api.github.com";
+    public static final int DEFAULT_BATCH_SIZE = 25;
+    public static final long DEFAULT_MAX_WAIT_MS = 60_000;
+
+    private static final int MAX_RETRIES = 3;
+    private static final long INITIAL_BACKOFF_MS = 1000;
+    private static final Pattern OWNER_OR_NAME = Pattern.compile("[A-Za-z0-9_.-]+");
+    private static final Pattern LAST_PAGE = Pattern.compile("[?&]page=(\\d+)[^>]*>;\\s*rel=\"last\"");
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Pauses the calling thread; replaced in tests.
+     */
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    /**
+     * Health-relevant data of one repository; fields GitHub did not return are null. {@code contributorCount} is
+     * the number of mentionable users in GraphQL mode and of commit authors in REST mode.
+     */
+    public record RepositoryInfo(String ownerRepo, Integer starCount, Integer forkCount, Integer openIssueCount,
+                                 Boolean archived, String license, Instant lastCommitDate, Integer contributorCount) {
+    }
+
+    private final String apiUrl;
+    private final String graphqlUrl;
+    private final String token;
+    private final MetadataHttpClient http;
+    private final int timeoutMs;
+    private final int batchSize;
+    private final long maxWaitMs;
+    private final LongSupplier clock;
+    private final Sleeper sleeper;
+
+    private final Object rateLimitLock = new Object();
+    private int remaining = -1;
+    private long resetAtMillis;
+    private long waitedMs;
+    private boolean exhausted;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger retries = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    /**
+     * @param apiUrl    API base URL (null = api.github.com)
+     * @param token     personal access token, enables GraphQL batching (optional)
+     * @param http      HTTP client of the run (required)
+     * @param timeoutMs request timeout
+     * @param batchSize repositories per GraphQL query (0 or less = default)
+     * @param maxWaitMs total time the client may spend waiting for rate limits (negative = default)
+     */
+    public GitHubClient(String apiUrl, String token, MetadataHttpClient http, int timeoutMs, int batchSize, long maxWaitMs) {
+        this(apiUrl, token, http, timeoutMs, batchSize, maxWaitMs, System::currentTimeMillis, Thread::sleep);
+    }
+
+    GitHubClient(String apiUrl, String token, MetadataHttpClient http, int timeoutMs, int batchSize, long maxWaitMs,
+                 LongSupplier clock, Sleeper sleeper) {
+        String base = apiUrl == null || apiUrl.isBlank() ? DEFAULT_API_URL : apiUrl;
+        this.apiUrl = base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+        this.graphqlUrl = graphqlUrl(this.apiUrl);
+        this.token = token == null || token.isBlank() ? null : token;
+        this.http = Objects.requireNonNull(http, "http");
+        this.timeoutMs = timeoutMs;
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        this.maxWaitMs = maxWaitMs >= 0 ? maxWaitMs : DEFAULT_MAX_WAIT_MS;
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    /**
+     * Owner/name of a GitHub repository URL (https, git@ or scm forms), or null when it is not a GitHub URL.
+     */
+    public static String ownerRepo(String url) {
+        if (url == null) return null;
+        url = url.replaceAll("^git@github\\.com:", "https://github.com/")
+                 .replaceAll("\\.git$", "")
+                 .replaceAll("github\\.com:", "github.com/");  // Fix malformed URLs with : instead of /
+
+        if (url.contains("github.com/")) {
+            String[] parts = url.split("github\\.com/");
+            if (parts.length > 1) {
+                String ownerRepo = parts[1];
+                // Remove trailing slashes and paths
+                ownerRepo = ownerRepo.split("/tree/")[0];
+                ownerRepo = ownerRepo.split("/blob/")[0];
+                ownerRepo = ownerRepo.replaceAll("/$", "");
+
+                String[] segments = ownerRepo.split("/");
+                if (segments.length >= 2 && OWNER_OR_NAME.matcher(segments[0]).matches()
+                        && OWNER_OR_NAME.matcher(segments[1]).matches()) {
+                    return segments[0] + "/" + segments[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fetch the given repositories (owner/name), each once. Repositories that are unknown, could not be fetched
+     * or were skipped because of rate limits are absent from the result, as are names that are not a valid
+     * owner/name pair.
+     */
+    public Map<String, RepositoryInfo> fetchAll(Collection<String> ownerRepos) {
+        List<String> unique = new ArrayList<>();
+        for (String ownerRepo : new LinkedHashSet<>(ownerRepos)) {
+            if (isOwnerRepo(ownerRepo)) {
+                unique.add(ownerRepo);
+            } else {
+                log.debug("Ignoring invalid GitHub repository name: {}", ownerRepo);
+            }
+        }
+        Map<String, RepositoryInfo> result = new LinkedHashMap<>();
+        if (token != null) {
+            for (int i = 0; i < unique.size(); i += batchSize) {
+                List<String> batch = unique.subList(i, Math.min(unique.size(), i + batchSize));
+                result.putAll(fetchBatch(batch));
+            }
+        } else {
+            for (String ownerRepo : unique) {
+                RepositoryInfo info = fetchRest(ownerRepo);
+                if (info != null) result.put(ownerRepo, info);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isOwnerRepo(String ownerRepo) {
+        if (ownerRepo == null) return false;
+        String[] parts = ownerRepo.split("/", -1);
+        return parts.length == 2 && OWNER_OR_NAME.matcher(parts[0]).matches()
+                && OWNER_OR_NAME.matcher(parts[1]).matches();
+    }
+
+    /**
+     * GraphQL endpoint of a REST API base URL: GitHub Enterprise serves REST at {@code /api/v3} and GraphQL at
+     * {@code /api/graphql}, github.com serves both at the root of api.github.com.
+     */
+    static String graphqlUrl(String apiUrl) {
+        String base = apiUrl.endsWith("/v3") ? apiUrl.substring(0, apiUrl.length() - 3) : apiUrl;
+        return base + "/graphql";
+    }
+
+    /**
+     * API base URL requests are sent to.
+     */
+    public String apiUrl() {
+        return apiUrl;
+    }
+
+    /**
+     * "GraphQL" when a token is configured, "REST" otherwise.
+     */
+    public String queryMode() {
+        return token != null ? "GraphQL" : "REST";
+    }
+
+    /**
+     * Where and how repositories are fetched ({@code "GraphQL https://api.github.com"}); results of different
+     * sources are not interchangeable.
+     */
+    public String source() {
+        return queryMode() + " " + apiUrl;
+    }
+
+    public RepositoryInfo fetch(String ownerRepo) {
+        return fetchAll(List.of(ownerRepo)).get(ownerRepo);
+    }
+
+    public int requests() {
+        return requests.get();
+    }
+
+    public int retries() {
+        return retries.get();
+    }
+
+    public int skipped() {
+        return skipped.get();
+    }
+
+    /**
+     * One-line counters summary for build logs.
+     */
+    public String summary() {
+        synchronized (rateLimitLock) {
+            return String.format("github: %d requests (%s), %d retried, %d repositories skipped, %d ms waited for rate limits%s",
+                    requests(), queryMode(), retries(), skipped(), waitedMs,
+                    remaining >= 0 ? ", " + remaining + " requests left" : "");
+        }
+    }
+
+    private Map<String, RepositoryInfo> fetchBatch(List<String> batch) {
+        Map<String, RepositoryInfo> result = new LinkedHashMap<>();
+        // Owners and names travel as variables, never spliced into the query text
+        StringBuilder declarations = new StringBuilder();
+        StringBuilder selections = new StringBuilder();
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            String[] parts = batch.get(i).split("/");
+            declarations.append(i > 0 ? ", " : "").append("$o").append(i).append(": String!, $n").append(i)
+                    .append(": String!");
+            selections.append(" r").append(i).append(": repository(owner: $o").append(i).append(", name: $n")
+                    .append(i).append(") { ...health }");
+            variables.put("o" + i, parts[0]);
+            variables.put("n" + i, parts[1]);
+        }
+        StringBuilder query = new StringBuilder("query(").append(declarations).append(") {").append(selections);
+        query.append(" rateLimit { remaining resetAt } }")
+                .append(" fragment health on Repository {")
+                .append(" stargazerCount forkCount isArchived pushedAt licenseInfo { spdxId }")
+                .append(" issues(states: OPEN) { totalCount } pullRequests(states: OPEN) { totalCount }")
+                .append(" mentionableUsers { totalCount }")
+                .append(" defaultBranchRef { target { ... on Commit { committedDate } } } }");
+        try {
+            String body = MAPPER.writeValueAsString(Map.of("query", query.toString(), "variables", variables));
+            HttpRequest request = http.request(graphqlUrl, timeoutMs)
+                    .header("Authorization", "bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = send(request);
+            if (response == null) {
+                skipped.addAndGet(batch.size());
+                return result;
+            }
+            if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                log.debug("GitHub GraphQL returned {}: {}", response.statusCode(), response.body());
+                return result;
+            }
+            JsonNode data = MAPPER.readTree(response.body()).path("data");
+            for (int i = 0; i < batch.size(); i++) {
+                JsonNode repo = data.path("r" + i);
+                if (repo.isObject()) {
+                    result.put(batch.get(i), fromGraphQl(batch.get(i), repo));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("Failed to fetch GitHub info for {}: {}", batch, e.getMessage());
+        }
+        return result;
+    }
+
+    private RepositoryInfo fromGraphQl(String ownerRepo, JsonNode repo) {
+        Integer openIssues = null;
+        if (repo.path("issues").has("totalCount")) {
+            openIssues = repo.path("issues").path("totalCount").asInt()
+                    + repo.path("pullRequests").path("totalCount").asInt();
+        }
+        String committed = repo.path("defaultBranchRef").path("target").path("committedDate").asText(null);
+        return new RepositoryInfo(ownerRepo,
+                intOrNull(repo.path("stargazerCount")),
+                intOrNull(repo.path("forkCount")),
+                openIssues,
+                repo.path("isArchived").isBoolean() ? repo.path("isArchived").asBoolean() : null,
+                license(repo.path("licenseInfo").path("spdxId")),
+                instant(committed != null ? committed : repo.path("pushedAt").asText(null)),
+                intOrNull(repo.path("mentionableUsers").path("totalCount")));
+    }
+
+    private RepositoryInfo fetchRest(String ownerRepo) {
+        try {
+            HttpResponse<String> response = send(restRequest("/repos/" + ownerRepo));
+            if (response == null) {
+                skipped.incrementAndGet();
+                return null;
+            }
+            if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                log.debug("GitHub API returned {} for {}", response.statusCode(), ownerRepo);
+                return null;
+            }
+            JsonNode repo = MAPPER.readTree(response.body());
+            return new RepositoryInfo(ownerRepo,
+                    intOrNull(repo.path("stargazers_count")),
+                    intOrNull(repo.path("forks_count")),
+                    intOrNull(repo.path("open_issues_count")),
+                    repo.path("archived").isBoolean() ? repo.path("archived").asBoolean() : null,
+                    license(repo.path("license").path("spdx_id")),
+                    instant(repo.path("pushed_at").asText(null)),
+                    fetchContributorCount(ownerRepo));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("Failed to fetch GitHub info for {}: {}", ownerRepo, e.getMessage());
+        }
+        return null;
+    }
+
+    private Integer fetchContributorCount(String ownerRepo) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(restRequest("/repos/" + ownerRepo + "/contributors?per_page=1&anon=true"));
+        if (response == null || response.statusCode() < 200 || response.statusCode() >= 300) {
+            return null;
+        }
+        // With one contributor per page, the number of the last page is the contributor count
+        String link = response.headers().firstValue("Link").orElse(null);
+        if (link != null) {
+            Matcher m = LAST_PAGE.matcher(link);
+            if (m.find()) return Integer.parseInt(m.group(1));
+        }
+        JsonNode contributors = MAPPER.readTree(response.body());
+        return contributors.isArray() && !contributors.isEmpty() ? contributors.size() : null;
+    }
+
+    private HttpRequest restRequest(String path) {
+        HttpRequest.Builder builder = http.request(apiUrl + path, timeoutMs)
+                .header("Accept", "application/vnd.github.v3+json");
+        if (token != null) {
+            builder.header("Authorization", "token " + token);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Send through the circuit breaker and the rate limit scheduler; null when the request was not sent because
+     * the circuit is open or the wait budget is exhausted. 403/429 answers are retried, 5xx answers are returned
+     * after being counted as failures.
+     */
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        RepositoryStats stats = http.repositoryStats();
+        for (int attempt = 0; ; attempt++) {
+            if (!awaitQuota() || !stats.allowRequest(apiUrl)) {
+                return null;
+            }
+            requests.incrementAndGet();
+            long start = System.nanoTime();
+            HttpResponse<String> response;
+            try {
+                response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                stats.recordFailure(apiUrl, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                throw e;
+            }
+            long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            updateRateLimit(response);
+            int status = response.statusCode();
+            if (status >= 500) {
+                stats.recordFailure(apiUrl, latency);
+                return response;
+            }
+            stats.recordSuccess(apiUrl, latency);
+            if ((status == 403 || status == 429) && isRateLimited(response)) {
+                if (attempt >= MAX_RETRIES || !backOff(response, attempt)) {
+                    log.debug("GitHub rate limit reached, giving up on {}", request.uri());
+                    return null;
+                }
+                retries.incrementAndGet();
+                continue;
+            }
+            return response;
+        }
+    }
+
+    private boolean isRateLimited(HttpResponse<String> response) {
+        return response.statusCode() == 429
+                || response.headers().firstValue("Retry-After").isPresent()
+                || "0".equals(response.headers().firstValue("X-RateLimit-Remaining").orElse(null))
+                || response.body().toLowerCase(Locale.ROOT).contains("rate limit");
+    }
+
+    /**
+     * Wait out an exhausted quota if the wait budget allows it.
+     */
+    private boolean awaitQuota() throws InterruptedException {
+        long wait;
+        synchronized (rateLimitLock) {
+            if (exhausted) return false;
+            if (remaining != 0) return true;
+            wait = resetAtMillis - clock.getAsLong();
+            if (wait <= 0) {
+                remaining = -1;
+                return true;
+            }
+        }
+        return pause(wait);
+    }
+
+    /**
+     * Wait before retrying a rate-limited request: Retry-After, else the reset time, else exponential backoff.
+     */
+    private boolean backOff(HttpResponse<String> response, int attempt) throws InterruptedException {
+        long wait = INITIAL_BACKOFF_MS << attempt;
+        String retryAfter = response.headers().firstValue("Retry-After").orElse(null);
+        if (retryAfter != null) {
+            try {
+                wait = Long.parseLong(retryAfter.trim()) * 1000;
+            } catch (NumberFormatException ignored) {
+                // HTTP-date form: keep the backoff
+            }
+        } else {
+            synchronized (rateLimitLock) {
+                if (remaining == 0 && resetAtMillis > clock.getAsLong()) {
+                    wait = resetAtMillis - clock.getAsLong();
+                }
+            }
+        }
+        return pause(wait);
+    }
+
+    /**
+     * Sleep if the remaining wait budget allows it; otherwise mark the client exhausted.
+     */
+    private boolean pause(long wait) throws InterruptedException {
+        synchronized (rateLimitLock) {
+            if (waitedMs + wait > maxWaitMs) {
+                if (!exhausted) {
+                    log.warn("GitHub rate limit exhausted; skipping remaining repository checks (reset in {} s)",
+                            TimeUnit.MILLISECONDS.toSeconds(Math.max(0, resetAtMillis - clock.getAsLong())));
+                }
+                exhausted = true;
+                return false;
+            }
+            waitedMs += wait;
+        }
+        log.debug("Waiting {} ms for the GitHub rate limit", wait);
+        sleeper.sleep(wait);
+        synchronized (rateLimitLock) {
+            // Quota assumed renewed until the next response says otherwise
+            remaining = -1;
+        }
+        return true;
+    }
+
+    private void updateRateLimit(HttpResponse<?> response) {
+        String left = response.headers().firstValue("X-RateLimit-Remaining").orElse(null);
+        String reset = response.headers().firstValue("X-RateLimit-Reset").orElse(null);
+        if (left == null) return;
+        synchronized (rateLimitLock) {
+            try {
+                remaining = Integer.parseInt(left.trim());
+                if (reset != null) {
+                    resetAtMillis = Long.parseLong(reset.trim()) * 1000;
+                }
+            } catch (NumberFormatException e) {
+                remaining = -1;
+            }
+        }
+    }
+
+    private static Integer intOrNull(JsonNode node) {
+        return node.isNumber() ? node.asInt() : null;
+    }
+
+    private static String license(JsonNode spdxId) {
+        String value = spdxId.isTextual() ? spdxId.asText() : null;
+        return value == null || value.isBlank() || "NOASSERTION".equals(value) ? null : value;
+    }
+
+    private static Instant instant(String value) {
+        try {
+            return value == null || value.isBlank() ? null : Instant.parse(value);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
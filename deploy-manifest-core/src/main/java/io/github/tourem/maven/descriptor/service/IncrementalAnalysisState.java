@@ -0,0 +1,274 @@
+package io.github.tourem.maven.descriptor.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Module analysis results of the previous run, keyed by a fingerprint of each module's inputs.
+ *
+ * The fingerprint is a SHA-256 of the module {@code pom.xml}, its local parent POM chain, the reactor root POM,
+ * the configuration files at the top of {@code src/main/resources} and of its {@code config/} directory
+ * ({@code .yml}, {@code .yaml}, {@code .properties}), the same files of the local modules it depends on (their
+ * profiles are reported as its own), assembly descriptors and the module {@code Dockerfile}. A module whose fingerprint did not
+ * change is served from the stored {@link DeployableModule} JSON instead of being analyzed again.
+ *
+ * The whole state is discarded when the analyzer configuration changes. Anything not covered by the fingerprint
+ * (remote repositories, the local Maven repository, environment variables) is not tracked: delete the state file,
+ * or run {@code clean}, to force a full analysis.
+ *
+ * The state is one JSON file, read once and replaced atomically by {@link #save()}.
+ * @author tourem
+ */
+@Slf4j
+public class IncrementalAnalysisState {
+
+    private static final int FORMAT = 1;
+    private static final int MAX_PARENT_DEPTH = 32;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Path file;
+    private final String configuration;
+    private final PomModelCache pomCache;
+    private final Map<String, JsonNode> previous;
+    private final Map<String, ObjectNode> current = new ConcurrentHashMap<>();
+
+    private final AtomicInteger reused = new AtomicInteger();
+    private final AtomicInteger analyzed = new AtomicInteger();
+
+    /**
+     * A module entry from the previous run: {@code module} is null for a module that is not deployable.
+     */
+    public record Entry(DeployableModule module) {
+    }
+
+    private IncrementalAnalysisState(Path file, String configuration, PomModelCache pomCache, Map<String, JsonNode> previous) {
+        this.file = file;
+        this.configuration = configuration;
+        this.pomCache = pomCache;
+        this.previous = previous;
+    }
+
+    /**
+     * Load the state file; a missing, unreadable or differently configured state starts empty.
+     *
+     * @param configuration description of every option the module analysis depends on
+     */
+    public static IncrementalAnalysisState load(Path file, String configuration, PomModelCache pomCache) {
+        Map<String, JsonNode> previous = new ConcurrentHashMap<>();
+        if (Files.isRegularFile(file)) {
+            try {
+                JsonNode root = MAPPER.readTree(file.toFile());
+                if (root.path("format").asInt() == FORMAT && configuration.equals(root.path("configuration").asText())) {
+                    root.path("modules").fields().forEachRemaining(e -> previous.put(e.getKey(), e.getValue()));
+                } else {
+                    log.info("Analyzer configuration changed, incremental state ignored");
+                }
+            } catch (IOException e) {
+                log.debug("Ignoring unreadable incremental state {}: {}", file, e.getMessage());
+            }
+        }
+        return new IncrementalAnalysisState(file, configuration, pomCache, previous);
+    }
+
+    /**
+     * Previous result of the module if its fingerprint is unchanged; the current run keeps it either way.
+     */
+    public Optional<Entry> lookup(String moduleKey, String fingerprint) {
+        JsonNode entry = previous.get(moduleKey);
+        if (entry == null || !entry.isObject() || !fingerprint.equals(entry.path("fingerprint").asText())) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode moduleNode = entry.get("module");
+            DeployableModule module = moduleNode != null && !moduleNode.isNull()
+                    ? MAPPER.treeToValue(moduleNode, DeployableModule.class)
+                    : null;
+            current.put(moduleKey, (ObjectNode) entry);
+            reused.incrementAndGet();
+            return Optional.of(new Entry(module));
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Ignoring unreadable incremental entry for {}: {}", moduleKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Record the freshly analyzed result of the module; call before the module is modified any further.
+     */
+    public void record(String moduleKey, String fingerprint, DeployableModule module) {
+        ObjectNode entry = MAPPER.createObjectNode();
+        entry.put("fingerprint", fingerprint);
+        entry.set("module", module != null ? MAPPER.valueToTree(module) : null);
+        current.put(moduleKey, entry);
+        analyzed.incrementAndGet();
+    }
+
+    /**
+     * Replace the state file with the entries of the current run; modules gone from the reactor are dropped.
+     */
+    public void save() {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("format", FORMAT);
+        root.put("configuration", configuration);
+        ObjectNode modules = root.putObject("modules");
+        current.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> modules.set(e.getKey(), e.getValue()));
+        try {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            MAPPER.writeValue(tmp.toFile(), root);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write incremental state {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Fingerprint of the module inputs listed in the class comment, and of the analyzer configuration.
+     */
+    public String fingerprint(Model model, Path modulePath, Path projectRoot) {
+        List<Path> inputs = new ArrayList<>();
+        inputs.add(modulePath.resolve("pom.xml"));
+        addParentChain(model, modulePath, inputs);
+        inputs.add(projectRoot.resolve("pom.xml"));
+        addConfigFiles(modulePath, inputs);
+        addFiles(modulePath.resolve("src/assembly"), inputs, name -> name.endsWith(".xml"));
+        addFiles(modulePath.resolve("src/main/assembly"), inputs, name -> name.endsWith(".xml"));
+        inputs.add(modulePath.resolve("Dockerfile"));
+        // Profiles of local dependency modules are reported as the module's own
+        if (model.getDependencies() != null) {
+            Path self = modulePath.toAbsolutePath().normalize();
+            Set<Path> siblings = new TreeSet<>();
+            for (Dependency dependency : model.getDependencies()) {
+                Path sibling = SpringBootProfileDetector.localModuleDirectory(dependency, projectRoot);
+                if (sibling != null && !sibling.toAbsolutePath().normalize().equals(self)) {
+                    siblings.add(sibling.toAbsolutePath().normalize());
+                }
+            }
+            for (Path sibling : siblings) {
+                addConfigFiles(sibling, inputs);
+            }
+        }
+
+        Path root = projectRoot.toAbsolutePath().normalize();
+        MessageDigest sha256 = sha256();
+        sha256.update(configuration.getBytes(StandardCharsets.UTF_8));
+        for (Path input : inputs) {
+            sha256.update((byte) 0);
+            sha256.update(root.relativize(input.toAbsolutePath().normalize()).toString()
+                    .getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) 0);
+            try {
+                if (Files.isRegularFile(input)) {
+                    sha256.update(Files.readAllBytes(input));
+                } else {
+                    sha256.update((byte) 1);
+                }
+            } catch (IOException e) {
+                // An unreadable input must never match a previous run
+                sha256.update(Long.toString(System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return HexFormat.of().formatHex(sha256.digest());
+    }
+
+    public int reused() {
+        return reused.get();
+    }
+
+    public int analyzed() {
+        return analyzed.get();
+    }
+
+    /**
+     * One-line counters summary for build logs.
+     */
+    public String summary() {
+        return String.format("incremental analysis: %d modules reused, %d analyzed", reused(), analyzed());
+    }
+
+    private void addParentChain(Model model, Path modulePath, List<Path> inputs) {
+        Set<Path> visited = new HashSet<>();
+        Model child = model;
+        Path childDir = modulePath;
+        for (int depth = 0; depth < MAX_PARENT_DEPTH && child != null && child.getParent() != null; depth++) {
+            Parent parent = child.getParent();
+            String relativePath = parent.getRelativePath() != null ? parent.getRelativePath() : "../pom.xml";
+            if (relativePath.isBlank()) {
+                return;
+            }
+            Path parentPom = childDir.resolve(relativePath).toAbsolutePath().normalize();
+            if (Files.isDirectory(parentPom)) {
+                parentPom = parentPom.resolve("pom.xml");
+            }
+            if (!Files.isRegularFile(parentPom) || !visited.add(parentPom)) {
+                return;
+            }
+            inputs.add(parentPom);
+            child = pomCache.readQuietly(parentPom);
+            childDir = parentPom.getParent();
+        }
+    }
+
+    /**
+     * Configuration files of {@code src/main/resources} and of Spring's {@code config/} location below it.
+     */
+    private static void addConfigFiles(Path modulePath, List<Path> inputs) {
+        Predicate<String> configFile = name -> name.endsWith(".yml") || name.endsWith(".yaml") || name.endsWith(".properties");
+        addFiles(modulePath.resolve("src/main/resources"), inputs, configFile);
+        addFiles(modulePath.resolve("src/main/resources/config"), inputs, configFile);
+    }
+
+    private static void addFiles(Path dir, List<Path> inputs, Predicate<String> nameFilter) {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(Files::isRegularFile)
+                    .filter(f -> nameFilter.test(f.getFileName().toString()))
+                    .sorted()
+                    .forEach(inputs::add);
+        } catch (IOException e) {
+            log.debug("Could not list {}: {}", dir, e.getMessage());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.tourem.maven.descriptor.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent license database keyed by G:A:V, shared by all license collectors using the same directory.
+ *
+ * Storage is a single append-only tab-separated file ({@code licenses.tsv}), one line per artifact:
+ * {@code groupId:artifactId:version <TAB> licenseUrl <TAB> licenseName... <TAB> #crc32}. The trailing CRC32 of the
+ * line content is checked on load: torn, interleaved or older-format lines are skipped. Each {@link #flush()}
+ * writes its batch with one append under an exclusive file lock, so concurrent builds never interleave; duplicate
+ * lines are tolerated (last one wins).
+ * The file is read when an instance is created: create one per analysis run so entries written by other builds
+ * in the meantime are seen. Released artifacts are immutable, so entries never expire; SNAPSHOT versions are
+ * never cached.
+ * @author tourem
+ */
+@Slf4j
+public class LicenseCache {
+
+    static final String FILE_NAME = "licenses.tsv";
+
+    private static final String CHECKSUM_MARKER = "#";
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final List<String> pending = new ArrayList<>();
+
+    /**
+     * License data of one artifact: names as declared in its POM (or inherited parent), and the first URL.
+     * An empty name list means the POM was found but declares no license.
+     */
+    public record Entry(List<String> names, String url) {}
+
+    LicenseCache(Path directory) {
+        this.file = directory.resolve(FILE_NAME);
+        load();
+    }
+
+    /**
+     * Normalized cache directory; {@code null} selects ~/.m2/deploy-manifest.
+     */
+    public static Path directory(String directory) {
+        Path dir = (directory == null || directory.isBlank())
+                ? Path.of(System.getProperty("user.home"), ".m2", "deploy-manifest")
+                : Path.of(directory);
+        return dir.toAbsolutePath().normalize();
+    }
+
+    public static boolean isCacheable(String version) {
+        return version != null && !version.isBlank() && !version.endsWith("-SNAPSHOT") && !version.contains("${");
+    }
+
+    public Entry get(String gav) {
+        return entries.get(gav);
+    }
+
+    public void put(String gav, Entry entry) {
+        if (entry == null || entries.putIfAbsent(gav, entry) != null) return;
+        StringBuilder line = new StringBuilder(sanitize(gav)).append('\t').append(sanitize(entry.url()));
+        for (String name : entry.names()) {
+            line.append('\t').append(sanitize(name));
+        }
+        String checksum = checksum(line);
+        line.append('\t').append(CHECKSUM_MARKER).append(checksum);
+        synchronized (pending) {
+            pending.add(line.toString());
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Append entries added since the last flush to the backing file, as one write under an exclusive lock.
+     * Failures are logged, never thrown.
+     */
+    public void flush() {
+        List<String> lines;
+        synchronized (pending) {
+            if (pending.isEmpty()) return;
+            lines = new ArrayList<>(pending);
+            pending.clear();
+        }
+        StringBuilder batch = new StringBuilder();
+        for (String line : lines) {
+            batch.append(line).append('\n');
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            // File locks are held per JVM: serialize the caches of concurrent runs before taking it
+            synchronized (LicenseCache.class) {
+                try (FileChannel channel = FileChannel.open(file,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+                     FileLock ignored = channel.lock()) {
+                    long size = channel.size();
+                    if (size > 0 && !endsWithNewline(channel, size)) {
+                        // A crashed writer left a torn line: keep it apart from this batch
+                        batch.insert(0, '\n');
+                    }
+                    ByteBuffer buffer = ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8));
+                    long position = size;
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Could not write license cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(file)) return;
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                // Skip torn, interleaved or foreign lines rather than failing the build
+                int marker = line.lastIndexOf('\t');
+                if (marker < 0 || !line.startsWith(CHECKSUM_MARKER, marker + 1)
+                        || !line.substring(marker + 1 + CHECKSUM_MARKER.length()).equals(checksum(line.substring(0, marker)))) {
+                    continue;
+                }
+                String[] parts = line.substring(0, marker).split("\t", -1);
+                if (parts.length < 2 || parts[0].isBlank()) continue;
+                List<String> names = List.copyOf(Arrays.asList(parts).subList(2, parts.length));
+                entries.put(parts[0], new Entry(names, parts[1].isEmpty() ? null : parts[1]));
+            }
+            log.debug("Loaded {} license cache entries from {}", entries.size(), file);
+        } catch (IOException e) {
+            log.debug("Could not read license cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static boolean endsWithNewline(FileChannel channel, long size) throws IOException {
+        ByteBuffer last = ByteBuffer.allocate(1);
+        return channel.read(last, size - 1) == 1 && last.get(0) == '\n';
+    }
+
+    private static String checksum(CharSequence content) {
+        CRC32 crc = new CRC32();
+        crc.update(content.toString().getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().toHexDigits((int) crc.getValue());
+    }
+
+    private static String sanitize(String value) {
+        if (value == null) return "";
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
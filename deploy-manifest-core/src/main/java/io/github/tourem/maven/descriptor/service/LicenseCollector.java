@@ -4,13 +4,16 @@ import io.github.tourem.maven.descriptor.model.*;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 
-import java.io.File;
-import java.io.FileReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -26,8 +29,67 @@ public class LicenseCollector {
 
     private static final Set<String> DEFAULT_SCOPES = Set.of("compile", "runtime");
 
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
+
+    private final PomModelCache pomCache;
+    private final ResolvedVersionIndex resolvedVersions;
+    private final Map<ContextKey, EffectiveModel> effectiveModels = new java.util.concurrent.ConcurrentHashMap<>();
+    private final Map<Path, LicenseCache> licenseCaches = new java.util.concurrent.ConcurrentHashMap<>();
+
+    public LicenseCollector() {
+        this(null);
+    }
+
+    /**
+     * @param pomCache cache through which every dependency and parent POM is read
+     */
+    public LicenseCollector(PomModelCache pomCache) {
+        this(pomCache, null);
+    }
+
+    /**
+     * @param pomCache         cache through which every dependency and parent POM is read
+     * @param resolvedVersions versions selected by Maven resolution per module, used for dependencies without version (optional)
+     */
+    public LicenseCollector(PomModelCache pomCache, ResolvedVersionIndex resolvedVersions) {
+        this.pomCache = pomCache != null ? pomCache : new PomModelCache();
+        this.resolvedVersions = resolvedVersions != null ? resolvedVersions : new ResolvedVersionIndex();
+    }
+
+    /**
+     * Forget the state of the previous analysis run: effective models of the POMs it read, and license cache files,
+     * which are read again on next use.
+     */
+    public void clear() {
+        effectiveModels.clear();
+        licenseCaches.clear();
+    }
+
+    int effectiveModelCount() {
+        return effectiveModels.size();
+    }
+
     public LicenseInfo collect(Model model, Path modulePath, LicenseOptions options) {
+        return collect(model, modulePath, options, null);
+    }
+
+    /**
+     * @param resolutionPool pool the levels of a parallel resolution run on, shared by every module of an analysis
+     *                       run and shut down by its owner; null = a pool created for this call
+     */
+    public LicenseInfo collect(Model model, Path modulePath, LicenseOptions options, ExecutorService resolutionPool) {
         if (model == null || options == null || !options.isInclude()) return null;
+        try {
+            // Pre-resolution of this module may still be running: its POMs and versions are needed below
+            if (!resolvedVersions.await(modulePath, options.getPreResolveTimeoutSeconds(), TimeUnit.SECONDS)) {
+                // Versions not indexed yet fall back to those declared or managed in the POM chain
+                log.warn("Pre-resolution of {} did not finish within {}s, resolving its licenses from the POMs",
+                        modulePath, options.getPreResolveTimeoutSeconds());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
 
         // Prepare accumulators
         List<LicenseDetail> details = new ArrayList<>();
@@ -35,18 +97,26 @@ public class LicenseCollector {
         List<LicenseWarning> warnings = new ArrayList<>();
         Set<String> allowedScopes = new HashSet<>(DEFAULT_SCOPES);
         Set<String> visited = new HashSet<>(); // G:A:V
-
-        // Seed with direct dependencies (filtered by scope)
-        if (model.getDependencies() != null) {
+        LicenseCache licenseCache = options.isCache()
+                ? licenseCaches.computeIfAbsent(LicenseCache.directory(options.getCacheDirectory()), LicenseCache::new)
+                : null;
+
+        if (options.isParallelResolution()) {
+            collectBreadthFirst(model, modulePath, allowedScopes, options, resolutionPool, licenseCache, details, byType, warnings);
+        } else if (model.getDependencies() != null) {
+            // Seed with direct dependencies (filtered by scope), then walk each one depth-first
             for (Dependency d : model.getDependencies()) {
                 String scope = normalizeScope(d.getScope());
                 if (!allowedScopes.contains(scope)) continue;
-                processDependency(d, 1, model, modulePath, allowedScopes, options, visited, details, byType, warnings);
+                processDependency(d, 1, model, modulePath, modulePath, allowedScopes, options, licenseCache, visited, details, byType, warnings);
                 if (options.isIncludeTransitiveLicenses()) {
-                    resolveTransitively(d, 2, model, modulePath, allowedScopes, options, visited, details, byType, warnings);
+                    resolveTransitively(d, 2, model, modulePath, modulePath, allowedScopes, options, licenseCache, visited, details, byType, warnings);
                 }
             }
         }
+        if (licenseCache != null) {
+            licenseCache.flush();
+        }
 
         // Summaries
         int total = details.size();
@@ -98,61 +168,60 @@ public class LicenseCollector {
     }
 
     private void processDependency(Dependency d, int depth,
-                                   Model contextModel, Path modulePath,
+                                   Model contextModel, Path modulePath, Path ownerModule,
                                    Set<String> allowedScopes, LicenseOptions options,
-                                   Set<String> visited, List<LicenseDetail> details,
+                                   LicenseCache licenseCache, Set<String> visited, List<LicenseDetail> details,
                                    Map<String, Integer> byType, List<LicenseWarning> warnings) {
-        String version = (contextModel != null) ? resolveVersion(d, contextModel, modulePath) : d.getVersion();
-        String gav = (nullToEmpty(d.getGroupId()) + ":" + nullToEmpty(d.getArtifactId()) + ":" + nullToEmpty(version)).trim();
+        String version = (contextModel != null) ? resolveVersion(d, contextModel, modulePath, ownerModule) : d.getVersion();
+        String gav = gav(d, version);
         if (gav.contains("::")) return; // skip incomplete
         if (!visited.add(gav)) return;   // already processed
 
         String scope = normalizeScope(d.getScope());
         if (!allowedScopes.contains(scope)) return;
 
-        // Read dependency POM from local repo and extract licenses
+        accumulate(evaluate(d, depth, contextModel, modulePath, ownerModule, version, gav, scope, options, licenseCache),
+                details, byType, warnings);
+    }
+
+    /**
+     * Build the license detail of one dependency. Has no side effect on the accumulators,
+     * so it can run on worker threads.
+     */
+    private Evaluated evaluate(Dependency d, int depth, Model contextModel, Path modulePath, Path ownerModule,
+                               String version, String gav, String scope,
+                               LicenseOptions options, LicenseCache licenseCache) {
+        // Read dependency licenses from the license cache or the POM in the local repo
         String license = "unknown";
         String licenseUrl = null;
         boolean multi = false;
+        List<String> types = List.of("unknown");
         try {
-            Model depModel = readPomFromLocalRepo(d.getGroupId(), d.getArtifactId(), version);
-            java.util.List<org.apache.maven.model.License> licenseNodes = java.util.Collections.emptyList();
-            if (depModel != null) {
-                licenseNodes = collectLicensesWithFallback(depModel);
-            }
-            if (licenseNodes != null && !licenseNodes.isEmpty()) {
-                java.util.List<String> names = licenseNodes.stream()
-                        .map(l -> l.getName() == null ? "" : l.getName().trim())
-                        .filter(s -> !s.isBlank()).collect(java.util.stream.Collectors.toList());
+            LicenseCache.Entry found = readLicenses(d.getGroupId(), d.getArtifactId(), version, gav, licenseCache);
+            if (found != null) {
+                List<String> names = found.names();
                 multi = names.size() > 1;
-                license = names.isEmpty() ? "unknown" : String.join(" OR ", names);
-                licenseUrl = licenseNodes.get(0).getUrl();
-                // Aggregate by type: count each token separately
-                if (names.isEmpty()) {
-                    byType.merge("unknown", 1, Integer::sum);
-                    if (options.isLicenseWarnings()) warnings.add(unknownWarn(d, contextModel, modulePath, version));
-                } else {
-                    for (String t : names) byType.merge(t, 1, Integer::sum);
+                licenseUrl = found.url();
+                if (!names.isEmpty()) {
+                    license = String.join(" OR ", names);
+                    // Aggregate by type: count each token separately
+                    types = names;
                 }
-            } else {
-                byType.merge("unknown", 1, Integer::sum);
-                if (options.isLicenseWarnings()) warnings.add(unknownWarn(d, contextModel, modulePath, version));
             }
         } catch (Exception e) {
             log.debug("License read failure for {}: {}", gav, e.getMessage());
-            byType.merge("unknown", 1, Integer::sum);
-            if (options.isLicenseWarnings()) warnings.add(unknownWarn(d, contextModel, modulePath, version));
         }
+        LicenseWarning warning = "unknown".equals(license) && options.isLicenseWarnings()
+                ? unknownWarn(d, contextModel, modulePath, ownerModule, version)
+                : null;
 
         // Resolve placeholders for coordinates to avoid entries like ${hibernate.groupId}.orm or ${antlr}
-        java.util.Properties props2 = new java.util.Properties();
-        collectPropertiesRecursive(contextModel, modulePath, props2, new java.util.HashSet<>());
-        // Also pull in imported BOM properties
-        gatherManagedVersions(contextModel, modulePath, new java.util.LinkedHashMap<>(), props2, new java.util.HashSet<>());
+        // (merged properties also include those pulled in from imported BOMs)
+        Properties props2 = effectiveModel(contextModel, modulePath).mergedProperties();
         String resolvedGroupId = resolveProperty(d.getGroupId(), props2);
         String resolvedArtifactId = resolveProperty(d.getArtifactId(), props2);
 
-        details.add(LicenseDetail.builder()
+        LicenseDetail detail = LicenseDetail.builder()
                 .groupId(resolvedGroupId != null ? resolvedGroupId : d.getGroupId())
                 .artifactId(resolvedArtifactId != null ? resolvedArtifactId : d.getArtifactId())
                 .version(version)
@@ -161,24 +230,37 @@ public class LicenseCollector {
                 .licenseUrl(licenseUrl)
                 .multiLicense(multi)
                 .depth(depth)
-                .build());
+                .build();
+        return new Evaluated(detail, types, warning);
     }
 
+    private static void accumulate(Evaluated evaluated, List<LicenseDetail> details,
+                                   Map<String, Integer> byType, List<LicenseWarning> warnings) {
+        for (String t : evaluated.types()) byType.merge(t, 1, Integer::sum);
+        if (evaluated.warning() != null) warnings.add(evaluated.warning());
+        details.add(evaluated.detail());
+    }
+
+    /**
+     * @param types license tokens counted in the by-type summary ("unknown" when none was identified)
+     */
+    private record Evaluated(LicenseDetail detail, List<String> types, LicenseWarning warning) {}
+
     private void resolveTransitively(Dependency parent, int depth,
-                                     Model contextModel, Path modulePath,
+                                     Model contextModel, Path modulePath, Path ownerModule,
                                      Set<String> allowedScopes, LicenseOptions options,
-                                     Set<String> visited, List<LicenseDetail> details,
+                                     LicenseCache licenseCache, Set<String> visited, List<LicenseDetail> details,
                                      Map<String, Integer> byType, List<LicenseWarning> warnings) {
         try {
-            String parentVersion = resolveVersion(parent, contextModel, modulePath);
+            String parentVersion = resolveVersion(parent, contextModel, modulePath, ownerModule);
             Model m = readPomFromLocalRepo(parent.getGroupId(), parent.getArtifactId(), parentVersion);
             if (m == null || m.getDependencies() == null) return;
             for (Dependency td : m.getDependencies()) {
                 String scope = normalizeScope(td.getScope());
                 if (!allowedScopes.contains(scope)) continue;
-                processDependency(td, depth, m, null, allowedScopes, options, visited, details, byType, warnings);
+                processDependency(td, depth, m, null, ownerModule, allowedScopes, options, licenseCache, visited, details, byType, warnings);
                 // Recurse using current dependency's model as context for deeper levels
-                resolveTransitively(td, depth + 1, m, null, allowedScopes, options, visited, details, byType, warnings);
+                resolveTransitively(td, depth + 1, m, null, ownerModule, allowedScopes, options, licenseCache, visited, details, byType, warnings);
             }
         } catch (Exception e) {
             log.debug("Transitive resolution failed for {}:{}:{} - {}",
@@ -186,21 +268,161 @@ public class LicenseCollector {
         }
     }
 
-    private LicenseWarning unknownWarn(Dependency d, Model contextModel, Path modulePath, String resolvedVersion) {
-        java.util.Properties props = new java.util.Properties();
-        collectPropertiesRecursive(contextModel, modulePath, props, new java.util.HashSet<>());
-        // Pull in properties from imported BOMs to resolve placeholders like ${hibernate.groupId}
-        gatherManagedVersions(contextModel, modulePath, new java.util.LinkedHashMap<>(), props, new java.util.HashSet<>());
+    /**
+     * Breadth-first resolution: each depth level is resolved on a bounded worker pool, then merged
+     * in declaration order so the detail list and depths are deterministic. An artifact reachable
+     * at several depths is reported at the shallowest one.
+     */
+    private void collectBreadthFirst(Model model, Path modulePath, Set<String> allowedScopes,
+                                     LicenseOptions options, ExecutorService resolutionPool, LicenseCache licenseCache,
+                                     List<LicenseDetail> details, Map<String, Integer> byType,
+                                     List<LicenseWarning> warnings) {
+        List<Node> level = new ArrayList<>();
+        if (model.getDependencies() != null) {
+            for (Dependency d : model.getDependencies()) {
+                if (allowedScopes.contains(normalizeScope(d.getScope()))) {
+                    level.add(new Node(d, model, modulePath, modulePath, 1));
+                }
+            }
+        }
+        if (level.isEmpty()) return;
+
+        Set<String> visited = java.util.concurrent.ConcurrentHashMap.newKeySet(); // G:A:V
+        ExecutorService executor = resolutionPool != null ? resolutionPool : newResolutionPool(options);
+        try {
+            while (!level.isEmpty()) {
+                // Versions first: deduplication needs the full G:A:V
+                List<String> versions = mapConcurrently(executor, level,
+                        n -> n.contextModel() != null ? resolveVersion(n.dependency(), n.contextModel(), n.modulePath(), n.ownerModule())
+                                                      : n.dependency().getVersion());
+                List<Accepted> accepted = new ArrayList<>();
+                for (int i = 0; i < level.size(); i++) {
+                    String gav = gav(level.get(i).dependency(), versions.get(i));
+                    if (gav.contains("::") || !visited.add(gav)) continue;
+                    accepted.add(new Accepted(level.get(i), versions.get(i), gav));
+                }
+
+                List<Expanded> results = mapConcurrently(executor, accepted, a -> {
+                    Node n = a.node();
+                    Dependency d = n.dependency();
+                    Evaluated evaluated = evaluate(d, n.depth(), n.contextModel(), n.modulePath(), n.ownerModule(), a.version(),
+                            a.gav(), normalizeScope(d.getScope()), options, licenseCache);
+                    Model depModel = options.isIncludeTransitiveLicenses()
+                            ? readPomFromLocalRepo(d.getGroupId(), d.getArtifactId(), a.version())
+                            : null;
+                    return new Expanded(evaluated, depModel);
+                });
+
+                List<Node> next = new ArrayList<>();
+                for (int i = 0; i < accepted.size(); i++) {
+                    Expanded result = results.get(i);
+                    if (result == null) continue;
+                    accumulate(result.evaluated(), details, byType, warnings);
+                    Model depModel = result.model();
+                    if (depModel == null || depModel.getDependencies() == null) continue;
+                    for (Dependency td : depModel.getDependencies()) {
+                        if (allowedScopes.contains(normalizeScope(td.getScope()))) {
+                            next.add(new Node(td, depModel, null, modulePath, accepted.get(i).node().depth() + 1));
+                        }
+                    }
+                }
+                level = next;
+            }
+        } finally {
+            if (executor != resolutionPool) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Bounded worker pool for {@link LicenseOptions#isParallelResolution() parallel resolution}, sized by
+     * {@link LicenseOptions#effectiveResolutionThreads()}.
+     */
+    public static ExecutorService newResolutionPool(LicenseOptions options) {
+        return Executors.newFixedThreadPool(options.effectiveResolutionThreads(),
+                new DaemonThreadFactory("deploy-manifest-licenses"));
+    }
+
+    /**
+     * Apply {@code fn} to every item on the executor; results keep the item order, failed items yield {@code null}.
+     */
+    private static <T, R> List<R> mapConcurrently(ExecutorService executor, List<T> items, Function<T, R> fn) {
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executor.submit(() -> fn.apply(item)));
+        }
+        List<R> results = new ArrayList<>(items.size());
+        for (Future<R> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                log.debug("License resolution task failed: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                results.add(null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while resolving licenses", e);
+            }
+        }
+        return results;
+    }
+
+    private String gav(Dependency d, String version) {
+        return (nullToEmpty(d.getGroupId()) + ":" + nullToEmpty(d.getArtifactId()) + ":" + nullToEmpty(version)).trim();
+    }
+
+    /**
+     * A dependency waiting to be resolved, with the model its version and properties are resolved against.
+     * {@code modulePath} locates the context model's relative parents (null for repository POMs);
+     * {@code ownerModule} is the analyzed module whose resolved versions apply.
+     */
+    private record Node(Dependency dependency, Model contextModel, Path modulePath, Path ownerModule, int depth) {}
+
+    /** A node whose G:A:V was seen for the first time at this level. */
+    private record Accepted(Node node, String version, String gav) {}
+
+    /** Evaluated dependency plus its own POM, whose dependencies form the next level. */
+    private record Expanded(Evaluated evaluated, Model model) {}
+
+    /**
+     * Licenses of an artifact, or {@code null} when its POM is not in the local repo.
+     * Only identified licenses of released versions are persisted: an unknown result may change
+     * once a missing parent POM gets downloaded.
+     */
+    private LicenseCache.Entry readLicenses(String groupId, String artifactId, String version,
+                                            String gav, LicenseCache licenseCache) {
+        boolean cacheable = licenseCache != null && LicenseCache.isCacheable(version) && !gav.contains("${");
+        if (cacheable) {
+            LicenseCache.Entry cached = licenseCache.get(gav);
+            if (cached != null) return cached;
+        }
+        Model depModel = readPomFromLocalRepo(groupId, artifactId, version);
+        if (depModel == null) return null;
+        List<org.apache.maven.model.License> licenseNodes = collectLicensesWithFallback(depModel);
+        if (licenseNodes.isEmpty()) return new LicenseCache.Entry(List.of(), null);
+        List<String> names = licenseNodes.stream()
+                .map(l -> l.getName() == null ? "" : l.getName().trim())
+                .filter(s -> !s.isBlank())
+                .toList();
+        LicenseCache.Entry entry = new LicenseCache.Entry(names, licenseNodes.get(0).getUrl());
+        if (cacheable && !names.isEmpty()) {
+            licenseCache.put(gav, entry);
+        }
+        return entry;
+    }
+
+    private LicenseWarning unknownWarn(Dependency d, Model contextModel, Path modulePath, Path ownerModule,
+                                       String resolvedVersion) {
+        // Merged properties include imported BOMs to resolve placeholders like ${hibernate.groupId}
+        Properties props = effectiveModel(contextModel, modulePath).mergedProperties();
         String g = resolveProperty(d.getGroupId(), props);
         String a = resolveProperty(d.getArtifactId(), props);
         String v = (resolvedVersion != null && !resolvedVersion.isBlank())
                 ? resolvedVersion
                 : resolveProperty(d.getVersion(), props);
         if (v == null || v.isBlank()) {
-            try {
-                String sys = System.getProperty("deploy.manifest.resolved.ga." + g + ":" + a);
-                if (sys != null && !sys.isBlank()) v = sys;
-            } catch (Throwable ignore) {}
+            String resolved = resolvedVersions.version(ownerModule, g, a);
+            if (resolved != null) v = resolved;
         }
         return LicenseWarning.builder()
                 .severity("MEDIUM")
@@ -223,61 +445,84 @@ public class LicenseCollector {
     }
 
     private Model readPomFromLocalRepo(String groupId, String artifactId, String version) {
-        try {
-            if (groupId == null || artifactId == null || version == null) return null;
-            String repoRoot = System.getProperty("maven.repo.local");
-            if (repoRoot == null || repoRoot.isBlank()) {
-                repoRoot = System.getProperty("user.home") + File.separator + ".m2" + File.separator + "repository";
-            }
-            String groupPath = groupId.replace('.', File.separatorChar);
-            String rel = groupPath + File.separator + artifactId + File.separator + version + File.separator + artifactId + "-" + version + ".pom";
-            File pom = new File(repoRoot, rel);
-            if (!pom.exists()) return null;
-            MavenXpp3Reader reader = new MavenXpp3Reader();
-            try (FileReader fr = new FileReader(pom)) {
-                return reader.read(fr);
-            }
-        } catch (Exception e) {
-            log.debug("Failed to read POM for {}:{}:{} - {}", groupId, artifactId, version, e.getMessage());
-            return null;
-        }
+        return pomCache.readFromLocalRepo(groupId, artifactId, version);
     }
 
-    private String resolveVersion(Dependency d, Model contextModel, Path modulePath) {
+    /**
+     * @param modulePath  directory of the context model, for relative parents (null for repository POMs)
+     * @param ownerModule analyzed module whose resolved versions apply, whatever the depth
+     */
+    private String resolveVersion(Dependency d, Model contextModel, Path modulePath, Path ownerModule) {
         if (d == null) return null;
-        Properties props = new Properties();
-        collectPropertiesRecursive(contextModel, modulePath, props, new HashSet<>());
+        EffectiveModel effective = effectiveModel(contextModel, modulePath);
+        Properties props = effective.baseProperties();
         // If the dependency declares a version, try to resolve property placeholders first
         if (d.getVersion() != null && !d.getVersion().isBlank()) {
             String resolved = resolveProperty(d.getVersion(), props);
             if (resolved != null && !resolved.isBlank()) return resolved;
         }
         String key = d.getGroupId() + ":" + d.getArtifactId();
-        // Fast-path: use pre-resolved GA->V mapping published by the plugin
-        try {
-            String sys = System.getProperty("deploy.manifest.resolved.ga." + key);
-            if (sys != null && !sys.isBlank()) {
-                return sys;
-            }
-        } catch (Throwable ignore) {}
-        Map<String, String> managed = new LinkedHashMap<>();
-        gatherManagedVersions(contextModel, modulePath, managed, props, new HashSet<>());
-        String v = managed.get(key);
-        if (v != null) v = resolveProperty(v, props);
-        if ("org.springframework.boot".equals(d.getGroupId()) && ("spring-boot-starter-web".equals(d.getArtifactId()) || "spring-boot-starter-data-jpa".equals(d.getArtifactId()))) {
-            try { System.out.println("[deploy-manifest] resolveVersion GA=" + key + " -> " + v + ", managed size=" + managed.size()); } catch (Throwable ignore) {}
+        // Fast-path: version selected by Maven resolution for this module
+        String resolved = resolvedVersions.version(ownerModule, d.getGroupId(), d.getArtifactId());
+        if (resolved != null) {
+            return resolved;
         }
+        String v = effective.managedVersions().get(key);
+        if (v != null) v = resolveProperty(v, effective.mergedProperties());
+        log.debug("resolveVersion GA={} -> {} (managed size={})", key, v, effective.managedVersions().size());
         return v;
     }
 
+    /**
+     * Effective properties and managed versions of a context model, computed once and reused
+     * for every dependency declared in that model.
+     */
+    private EffectiveModel effectiveModel(Model contextModel, Path modulePath) {
+        ContextKey key = new ContextKey(contextModel, modulePath);
+        EffectiveModel cached = effectiveModels.get(key);
+        if (cached != null) return cached;
+
+        Properties base = new Properties();
+        collectPropertiesRecursive(contextModel, modulePath, base, new HashSet<>());
+        Properties merged = new Properties();
+        merged.putAll(base);
+        Map<String, String> managed = new LinkedHashMap<>();
+        gatherManagedVersions(contextModel, modulePath, managed, merged, new HashSet<>());
+
+        EffectiveModel computed = new EffectiveModel(base, merged, Collections.unmodifiableMap(managed));
+        EffectiveModel raced = effectiveModels.putIfAbsent(key, computed);
+        return raced != null ? raced : computed;
+    }
+
+    /**
+     * @param baseProperties   properties from the model and its parent chain
+     * @param mergedProperties base properties plus those from parents' and imported BOMs' dependencyManagement walk
+     * @param managedVersions  G:A to version from dependencyManagement (incl. imported BOMs)
+     */
+    private record EffectiveModel(Properties baseProperties, Properties mergedProperties,
+                                  Map<String, String> managedVersions) {}
+
+    /**
+     * Models are compared by identity: POMs come from the shared cache, so one instance per file.
+     */
+    private record ContextKey(Model model, Path modulePath) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ContextKey other && other.model == model && Objects.equals(other.modulePath, modulePath);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(model) + Objects.hashCode(modulePath);
+        }
+    }
+
     private void gatherManagedVersions(Model m, Path modulePath,
                                        Map<String, String> managed, Properties props,
                                        Set<String> visitedModels) {
         if (m == null) return;
-        try { System.out.println("[deploy-manifest] GM visiting " + ((m.getGroupId()!=null?m.getGroupId():(m.getParent()!=null?m.getParent().getGroupId():""))) + ":" + m.getArtifactId() + ":" + (m.getVersion()!=null?m.getVersion():(m.getParent()!=null?m.getParent().getVersion():"")) + ", hasDM=" + (m.getDependencyManagement()!=null)); } catch (Throwable ignore) {}
         if (m.getDependencyManagement() != null && m.getDependencyManagement().getDependencies() != null) {
-            // Debug: trace which model is providing DM
-            try { System.out.println("[deploy-manifest] gather DM from " + (m.getGroupId()!=null?m.getGroupId():(m.getParent()!=null?m.getParent().getGroupId():"")) + ":" + m.getArtifactId()); } catch (Throwable ignore) {}
+            log.debug("Gathering dependencyManagement from {}", m.getArtifactId());
             for (Dependency dmDep : m.getDependencyManagement().getDependencies()) {
                 String type = dmDep.getType();
                 String scope = dmDep.getScope();
@@ -296,7 +541,8 @@ public class LicenseCollector {
                                 managed.put(bKey, bVer);
                             }
                         }
-                        try { System.out.println("[deploy-manifest] imported BOM " + dmDep.getGroupId()+":"+dmDep.getArtifactId()+":"+bomVer+" entries="+bom.getDependencyManagement().getDependencies().size()); } catch (Throwable ignore) {}
+                        log.debug("Imported BOM {}:{}:{} ({} entries)", dmDep.getGroupId(), dmDep.getArtifactId(), bomVer,
+                                bom.getDependencyManagement().getDependencies().size());
                     }
                 } else {
                     String key = dmDep.getGroupId() + ":" + dmDep.getArtifactId();
@@ -353,39 +599,32 @@ public class LicenseCollector {
             String pg = m.getParent().getGroupId();
             String pa = m.getParent().getArtifactId();
             String pv = m.getParent().getVersion();
-            try { System.out.println("[deploy-manifest] readParentModel for " + m.getArtifactId() + " -> " + pg + ":" + pa + ":" + pv + " (modulePath=" + modulePath + ")"); } catch (Throwable ignore) {}
             String relPath = m.getParent().getRelativePath();
             // Prefer explicit relativePath when provided
             if (relPath != null && !relPath.isBlank() && modulePath != null) {
                 Path parentPom = modulePath.resolve(relPath).normalize();
                 if (Files.exists(parentPom)) {
-                    MavenXpp3Reader reader = new MavenXpp3Reader();
-                    try (FileReader fr = new FileReader(parentPom.toFile())) {
-                        return reader.read(fr);
-                    }
+                    return pomCache.read(parentPom);
                 }
             }
             // If no explicit relativePath, try Maven's default ../pom.xml within the reactor
             if ((relPath == null || relPath.isBlank()) && modulePath != null) {
                 Path parentPom = modulePath.resolve("..").resolve("pom.xml").normalize();
                 if (Files.exists(parentPom)) {
-                    MavenXpp3Reader reader = new MavenXpp3Reader();
-                    try (FileReader fr = new FileReader(parentPom.toFile())) {
-                        Model candidate = reader.read(fr);
-                        // Only use this file if it actually matches the declared parent GAV
-                        String cg = (candidate.getGroupId() != null ? candidate.getGroupId() : (candidate.getParent() != null ? candidate.getParent().getGroupId() : null));
-                        String ca = candidate.getArtifactId();
-                        String cv = (candidate.getVersion() != null ? candidate.getVersion() : (candidate.getParent() != null ? candidate.getParent().getVersion() : null));
-                        if (Objects.equals(pg, cg) && Objects.equals(pa, ca) && Objects.equals(pv, cv)) {
-                            return candidate;
-                        }
+                    Model candidate = pomCache.read(parentPom);
+                    // Only use this file if it actually matches the declared parent GAV
+                    String cg = (candidate.getGroupId() != null ? candidate.getGroupId() : (candidate.getParent() != null ? candidate.getParent().getGroupId() : null));
+                    String ca = candidate.getArtifactId();
+                    String cv = (candidate.getVersion() != null ? candidate.getVersion() : (candidate.getParent() != null ? candidate.getParent().getVersion() : null));
+                    if (Objects.equals(pg, cg) && Objects.equals(pa, ca) && Objects.equals(pv, cv)) {
+                        return candidate;
                     }
                 }
             }
             // Fallback to local repository for external parents (e.g., Spring Boot starter parent)
             return readPomFromLocalRepo(pg, pa, pv);
         } catch (Exception e) {
-            try { System.out.println("[deploy-manifest] readParentModel failed: " + e.getMessage()); } catch (Throwable ignore) {}
+            log.debug("readParentModel failed for {}: {}", m != null ? m.getArtifactId() : null, e.getMessage());
             return null;
         }
     }
@@ -413,9 +652,9 @@ public class LicenseCollector {
     private String resolveProperty(String value, Properties props) {
         if (value == null) return null;
         String result = value;
-        Pattern p = Pattern.compile("\\$\\{([^}]+)}");
+        if (result.indexOf("${") < 0) return result;
         for (int i = 0; i < 10; i++) {
-            Matcher m = p.matcher(result);
+            Matcher m = PLACEHOLDER.matcher(result);
             boolean replaced = false;
             StringBuffer sb = new StringBuffer();
             while (m.find()) {
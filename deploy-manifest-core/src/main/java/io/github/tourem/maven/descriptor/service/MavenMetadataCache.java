@@ -0,0 +1,269 @@
+package io.github.tourem.maven.descriptor.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Persistent cache of repository {@code maven-metadata.xml} documents, keyed by URL.
+ *
+ * Each entry is stored as two files named after the SHA-1 of the URL: the raw body ({@code .xml}) and its
+ * validators ({@code .properties}: ETag, Last-Modified, fetch time). Entries younger than the TTL are served
+ * without network access; older ones are revalidated with {@code If-None-Match}/{@code If-Modified-Since}.
+ * In offline mode only cached entries are returned, whatever their age.
+ * Optionally, documents a repository does not have (404) are remembered on disk for a separate, usually short, TTL
+ * ({@code .missing} marker files).
+ * Used through {@link MetadataHttpClient#fetchMetadata(String, int)}.
+ * @author tourem
+ */
+@Slf4j
+public class MavenMetadataCache {
+
+    public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private final Path directory;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final boolean offline;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger revalidated = new AtomicInteger();
+    private final AtomicInteger downloads = new AtomicInteger();
+    private final AtomicInteger offlineMisses = new AtomicInteger();
+    private final AtomicInteger negativeHits = new AtomicInteger();
+
+    /**
+     * One cached document with its HTTP validators.
+     */
+    public record Entry(byte[] body, String etag, String lastModified, long fetchedAt) {
+        Entry touch(long now) {
+            return new Entry(body, etag, lastModified, now);
+        }
+    }
+
+    /**
+     * @param directory cache directory
+     * @param ttl       age under which entries are used without revalidation (null = default)
+     * @param offline   never touch the network, serve cached entries only
+     */
+    public MavenMetadataCache(Path directory, Duration ttl, boolean offline) {
+        this(directory, ttl, Duration.ZERO, offline);
+    }
+
+    /**
+     * @param directory   cache directory
+     * @param ttl         age under which entries are used without revalidation (null = default)
+     * @param negativeTtl how long a 404 is remembered on disk (null or zero = not persisted)
+     * @param offline     never touch the network, serve cached entries only
+     */
+    public MavenMetadataCache(Path directory, Duration ttl, Duration negativeTtl, boolean offline) {
+        this.directory = directory;
+        this.ttlMillis = (ttl != null ? ttl : DEFAULT_TTL).toMillis();
+        this.negativeTtlMillis = negativeTtl != null ? negativeTtl.toMillis() : 0;
+        this.offline = offline;
+    }
+
+    /**
+     * Cache in the given directory; {@code null} selects ~/.m2/deploy-manifest/metadata.
+     */
+    public static MavenMetadataCache open(String directory, Duration ttl, boolean offline) {
+        return open(directory, ttl, Duration.ZERO, offline);
+    }
+
+    /**
+     * Cache in the given directory, persisting 404 answers for {@code negativeTtl}.
+     */
+    public static MavenMetadataCache open(String directory, Duration ttl, Duration negativeTtl, boolean offline) {
+        Path dir = (directory == null || directory.isBlank())
+                ? Path.of(System.getProperty("user.home"), ".m2", "deploy-manifest", "metadata")
+                : Path.of(directory);
+        return new MavenMetadataCache(dir.toAbsolutePath().normalize(), ttl, negativeTtl, offline);
+    }
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * Cached entry for the URL (memory first, then disk), or null.
+     */
+    public Entry get(String url) {
+        return entries.computeIfAbsent(url, this::load);
+    }
+
+    /**
+     * True when the entry can be served without contacting the repository.
+     */
+    public boolean isFresh(Entry entry, long now) {
+        return offline || now - entry.fetchedAt() < ttlMillis;
+    }
+
+    /**
+     * True when a 404 for the URL was recorded on disk less than the negative TTL ago.
+     */
+    boolean isKnownMissing(String url, long now) {
+        if (negativeTtlMillis <= 0) return false;
+        Path marker = directory.resolve(key(url) + ".missing");
+        if (!Files.isRegularFile(marker)) return false;
+        try (InputStream in = Files.newInputStream(marker)) {
+            Properties props = new Properties();
+            props.load(in);
+            boolean missing = url.equals(props.getProperty("url"))
+                    && now - Long.parseLong(props.getProperty("fetchedAt", "0")) < negativeTtlMillis;
+            if (missing) negativeHits.incrementAndGet();
+            return missing;
+        } catch (IOException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Remember on disk that the repository has no document at the URL (no-op without negative TTL).
+     */
+    void putMissing(String url, long now) {
+        if (negativeTtlMillis <= 0) return;
+        Properties props = new Properties();
+        props.setProperty("url", url);
+        props.setProperty("fetchedAt", Long.toString(now));
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, key(url), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                props.store(out, null);
+            }
+            Files.move(tmp, directory.resolve(key(url) + ".missing"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debug("Could not write negative metadata cache entry for {}: {}", url, e.getMessage());
+        }
+    }
+
+    void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    void recordOfflineMiss() {
+        offlineMisses.incrementAndGet();
+    }
+
+    /**
+     * Entry confirmed unchanged by a 304 response: restart its TTL.
+     */
+    Entry revalidate(String url, Entry entry, long now) {
+        revalidated.incrementAndGet();
+        Entry touched = entry.touch(now);
+        entries.put(url, touched);
+        store(url, touched);
+        return touched;
+    }
+
+    /**
+     * Store a freshly downloaded document.
+     */
+    Entry put(String url, byte[] body, String etag, String lastModified, long now) {
+        downloads.incrementAndGet();
+        Entry entry = new Entry(body, etag, lastModified, now);
+        entries.put(url, entry);
+        store(url, entry);
+        return entry;
+    }
+
+    public int hits() {
+        return hits.get();
+    }
+
+    public int revalidated() {
+        return revalidated.get();
+    }
+
+    public int downloads() {
+        return downloads.get();
+    }
+
+    public int offlineMisses() {
+        return offlineMisses.get();
+    }
+
+    public int negativeHits() {
+        return negativeHits.get();
+    }
+
+    /**
+     * One-line counters summary for build logs.
+     */
+    public String summary() {
+        return String.format("metadata cache: %d hits, %d revalidated, %d downloaded, %d known missing%s",
+                hits(), revalidated(), downloads(), negativeHits(),
+                offline ? ", " + offlineMisses() + " missing (offline)" : "");
+    }
+
+    private Entry load(String url) {
+        String key = key(url);
+        Path body = directory.resolve(key + ".xml");
+        Path meta = directory.resolve(key + ".properties");
+        if (!Files.isRegularFile(body) || !Files.isRegularFile(meta)) return null;
+        try (InputStream in = Files.newInputStream(meta)) {
+            Properties props = new Properties();
+            props.load(in);
+            // Hash collisions are practically impossible, but a foreign file must never be served for this URL
+            if (!url.equals(props.getProperty("url"))) return null;
+            long fetchedAt = Long.parseLong(props.getProperty("fetchedAt", "0"));
+            return new Entry(Files.readAllBytes(body), props.getProperty("etag"), props.getProperty("lastModified"), fetchedAt);
+        } catch (IOException | NumberFormatException e) {
+            log.debug("Ignoring unreadable metadata cache entry for {}: {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String url, Entry entry) {
+        String key = key(url);
+        Properties props = new Properties();
+        props.setProperty("url", url);
+        props.setProperty("fetchedAt", Long.toString(entry.fetchedAt()));
+        if (entry.etag() != null) props.setProperty("etag", entry.etag());
+        if (entry.lastModified() != null) props.setProperty("lastModified", entry.lastModified());
+        try {
+            Files.createDirectories(directory);
+            // Body first, validators last: a reader never sees validators for a body that is not there yet
+            writeAtomically(directory.resolve(key + ".xml"), entry.body());
+            Path tmp = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                props.store(out, null);
+            }
+            Files.move(tmp, directory.resolve(key + ".properties"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debug("Could not write metadata cache entry for {}: {}", url, e.getMessage());
+        }
+    }
+
+    private void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path tmp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        Files.write(tmp, bytes);
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String key(String url) {
+        try {
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(sha1.digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.tourem.maven.descriptor.service;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass StAX reader for repository {@code maven-metadata.xml} documents.
+ *
+ * Only the {@code <versioning>} section is read: {@code latest}, {@code release}, {@code lastUpdated} and the
+ * {@code versions/version} list. No DOM is built and the document is never converted to a String, which matters for
+ * artifacts with thousands of versions. DTDs and external entities are disabled.
+ * Shared by {@link DependencyVersionLookup}, {@link PluginCollector} and {@link RepositoryHealthChecker}.
+ * @author tourem
+ */
+public final class MavenMetadataParser {
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    /**
+     * Content of the {@code <versioning>} section; absent elements are null, versions keep document order.
+     */
+    public record Metadata(String latest, String release, String lastUpdated, List<String> versions) {
+
+        /**
+         * {@code <release>} when present, else {@code <latest>}, else null.
+         */
+        public String releaseOrLatest() {
+            return release != null ? release : latest;
+        }
+
+        /**
+         * {@code <latest>} when present, else {@code <release>}, else null.
+         */
+        public String latestOrRelease() {
+            return latest != null ? latest : release;
+        }
+    }
+
+    private MavenMetadataParser() {
+    }
+
+    public static Metadata parse(byte[] xml) throws XMLStreamException {
+        return parse(new ByteArrayInputStream(xml));
+    }
+
+    /**
+     * Read the document from the stream (not closed) in one pass.
+     */
+    public static Metadata parse(InputStream in) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+        try {
+            String latest = null;
+            String release = null;
+            String lastUpdated = null;
+            List<String> versions = new ArrayList<>();
+            // Depth of the current element: 1 = metadata, 2 = versioning, 3 = versions, 4 = version
+            int depth = 0;
+            boolean inVersioning = false;
+            boolean inVersions = false;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    String name = reader.getLocalName();
+                    if (depth == 2) {
+                        inVersioning = "versioning".equals(name);
+                    } else if (depth == 3 && inVersioning) {
+                        // text(reader) consumes the end element, hence the depth adjustments
+                        switch (name) {
+                            case "versions" -> inVersions = true;
+                            case "latest" -> { latest = text(reader); depth--; }
+                            case "release" -> { release = text(reader); depth--; }
+                            case "lastUpdated" -> { lastUpdated = text(reader); depth--; }
+                            default -> { }
+                        }
+                    } else if (depth == 4 && inVersions && "version".equals(name)) {
+                        String version = text(reader);
+                        depth--;
+                        if (version != null) versions.add(version);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == 3) inVersions = false;
+                    else if (depth == 2) inVersioning = false;
+                    depth--;
+                }
+            }
+            return new Metadata(latest, release, lastUpdated, versions);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Trimmed text of the current element, null when blank; leaves the reader on its end element.
+     */
+    private static String text(XMLStreamReader reader) throws XMLStreamException {
+        String value = reader.getElementText().trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -10,14 +10,16 @@ import io.github.tourem.maven.descriptor.spi.FrameworkDetector;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Plugin;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 
 import java.io.File;
-import java.io.FileReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -29,6 +31,11 @@ import java.util.stream.Stream;
 @Slf4j
 public class MavenProjectAnalyzer {
 
+    /** Modules analyzed ahead of the one being written, per analysis thread */
+    private static final int MODULE_WINDOW_PER_THREAD = 2;
+
+    private final PomModelCache pomCache;
+    private final ResourceIndexCache resourceIndexes;
     private final MavenRepositoryPathGenerator pathGenerator;
     private final SpringBootDetector springBootDetector;
     private final SpringBootProfileDetector profileDetector;
@@ -48,6 +55,7 @@ public class MavenProjectAnalyzer {
     private final io.github.tourem.maven.descriptor.model.PropertyOptions propertyOptions;
     private final PluginCollector pluginCollector;
     private final io.github.tourem.maven.descriptor.model.PluginOptions pluginOptions;
+    private final io.github.tourem.maven.descriptor.model.AnalysisOptions analysisOptions;
 
     /**
      * Default constructor that initializes all dependencies.
@@ -84,25 +92,7 @@ public class MavenProjectAnalyzer {
     public MavenProjectAnalyzer(io.github.tourem.maven.descriptor.model.DependencyTreeOptions depOptions,
                                 io.github.tourem.maven.descriptor.model.LicenseOptions licenseOptions,
                                 io.github.tourem.maven.descriptor.model.PropertyOptions propertyOptions) {
-        this.pathGenerator = new MavenRepositoryPathGenerator();
-        this.springBootDetector = new SpringBootDetector();
-        this.profileDetector = new SpringBootProfileDetector();
-        this.assemblyDetector = new MavenAssemblyDetector(pathGenerator);
-        this.environmentConfigDetector = new EnvironmentConfigDetector();
-        this.metadataDetector = new DeploymentMetadataDetector();
-        this.executablePluginDetector = new ExecutablePluginDetector();
-        this.enhancedExecutableDetector = new EnhancedExecutableDetector();
-        this.gitInfoCollector = new GitInfoCollector();
-        this.frameworkDetectors = loadFrameworkDetectors();
-        this.dockerImageDetector = new DockerImageDetector();
-        this.dependencyTreeCollector = new DependencyTreeCollector();
-        this.dependencyTreeOptions = depOptions != null ? depOptions : io.github.tourem.maven.descriptor.model.DependencyTreeOptions.builder().include(false).build();
-        this.licenseCollector = new LicenseCollector();
-        this.licenseOptions = licenseOptions != null ? licenseOptions : io.github.tourem.maven.descriptor.model.LicenseOptions.builder().include(false).build();
-        this.propertyCollector = new PropertyCollector();
-        this.propertyOptions = propertyOptions != null ? propertyOptions : io.github.tourem.maven.descriptor.model.PropertyOptions.builder().include(false).build();
-        this.pluginCollector = new PluginCollector();
-        this.pluginOptions = io.github.tourem.maven.descriptor.model.PluginOptions.builder().include(false).build();
+        this(depOptions, licenseOptions, propertyOptions, null, null, null);
     }
 
     /**
@@ -112,24 +102,67 @@ public class MavenProjectAnalyzer {
                                 io.github.tourem.maven.descriptor.model.LicenseOptions licenseOptions,
                                 io.github.tourem.maven.descriptor.model.PropertyOptions propertyOptions,
                                 io.github.tourem.maven.descriptor.model.PluginOptions pluginOptions) {
+        this(depOptions, licenseOptions, propertyOptions, pluginOptions,
+                io.github.tourem.maven.descriptor.model.AnalysisOptions.builder().build());
+    }
+
+    /**
+     * Constructor allowing all collector options plus the reactor analysis options to be provided by the plugin.
+     */
+    public MavenProjectAnalyzer(io.github.tourem.maven.descriptor.model.DependencyTreeOptions depOptions,
+                                io.github.tourem.maven.descriptor.model.LicenseOptions licenseOptions,
+                                io.github.tourem.maven.descriptor.model.PropertyOptions propertyOptions,
+                                io.github.tourem.maven.descriptor.model.PluginOptions pluginOptions,
+                                io.github.tourem.maven.descriptor.model.AnalysisOptions analysisOptions) {
+        this(depOptions, licenseOptions, propertyOptions, pluginOptions, analysisOptions, null);
+    }
+
+    /**
+     * Constructor allowing all collector options, the reactor analysis options and the versions selected by Maven
+     * dependency resolution per module (used by license collection) to be provided by the plugin.
+     */
+    public MavenProjectAnalyzer(io.github.tourem.maven.descriptor.model.DependencyTreeOptions depOptions,
+                                io.github.tourem.maven.descriptor.model.LicenseOptions licenseOptions,
+                                io.github.tourem.maven.descriptor.model.PropertyOptions propertyOptions,
+                                io.github.tourem.maven.descriptor.model.PluginOptions pluginOptions,
+                                io.github.tourem.maven.descriptor.model.AnalysisOptions analysisOptions,
+                                ResolvedVersionIndex resolvedVersions) {
+        this(depOptions, licenseOptions, propertyOptions, pluginOptions, analysisOptions, resolvedVersions, null);
+    }
+
+    /**
+     * Constructor additionally taking the HTTP client of the run, whose metadata cache serves plugin update checks
+     * (null = the shared client).
+     */
+    public MavenProjectAnalyzer(io.github.tourem.maven.descriptor.model.DependencyTreeOptions depOptions,
+                                io.github.tourem.maven.descriptor.model.LicenseOptions licenseOptions,
+                                io.github.tourem.maven.descriptor.model.PropertyOptions propertyOptions,
+                                io.github.tourem.maven.descriptor.model.PluginOptions pluginOptions,
+                                io.github.tourem.maven.descriptor.model.AnalysisOptions analysisOptions,
+                                ResolvedVersionIndex resolvedVersions,
+                                MetadataHttpClient http) {
+        this.pomCache = new PomModelCache();
+        this.resourceIndexes = new ResourceIndexCache();
         this.pathGenerator = new MavenRepositoryPathGenerator();
         this.springBootDetector = new SpringBootDetector();
-        this.profileDetector = new SpringBootProfileDetector();
+        this.analysisOptions = analysisOptions != null ? analysisOptions : io.github.tourem.maven.descriptor.model.AnalysisOptions.builder().build();
+        this.profileDetector = new SpringBootProfileDetector(pomCache, resourceIndexes,
+                this.analysisOptions.isParallel() ? this.analysisOptions.effectiveThreads() : 1);
         this.assemblyDetector = new MavenAssemblyDetector(pathGenerator);
-        this.environmentConfigDetector = new EnvironmentConfigDetector();
-        this.metadataDetector = new DeploymentMetadataDetector();
+        this.environmentConfigDetector = new EnvironmentConfigDetector(resourceIndexes);
+        this.metadataDetector = new DeploymentMetadataDetector(resourceIndexes);
         this.executablePluginDetector = new ExecutablePluginDetector();
-        this.enhancedExecutableDetector = new EnhancedExecutableDetector();
+        this.enhancedExecutableDetector = new EnhancedExecutableDetector(resourceIndexes);
         this.gitInfoCollector = new GitInfoCollector();
         this.frameworkDetectors = loadFrameworkDetectors();
-        this.dockerImageDetector = new DockerImageDetector();
+        this.dockerImageDetector = new DockerImageDetector(resourceIndexes);
         this.dependencyTreeCollector = new DependencyTreeCollector();
         this.dependencyTreeOptions = depOptions != null ? depOptions : io.github.tourem.maven.descriptor.model.DependencyTreeOptions.builder().include(false).build();
-        this.licenseCollector = new LicenseCollector();
+        this.licenseCollector = new LicenseCollector(pomCache, resolvedVersions);
         this.licenseOptions = licenseOptions != null ? licenseOptions : io.github.tourem.maven.descriptor.model.LicenseOptions.builder().include(false).build();
         this.propertyCollector = new PropertyCollector();
         this.propertyOptions = propertyOptions != null ? propertyOptions : io.github.tourem.maven.descriptor.model.PropertyOptions.builder().include(false).build();
-        this.pluginCollector = new PluginCollector();
+        this.pluginCollector = new PluginCollector(http);
         this.pluginOptions = pluginOptions != null ? pluginOptions : io.github.tourem.maven.descriptor.model.PluginOptions.builder().include(false).build();
     }
 
@@ -139,7 +172,11 @@ public class MavenProjectAnalyzer {
     private List<FrameworkDetector> loadFrameworkDetectors() {
         ServiceLoader<FrameworkDetector> loader = ServiceLoader.load(FrameworkDetector.class);
         List<FrameworkDetector> detectors = new ArrayList<>();
-        loader.forEach(detectors::add);
+        loader.forEach(detector -> {
+            detector.setPomCache(pomCache);
+            detector.setResourceIndexes(resourceIndexes);
+            detectors.add(detector);
+        });
 
         // Sort by priority (higher first)
         detectors.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
@@ -153,6 +190,17 @@ public class MavenProjectAnalyzer {
         return detectors;
     }
 
+    /**
+     * Spring Boot profiles of all reactor modules of the project, scanned in parallel when the analysis options
+     * enable it and read through the resource indexes of the current run.
+     *
+     * @param projectRootPath Root directory of the Maven project
+     * @return List of detected profile names (sorted, unique)
+     */
+    public List<String> detectSpringBootProfiles(Path projectRootPath) {
+        return profileDetector.detectProfilesRecursive(projectRootPath);
+    }
+
     /**
      * Analyze a Maven project and generate a descriptor.
      *
@@ -160,6 +208,42 @@ public class MavenProjectAnalyzer {
      * @return ProjectDescriptor containing all deployable modules
      */
     public ProjectDescriptor analyzeProject(Path projectRootPath) {
+        List<DeployableModule> deployableModules = new ArrayList<>();
+        ProjectDescriptor descriptor = analyzeProject(projectRootPath, new DescriptorSink() {
+            @Override
+            public void begin(ProjectDescriptor header) {
+            }
+
+            @Override
+            public void module(DeployableModule module) {
+                deployableModules.add(module);
+            }
+        });
+        return ProjectDescriptor.builder()
+                .projectGroupId(descriptor.projectGroupId())
+                .projectArtifactId(descriptor.projectArtifactId())
+                .projectVersion(descriptor.projectVersion())
+                .projectName(descriptor.projectName())
+                .projectDescription(descriptor.projectDescription())
+                .generatedAt(descriptor.generatedAt())
+                .deployableModules(deployableModules)
+                .totalModules(descriptor.totalModules())
+                .deployableModulesCount(descriptor.deployableModulesCount())
+                .buildInfo(descriptor.buildInfo())
+                .mavenRepositoryUrl(descriptor.mavenRepositoryUrl())
+                .build();
+    }
+
+    /**
+     * Analyze a Maven project and hand each deployable module to {@code sink} as soon as it is analyzed,
+     * in reactor order. Modules are not retained, so memory is bounded by the modules being analyzed
+     * rather than by the whole reactor.
+     *
+     * @param projectRootPath Root directory of the Maven project
+     * @param sink receives the descriptor header, then every deployable module
+     * @return ProjectDescriptor with counters and build info, and an empty module list
+     */
+    public ProjectDescriptor analyzeProject(Path projectRootPath, DescriptorSink sink) {
         log.info("Analyzing Maven project at: {}", projectRootPath);
 
         if (!Files.exists(projectRootPath) || !Files.isDirectory(projectRootPath)) {
@@ -170,38 +254,60 @@ public class MavenProjectAnalyzer {
         if (!rootPom.exists()) {
             throw new IllegalArgumentException("No pom.xml found at: " + projectRootPath);
         }
+        // Caches are scoped to one run: a reused analyzer starts empty
+        pomCache.clear();
+        resourceIndexes.clear();
+        licenseCollector.clear();
 
         try {
             Model rootModel = parsePom(rootPom);
-            List<DeployableModule> deployableModules = new ArrayList<>();
-            int totalModules = 0;
-
-            // Analyze root project
-            totalModules++;
-            DeployableModule rootModule = analyzeModule(rootModel, projectRootPath, projectRootPath, null);
-            if (rootModule != null) {
-                deployableModules.add(rootModule);
-            }
 
-            // Analyze sub-modules
-            if (rootModel.getModules() != null && !rootModel.getModules().isEmpty()) {
-                for (String moduleName : rootModel.getModules()) {
-                    Path modulePath = projectRootPath.resolve(moduleName);
-                    File modulePom = modulePath.resolve("pom.xml").toFile();
-
-                    if (modulePom.exists()) {
-                        totalModules++;
-                        Model moduleModel = parsePom(modulePom);
-                        DeployableModule module = analyzeModule(moduleModel, modulePath, projectRootPath, rootModel);
-                        if (module != null) {
-                            deployableModules.add(module);
-                        }
-
-                        // Recursively analyze nested modules
-                        totalModules += analyzeNestedModules(moduleModel, modulePath, projectRootPath, deployableModules, rootModel);
+            // Discover the whole module tree first, in the same order the sequential walk visits it
+            List<ModuleTask> tasks = new ArrayList<>();
+            tasks.add(new ModuleTask(rootModel, projectRootPath, null));
+            discoverNestedModules(rootModel, projectRootPath, rootModel, tasks);
+            int totalModules = tasks.size();
+
+            // Extract Maven repository URL from distributionManagement
+            String mavenRepositoryUrl = extractMavenRepositoryUrl(rootModel);
+            LocalDateTime generatedAt = LocalDateTime.now();
+            sink.begin(ProjectDescriptor.builder()
+                    .projectGroupId(resolveGroupId(rootModel))
+                    .projectArtifactId(rootModel.getArtifactId())
+                    .projectVersion(resolveVersion(rootModel))
+                    .projectName(rootModel.getName())
+                    .projectDescription(rootModel.getDescription())
+                    .generatedAt(generatedAt)
+                    .deployableModules(List.of())
+                    .mavenRepositoryUrl(mavenRepositoryUrl)
+                    .build());
+
+            IncrementalAnalysisState incrementalState = analysisOptions.isIncremental()
+                    ? IncrementalAnalysisState.load(Path.of(analysisOptions.getIncrementalStateFile()),
+                            analyzerConfiguration(), pomCache)
+                    : null;
+            // One bounded license pool for the whole run, whatever the number of modules analyzed concurrently
+            ExecutorService licensePool = licenseOptions.isInclude() && licenseOptions.isParallelResolution()
+                    ? LicenseCollector.newResolutionPool(licenseOptions)
+                    : null;
+            int deployableModulesCount;
+            try {
+                deployableModulesCount = analyzeModules(tasks, projectRootPath, incrementalState, licensePool, module -> {
+                    // Enrich modules with repository URLs
+                    if (mavenRepositoryUrl != null) {
+                        addRepositoryUrls(module, mavenRepositoryUrl);
                     }
+                    sink.module(module);
+                });
+            } finally {
+                if (licensePool != null) {
+                    licensePool.shutdownNow();
                 }
             }
+            if (incrementalState != null) {
+                incrementalState.save();
+                log.info("{}", incrementalState.summary());
+            }
 
             // Collect build info
             var gitBuildInfo = gitInfoCollector.collectBuildInfo(projectRootPath);
@@ -257,28 +363,10 @@ public class MavenProjectAnalyzer {
                     .plugins(plugins)
                     .build();
 
-            // Extract Maven repository URL from distributionManagement
-            String mavenRepositoryUrl = extractMavenRepositoryUrl(rootModel);
-
-            // Enrich modules with repository URLs
-            if (mavenRepositoryUrl != null) {
-                deployableModules.forEach(module -> {
-                    if (module.getRepositoryPath() != null) {
-                        module.setRepositoryUrl(mavenRepositoryUrl + "/" + module.getRepositoryPath());
-                    }
-                    if (module.getAssemblyArtifacts() != null) {
-                        List<AssemblyArtifact> enrichedAssemblies = module.getAssemblyArtifacts().stream()
-                            .map(assembly -> AssemblyArtifact.builder()
-                                .assemblyId(assembly.assemblyId())
-                                .format(assembly.format())
-                                .repositoryPath(assembly.repositoryPath())
-                                .repositoryUrl(mavenRepositoryUrl + "/" + assembly.repositoryPath())
-                                .build())
-                            .collect(Collectors.toList());
-                        module.setAssemblyArtifacts(enrichedAssemblies);
-                    }
-                });
-            }
+            log.debug("POM model cache: {} hits, {} misses, {} entries",
+                    pomCache.hits(), pomCache.misses(), pomCache.size());
+            log.debug("Resource index: {} directory scans for {} modules, {} configuration files parsed",
+                    resourceIndexes.scans(), resourceIndexes.size(), resourceIndexes.parses());
 
             return ProjectDescriptor.builder()
                     .projectGroupId(resolveGroupId(rootModel))
@@ -286,10 +374,10 @@ public class MavenProjectAnalyzer {
                     .projectVersion(resolveVersion(rootModel))
                     .projectName(rootModel.getName())
                     .projectDescription(rootModel.getDescription())
-                    .generatedAt(LocalDateTime.now())
-                    .deployableModules(deployableModules)
+                    .generatedAt(generatedAt)
+                    .deployableModules(List.of())
                     .totalModules(totalModules)
-                    .deployableModulesCount(deployableModules.size())
+                    .deployableModulesCount(deployableModulesCount)
                     .buildInfo(buildInfo)
                     .mavenRepositoryUrl(mavenRepositoryUrl)
                     .build();
@@ -301,32 +389,172 @@ public class MavenProjectAnalyzer {
     }
 
     /**
-     * Recursively analyze nested modules.
+     * Recursively discover nested modules (depth-first, declaration order).
      */
-    private int analyzeNestedModules(Model parentModel, Path parentPath, Path projectRoot,
-                                     List<DeployableModule> deployableModules, Model rootModel) throws Exception {
-        int count = 0;
-
+    private void discoverNestedModules(Model parentModel, Path parentPath, Model rootModel,
+                                       List<ModuleTask> tasks) throws Exception {
         if (parentModel.getModules() != null && !parentModel.getModules().isEmpty()) {
             for (String moduleName : parentModel.getModules()) {
                 Path modulePath = parentPath.resolve(moduleName);
                 File modulePom = modulePath.resolve("pom.xml").toFile();
 
                 if (modulePom.exists()) {
-                    count++;
                     Model moduleModel = parsePom(modulePom);
-                    DeployableModule module = analyzeModule(moduleModel, modulePath, projectRoot, rootModel);
-                    if (module != null) {
-                        deployableModules.add(module);
-                    }
+                    tasks.add(new ModuleTask(moduleModel, modulePath, rootModel));
 
                     // Continue recursion
-                    count += analyzeNestedModules(moduleModel, modulePath, projectRoot, deployableModules, rootModel);
+                    discoverNestedModules(moduleModel, modulePath, rootModel, tasks);
+                }
+            }
+        }
+    }
+
+    /**
+     * Analyze the discovered modules, sequentially or on a worker pool depending on the analysis options.
+     * Deployable modules are handed to {@code consumer} in discovery order, whatever the completion order was.
+     * In parallel, at most {@value #MODULE_WINDOW_PER_THREAD} modules per thread are submitted ahead of the one
+     * being handed over, so a streaming consumer holds a bounded number of modules, not the whole reactor.
+     *
+     * @return the number of deployable modules
+     */
+    private int analyzeModules(List<ModuleTask> tasks, Path projectRoot, IncrementalAnalysisState incrementalState,
+                               ExecutorService licensePool, ModuleConsumer consumer) throws Exception {
+        int deployableModules = 0;
+        int threads = Math.min(analysisOptions.effectiveThreads(), tasks.size());
+
+        if (!analysisOptions.isParallel() || threads <= 1) {
+            for (ModuleTask task : tasks) {
+                DeployableModule module = analyzeOrReuse(task, projectRoot, incrementalState, licensePool);
+                if (module != null) {
+                    consumer.accept(module);
+                    deployableModules++;
+                }
+            }
+            return deployableModules;
+        }
+
+        log.info("Analyzing {} modules in parallel ({} threads)", tasks.size(), threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("deploy-manifest-analyzer"));
+        try {
+            // Bounded window of in-flight modules: a finished module waits for the earlier ones to be written,
+            // so at most this many results are held at once
+            int window = MODULE_WINDOW_PER_THREAD * threads;
+            Iterator<ModuleTask> pending = tasks.iterator();
+            Deque<Future<DeployableModule>> inFlight = new ArrayDeque<>(window);
+            while (inFlight.size() < window && pending.hasNext()) {
+                inFlight.add(submit(executor, pending.next(), projectRoot, incrementalState, licensePool));
+            }
+            while (!inFlight.isEmpty()) {
+                DeployableModule module;
+                Future<DeployableModule> future = inFlight.poll();
+                try {
+                    module = future.get();
+                } catch (ExecutionException e) {
+                    // Surface the same failure the sequential walk would have raised
+                    if (e.getCause() instanceof Exception cause) {
+                        throw cause;
+                    }
+                    throw e;
+                }
+                if (module != null) {
+                    consumer.accept(module);
+                    deployableModules++;
+                }
+                if (pending.hasNext()) {
+                    inFlight.add(submit(executor, pending.next(), projectRoot, incrementalState, licensePool));
                 }
             }
+        } finally {
+            executor.shutdownNow();
         }
+        return deployableModules;
+    }
+
+    private Future<DeployableModule> submit(ExecutorService executor, ModuleTask task, Path projectRoot,
+                                            IncrementalAnalysisState incrementalState, ExecutorService licensePool) {
+        return executor.submit(() -> analyzeOrReuse(task, projectRoot, incrementalState, licensePool));
+    }
 
-        return count;
+    /**
+     * Analyze the module, or reuse its previous result when incremental analysis finds its inputs unchanged.
+     */
+    private DeployableModule analyzeOrReuse(ModuleTask task, Path projectRoot, IncrementalAnalysisState incrementalState,
+                                            ExecutorService licensePool) {
+        if (incrementalState == null) {
+            return analyzeModule(task.model(), task.modulePath(), projectRoot, task.parentModel(), licensePool);
+        }
+        String moduleKey = projectRoot.toAbsolutePath().normalize()
+                .relativize(task.modulePath().toAbsolutePath().normalize()).toString();
+        String fingerprint = incrementalState.fingerprint(task.model(), task.modulePath(), projectRoot);
+        Optional<IncrementalAnalysisState.Entry> previous = incrementalState.lookup(moduleKey, fingerprint);
+        if (previous.isPresent()) {
+            log.debug("Module {} unchanged, reusing previous analysis", task.model().getArtifactId());
+            DeployableModule module = previous.get().module();
+            // System properties and environment are not part of the fingerprint: read them for this run
+            if (module != null && propertyOptions != null && propertyOptions.isInclude()) {
+                module.setProperties(collectProperties(task.model(), task.modulePath()));
+            }
+            return module;
+        }
+        DeployableModule module = analyzeModule(task.model(), task.modulePath(), projectRoot, task.parentModel(), licensePool);
+        incrementalState.record(moduleKey, fingerprint, module);
+        return module;
+    }
+
+    /**
+     * Build properties of the module (POM, system and environment per options), or null when not collected.
+     */
+    private io.github.tourem.maven.descriptor.model.BuildProperties collectProperties(Model model, Path modulePath) {
+        try {
+            if (propertyOptions != null && propertyOptions.isInclude()) {
+                return propertyCollector.collect(model, modulePath, propertyOptions).properties();
+            }
+        } catch (Exception e) {
+            log.debug("Property collection failed for {}:{} - {}", resolveGroupId(model), model.getArtifactId(), e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Every option the analysis of a module depends on; a change invalidates all incremental results.
+     */
+    private String analyzerConfiguration() {
+        return String.join("|", String.valueOf(dependencyTreeOptions), String.valueOf(licenseOptions),
+                String.valueOf(propertyOptions), String.valueOf(pluginOptions),
+                frameworkDetectors.stream().map(FrameworkDetector::getFrameworkName).collect(Collectors.joining(",")));
+    }
+
+    /**
+     * A discovered module waiting to be analyzed.
+     */
+    private record ModuleTask(Model model, Path modulePath, Model parentModel) {}
+
+    /**
+     * Receives analyzed deployable modules.
+     */
+    @FunctionalInterface
+    private interface ModuleConsumer {
+        void accept(DeployableModule module) throws Exception;
+    }
+
+    /**
+     * Set the repository URLs of the module and its assemblies from the repository base URL.
+     */
+    private void addRepositoryUrls(DeployableModule module, String mavenRepositoryUrl) {
+        if (module.getRepositoryPath() != null) {
+            module.setRepositoryUrl(mavenRepositoryUrl + "/" + module.getRepositoryPath());
+        }
+        if (module.getAssemblyArtifacts() != null) {
+            List<AssemblyArtifact> enrichedAssemblies = module.getAssemblyArtifacts().stream()
+                .map(assembly -> AssemblyArtifact.builder()
+                    .assemblyId(assembly.assemblyId())
+                    .format(assembly.format())
+                    .repositoryPath(assembly.repositoryPath())
+                    .repositoryUrl(mavenRepositoryUrl + "/" + assembly.repositoryPath())
+                    .build())
+                .collect(Collectors.toList());
+            module.setAssemblyArtifacts(enrichedAssemblies);
+        }
     }
 
     /**
@@ -336,8 +564,10 @@ public class MavenProjectAnalyzer {
      * @param modulePath the path to the module
      * @param projectRoot the root path of the project
      * @param parentModel the parent Maven model (can be null for root module)
+     * @param licensePool pool shared by the license resolution of every module of the run (null when not parallel)
      */
-    private DeployableModule analyzeModule(Model model, Path modulePath, Path projectRoot, Model parentModel) {
+    private DeployableModule analyzeModule(Model model, Path modulePath, Path projectRoot, Model parentModel,
+                                           ExecutorService licensePool) {
         String packaging = model.getPackaging() != null ? model.getPackaging() : "jar";
         PackagingType packagingType = PackagingType.fromString(packaging);
 
@@ -436,23 +666,14 @@ public class MavenProjectAnalyzer {
         try {
             boolean collectLicenses = licenseOptions != null && licenseOptions.isInclude();
             if (collectLicenses) {
-                licenseInfo = licenseCollector.collect(model, modulePath, licenseOptions);
+                licenseInfo = licenseCollector.collect(model, modulePath, licenseOptions, licensePool);
             }
         } catch (Exception e) {
             log.debug("License collection failed for {}:{} - {}", groupId, artifactId, e.getMessage());
         }
 
         // Property collection (optional, can apply to any deployable module)
-        io.github.tourem.maven.descriptor.model.BuildProperties propertyInfo = null;
-        try {
-            boolean collectProperties = propertyOptions != null && propertyOptions.isInclude();
-            if (collectProperties) {
-                var result = propertyCollector.collect(model, modulePath, propertyOptions);
-                propertyInfo = result.properties();
-            }
-        } catch (Exception e) {
-            log.debug("Property collection failed for {}:{} - {}", groupId, artifactId, e.getMessage());
-        }
+        io.github.tourem.maven.descriptor.model.BuildProperties propertyInfo = collectProperties(model, modulePath);
 
         // Plugin collection (optional, can apply to any deployable module)
         io.github.tourem.maven.descriptor.model.PluginInfo pluginInfo = null;
@@ -504,10 +725,7 @@ public class MavenProjectAnalyzer {
      * Parse a POM file into a Maven Model.
      */
     private Model parsePom(File pomFile) throws Exception {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-        try (FileReader fileReader = new FileReader(pomFile)) {
-            return reader.read(fileReader);
-        }
+        return pomCache.read(pomFile.toPath());
     }
 
     /**
@@ -0,0 +1,236 @@
+package io.github.tourem.maven.descriptor.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared HTTP layer for repository metadata and GitHub lookups.
+ *
+ * Wraps a single pooled {@link HttpClient} (HTTP/2 preferred, HTTP/1.1 fallback) so that all requests of a run
+ * reuse connections and TLS sessions. Concurrency is bounded globally and per host.
+ * Create one per run, hand it to every service of the run and close it when done: its negative lookups, ETags and
+ * circuit breakers live exactly as long as the client.
+ * @author tourem
+ */
+@Slf4j
+public class MetadataHttpClient implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+    public static final int DEFAULT_MAX_PER_HOST = 6;
+    public static final int DEFAULT_CONNECT_TIMEOUT_MS = 5000;
+
+    static final String USER_AGENT = "deploy-manifest-plugin";
+
+    private final HttpClient client;
+    private final ExecutorService executor;
+    private final Semaphore globalPermits;
+    private final int maxPerHost;
+    private final ConcurrentMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+    private final MavenMetadataCache metadataCache;
+    private final RepositoryStats repositoryStats;
+    private final Set<String> missingMetadata = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger notFound = new AtomicInteger();
+    private final AtomicInteger negativeHits = new AtomicInteger();
+
+    public MetadataHttpClient() {
+        this(DEFAULT_MAX_CONCURRENCY, DEFAULT_MAX_PER_HOST, DEFAULT_CONNECT_TIMEOUT_MS);
+    }
+
+    /**
+     * @param maxConcurrency   maximum requests in flight overall (0 or less = default)
+     * @param maxPerHost       maximum requests in flight per host (0 or less = default)
+     * @param connectTimeoutMs connection timeout (0 or less = default)
+     */
+    public MetadataHttpClient(int maxConcurrency, int maxPerHost, int connectTimeoutMs) {
+        this(maxConcurrency, maxPerHost, connectTimeoutMs, null);
+    }
+
+    /**
+     * @param maxConcurrency   maximum requests in flight overall (0 or less = default)
+     * @param maxPerHost       maximum requests in flight per host (0 or less = default)
+     * @param connectTimeoutMs connection timeout (0 or less = default)
+     * @param metadataCache    persistent cache used by {@link #fetchMetadata(String, int)} (null = no cache)
+     */
+    public MetadataHttpClient(int maxConcurrency, int maxPerHost, int connectTimeoutMs, MavenMetadataCache metadataCache) {
+        this(maxConcurrency, maxPerHost, connectTimeoutMs, metadataCache, null);
+    }
+
+    /**
+     * @param maxConcurrency   maximum requests in flight overall (0 or less = default)
+     * @param maxPerHost       maximum requests in flight per host (0 or less = default)
+     * @param connectTimeoutMs connection timeout (0 or less = default)
+     * @param metadataCache    persistent cache used by {@link #fetchMetadata(String, int)} (null = no cache)
+     * @param repositoryStats  per-repository statistics and circuit breakers (null = defaults)
+     */
+    public MetadataHttpClient(int maxConcurrency, int maxPerHost, int connectTimeoutMs,
+                              MavenMetadataCache metadataCache, RepositoryStats repositoryStats) {
+        this.metadataCache = metadataCache;
+        this.repositoryStats = repositoryStats != null ? repositoryStats : new RepositoryStats();
+        int global = maxConcurrency > 0 ? maxConcurrency : DEFAULT_MAX_CONCURRENCY;
+        this.maxPerHost = maxPerHost > 0 ? maxPerHost : DEFAULT_MAX_PER_HOST;
+        this.globalPermits = new Semaphore(global, true);
+        this.executor = Executors.newCachedThreadPool(new DaemonThreadFactory("deploy-manifest-http"));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs > 0 ? connectTimeoutMs : DEFAULT_CONNECT_TIMEOUT_MS))
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * Request builder preset with the plugin User-Agent and the given timeout.
+     */
+    public HttpRequest.Builder request(String url, int timeoutMs) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofMillis(timeoutMs))
+                .header("User-Agent", USER_AGENT)
+                .GET();
+    }
+
+    /**
+     * Plain GET returning the body as bytes, whatever the status code.
+     */
+    public HttpResponse<byte[]> get(String url, int timeoutMs) throws IOException, InterruptedException {
+        return send(request(url, timeoutMs).build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * Fetch a {@code maven-metadata.xml} document, going through the metadata cache when one is configured.
+     * Stale entries are revalidated with conditional headers and still served if the repository cannot be reached.
+     * Documents the repository does not have (404/410) are remembered for the lifetime of this client,
+     * and on disk when the metadata cache keeps negative entries.
+     *
+     * @return the document body, or null when the repository has no such document (or it is not cached offline)
+     * @throws IOException on connection failures, timeouts and 5xx answers, unless a stale cached copy exists
+     */
+    public byte[] fetchMetadata(String url, int timeoutMs) throws IOException, InterruptedException {
+        if (missingMetadata.contains(url)) {
+            negativeHits.incrementAndGet();
+            return null;
+        }
+        MavenMetadataCache cache = metadataCache;
+        long now = System.currentTimeMillis();
+        MavenMetadataCache.Entry cached = null;
+        if (cache != null) {
+            if (cache.isKnownMissing(url, now)) {
+                missingMetadata.add(url);
+                negativeHits.incrementAndGet();
+                return null;
+            }
+            cached = cache.get(url);
+            if (cached != null && cache.isFresh(cached, now)) {
+                cache.recordHit();
+                return cached.body();
+            }
+            if (cache.isOffline()) {
+                cache.recordOfflineMiss();
+                return null;
+            }
+        }
+
+        HttpRequest.Builder request = request(url, timeoutMs);
+        if (cached != null && cached.etag() != null) request.header("If-None-Match", cached.etag());
+        if (cached != null && cached.lastModified() != null) request.header("If-Modified-Since", cached.lastModified());
+        try {
+            HttpResponse<byte[]> response = send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            int status = response.statusCode();
+            if (status == 304 && cached != null) {
+                return cache.revalidate(url, cached, now).body();
+            }
+            if (isSuccess(status)) {
+                return cache == null ? response.body() : cache.put(url, response.body(),
+                        response.headers().firstValue("ETag").orElse(null),
+                        response.headers().firstValue("Last-Modified").orElse(null), now).body();
+            }
+            if (status == 404 || status == 410) {
+                notFound.incrementAndGet();
+                missingMetadata.add(url);
+                if (cache != null) cache.putMissing(url, now);
+                return null;
+            }
+            if (status >= 500) {
+                throw new IOException("HTTP " + status + " from " + url);
+            }
+            return null;
+        } catch (IOException e) {
+            if (cached == null) throw e;
+            log.debug("Serving stale metadata for {}: {}", url, e.getMessage());
+            return cached.body();
+        }
+    }
+
+    /**
+     * Counters of this client for build logs: negative cache, metadata cache and per-repository statistics.
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder()
+                .append("metadata lookups: ").append(notFound.get()).append(" not found, ")
+                .append(negativeHits.get()).append(" answered from the negative cache");
+        if (metadataCache != null) {
+            sb.append(System.lineSeparator()).append(metadataCache.summary());
+        }
+        return sb.append(System.lineSeparator()).append(repositoryStats.summary()).toString();
+    }
+
+    /**
+     * Metadata cache of this client, or null.
+     */
+    public MavenMetadataCache metadataCache() {
+        return metadataCache;
+    }
+
+    /**
+     * Latency, failure and circuit breaker state of the repositories queried through this client.
+     */
+    public RepositoryStats repositoryStats() {
+        return repositoryStats;
+    }
+
+    /**
+     * Send a request once a per-host and a global permit are available.
+     */
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        Semaphore host = hostPermits.computeIfAbsent(hostKey(request.uri()), k -> new Semaphore(maxPerHost, true));
+        // Take the host permit first so a slow host never holds global permits while queued
+        host.acquire();
+        try {
+            globalPermits.acquire();
+            try {
+                return client.send(request, handler);
+            } finally {
+                globalPermits.release();
+            }
+        } finally {
+            host.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    private static String hostKey(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+}
@@ -8,13 +8,7 @@ import org.apache.maven.model.Plugin;
 import org.apache.maven.model.PluginExecution;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -25,8 +19,31 @@ import java.util.stream.Collectors;
 @Slf4j
 public class PluginCollector {
 
+    private final MetadataHttpClient http;
+
+    public PluginCollector() {
+        this(null);
+    }
+
+    /**
+     * @param http client of the run used for plugin update checks (null = a client opened and closed by each
+     *             {@link #collect} that checks updates)
+     */
+    public PluginCollector(MetadataHttpClient http) {
+        this.http = http;
+    }
+
     public PluginInfo collect(Model model, Path modulePath, PluginOptions options) {
         if (model == null) return null;
+        if (http != null || options == null || !options.isCheckPluginUpdates()) {
+            return collect(model, options, http);
+        }
+        try (MetadataHttpClient own = new MetadataHttpClient()) {
+            return collect(model, options, own);
+        }
+    }
+
+    private PluginInfo collect(Model model, PluginOptions options, MetadataHttpClient http) {
         Build build = model.getBuild();
         if (build == null) {
             return PluginInfo.builder()
@@ -121,9 +138,9 @@ public class PluginCollector {
             // Optional: check updates
             if (options != null && options.isCheckPluginUpdates() && g != null && a != null && v != null) {
                 try {
-                    String latest = fetchLatestReleaseVersion(g, a, options.getUpdateCheckTimeoutMillis());
-                    if (latest != null && !latest.equals(v)) {
-                        int behind = nullSafeCompareOrdinal(v, latest) ? 1 : 1; // best-effort
+                    String latest = fetchLatestReleaseVersion(http, g, a, options.getUpdateCheckTimeoutMillis());
+                    if (latest != null && MavenVersion.compare(latest, v) > 0) {
+                        int behind = 1; // best-effort
                         builder.outdated(PluginOutdatedInfo.builder().current(v).latest(latest).behind(behind).build());
                         outdatedCount++;
                     }
@@ -222,55 +239,14 @@ public class PluginCollector {
         }
     }
 
-    private String fetchLatestReleaseVersion(String groupId, String artifactId, int timeoutMillis) throws Exception {
+    private static String fetchLatestReleaseVersion(MetadataHttpClient http, String groupId, String artifactId,
+                                                    int timeoutMillis) throws Exception {
         String path = groupId.replace('.', '/') + "/" + artifactId + "/maven-metadata.xml";
         String url = "https://repo1.maven.org/maven2/" + path;
-        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(timeoutMillis)).build();
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(Duration.ofMillis(timeoutMillis))
-                .header("User-Agent", "deploy-manifest-plugin/1.0")
-                .GET()
-                .build();
-        HttpResponse<byte[]> resp = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
-        if (resp.statusCode() >= 200 && resp.statusCode() < 300) {
-            String xml = new String(resp.body(), StandardCharsets.UTF_8);
-            // very small parser: try <release> first, fallback to <latest>
-            String release = extractTag(xml, "release");
-            if (release == null || release.isBlank()) release = extractTag(xml, "latest");
-            return (release == null || release.isBlank()) ? null : release.trim();
+        byte[] body = http.fetchMetadata(url, timeoutMillis);
+        if (body != null) {
+            return MavenMetadataParser.parse(body).releaseOrLatest();
         }
         return null;
     }
-
-    private String extractTag(String xml, String tag) {
-        String start = "<" + tag + ">";
-        String end = "</" + tag + ">";
-        int i = xml.indexOf(start);
-        int j = xml.indexOf(end);
-        if (i >= 0 && j > i) return xml.substring(i + start.length(), j);
-        return null;
-    }
-
-    // very naive comparator: return true if likely behind
-    private boolean nullSafeCompareOrdinal(String current, String latest) {
-        try {
-            if (Objects.equals(current, latest)) return false;
-            List<String> c = Arrays.asList(current.split("\\."));
-            List<String> l = Arrays.asList(latest.split("\\."));
-            int n = Math.max(c.size(), l.size());
-            for (int i = 0; i < n; i++) {
-                int ci = i < c.size() ? parseIntSafe(c.get(i)) : 0;
-                int li = i < l.size() ? parseIntSafe(l.get(i)) : 0;
-                if (li > ci) return true;
-                if (li < ci) return false;
-            }
-        } catch (Exception ignore) { }
-        return true;
-    }
-
-    private int parseIntSafe(String s) {
-        try { return Integer.parseInt(s.replaceAll("[^0-9]", "").trim()); } catch (Exception e) { return 0; }
-    }
 }
-
@@ -0,0 +1,148 @@
+package io.github.tourem.maven.descriptor.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe cache of parsed POM models, shared by the analyzer and its collectors so that
+ * each pom.xml is parsed once per analysis run. Each analyzer owns its instance and passes it
+ * explicitly; there is no JVM-wide instance, so nothing outlives the run in a long-lived JVM
+ * (Maven daemon, IDE).
+ *
+ * Entries are keyed by canonical path (local-repository POMs are resolved from their G:A:V first)
+ * and are re-parsed when the file's modification time or size changes.
+ * Cached models are shared instances: callers must treat them as read-only.
+ * @author tourem
+ */
+@Slf4j
+public class PomModelCache {
+
+    private final ConcurrentMap<Path, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Read a POM file, parsing it only if it is not cached or changed on disk since it was cached.
+     *
+     * @param pomFile path to the pom.xml
+     * @return the parsed model
+     * @throws Exception if the file cannot be read or parsed (failures are not cached)
+     */
+    public Model read(Path pomFile) throws Exception {
+        Path key = canonical(pomFile);
+        BasicFileAttributes attrs = Files.readAttributes(key, BasicFileAttributes.class);
+        long mtime = attrs.lastModifiedTime().toMillis();
+        long size = attrs.size();
+
+        Entry cached = entries.get(key);
+        if (cached != null && cached.matches(mtime, size)) {
+            hits.incrementAndGet();
+            return cached.model();
+        }
+
+        Entry[] parsed = new Entry[1];
+        Exception[] failure = new Exception[1];
+        Entry result = entries.compute(key, (k, current) -> {
+            // Another thread may have parsed the same file while we were waiting
+            if (current != null && current.matches(mtime, size)) {
+                return current;
+            }
+            try {
+                parsed[0] = new Entry(parse(k), mtime, size);
+                return parsed[0];
+            } catch (Exception e) {
+                failure[0] = e;
+                return current;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        if (parsed[0] != null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return result.model();
+    }
+
+    /**
+     * Read a POM file, returning {@code null} instead of failing.
+     */
+    public Model readQuietly(Path pomFile) {
+        try {
+            if (pomFile == null || !Files.isRegularFile(pomFile)) return null;
+            return read(pomFile);
+        } catch (Exception e) {
+            log.debug("Failed to read POM {} - {}", pomFile, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Read the POM of an artifact from the local Maven repository ({@code maven.repo.local} or ~/.m2/repository).
+     *
+     * @return the parsed model, or {@code null} if coordinates are incomplete or the POM is absent/unreadable
+     */
+    public Model readFromLocalRepo(String groupId, String artifactId, String version) {
+        if (groupId == null || artifactId == null || version == null) return null;
+        return readQuietly(localRepoPom(groupId, artifactId, version));
+    }
+
+    /**
+     * Location of an artifact POM in the local Maven repository.
+     */
+    public static Path localRepoPom(String groupId, String artifactId, String version) {
+        String repoRoot = System.getProperty("maven.repo.local");
+        if (repoRoot == null || repoRoot.isBlank()) {
+            repoRoot = System.getProperty("user.home") + File.separator + ".m2" + File.separator + "repository";
+        }
+        return Path.of(repoRoot, groupId.replace('.', File.separatorChar), artifactId, version,
+                artifactId + "-" + version + ".pom");
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private static Model parse(Path pomFile) throws Exception {
+        MavenXpp3Reader reader = new MavenXpp3Reader();
+        // Stream input lets the reader honour the encoding declared in the XML prolog
+        try (InputStream in = Files.newInputStream(pomFile)) {
+            return reader.read(in);
+        }
+    }
+
+    private static Path canonical(Path pomFile) throws IOException {
+        return pomFile.toAbsolutePath().normalize().toRealPath();
+    }
+
+    private record Entry(Model model, long mtime, long size) {
+        boolean matches(long otherMtime, long otherSize) {
+            return mtime == otherMtime && size == otherSize;
+        }
+    }
+}
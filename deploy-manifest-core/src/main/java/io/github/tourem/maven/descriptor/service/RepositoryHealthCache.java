@@ -0,0 +1,231 @@
+package io.github.tourem.maven.descriptor.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Persistent cache of the data repository health checks are computed from.
+ *
+ * Two kinds of entries are kept: Maven Central facts per {@code groupId:artifactId} (latest version, number of
+ * versions, last release date, SCM URL) and GitHub facts per {@code owner/name} (see {@link GitHubClient.RepositoryInfo}).
+ * Artifacts of the same repository share its GitHub entry. GitHub entries are also keyed by their source
+ * ({@link GitHubClient#source()}: API URL and query mode), so a GitHub Enterprise instance never serves github.com
+ * data and GraphQL and REST contributor counts are not mixed. Health levels are not stored: they are derived again
+ * on every run, so day-based thresholds stay exact while entries age.
+ *
+ * Each entry is one {@code .properties} file named after the SHA-1 of its key, replaced atomically.
+ * Entries younger than the TTL are used without network access; older ones are fetched again.
+ * In offline mode cached entries are used whatever their age.
+ * @author tourem
+ */
+@Slf4j
+public class RepositoryHealthCache {
+
+    public static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+    private static final String ARTIFACT = "artifact";
+    private static final String GITHUB = "github";
+
+    private final Path directory;
+    private final long ttlMillis;
+    private final boolean offline;
+    private final Map<String, Optional<Properties>> entries = new ConcurrentHashMap<>();
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicInteger stores = new AtomicInteger();
+
+    /**
+     * Maven Central data of one artifact; {@code scmUrl} is null when its POM declares none.
+     */
+    public record ArtifactInfo(String latestVersion, Integer totalVersions, Instant lastReleaseDate, String scmUrl) {
+    }
+
+    /**
+     * @param directory cache directory
+     * @param ttl       age under which entries are used without fetching again (null = default)
+     * @param offline   use cached entries whatever their age
+     */
+    public RepositoryHealthCache(Path directory, Duration ttl, boolean offline) {
+        this.directory = directory;
+        this.ttlMillis = (ttl != null ? ttl : DEFAULT_TTL).toMillis();
+        this.offline = offline;
+    }
+
+    /**
+     * Cache in the given directory; {@code null} selects ~/.m2/deploy-manifest/health.
+     */
+    public static RepositoryHealthCache open(String directory, Duration ttl, boolean offline) {
+        Path dir = (directory == null || directory.isBlank())
+                ? Path.of(System.getProperty("user.home"), ".m2", "deploy-manifest", "health")
+                : Path.of(directory);
+        return new RepositoryHealthCache(dir.toAbsolutePath().normalize(), ttl, offline);
+    }
+
+    /**
+     * Fresh Maven Central data of {@code groupId:artifactId}, or null.
+     */
+    public ArtifactInfo getArtifact(String groupId, String artifactId, long now) {
+        Properties props = fresh(ARTIFACT, groupId + ":" + artifactId, now);
+        if (props == null) return null;
+        return new ArtifactInfo(props.getProperty("latestVersion"),
+                integer(props.getProperty("totalVersions")),
+                instant(props.getProperty("lastReleaseDate")),
+                props.getProperty("scmUrl"));
+    }
+
+    public void putArtifact(String groupId, String artifactId, ArtifactInfo info, long now) {
+        Properties props = new Properties();
+        set(props, "latestVersion", info.latestVersion());
+        set(props, "totalVersions", info.totalVersions());
+        set(props, "lastReleaseDate", info.lastReleaseDate());
+        set(props, "scmUrl", info.scmUrl());
+        store(ARTIFACT, groupId + ":" + artifactId, props, now);
+    }
+
+    /**
+     * Fresh GitHub data of {@code owner/name} fetched from {@code source}, or null.
+     */
+    public GitHubClient.RepositoryInfo getRepository(String source, String ownerRepo, long now) {
+        Properties props = fresh(GITHUB, source + " " + ownerRepo, now);
+        if (props == null) return null;
+        return new GitHubClient.RepositoryInfo(ownerRepo,
+                integer(props.getProperty("starCount")),
+                integer(props.getProperty("forkCount")),
+                integer(props.getProperty("openIssueCount")),
+                props.getProperty("archived") != null ? Boolean.valueOf(props.getProperty("archived")) : null,
+                props.getProperty("license"),
+                instant(props.getProperty("lastCommitDate")),
+                integer(props.getProperty("contributorCount")));
+    }
+
+    public void putRepository(String source, GitHubClient.RepositoryInfo info, long now) {
+        Properties props = new Properties();
+        set(props, "starCount", info.starCount());
+        set(props, "forkCount", info.forkCount());
+        set(props, "openIssueCount", info.openIssueCount());
+        set(props, "archived", info.archived());
+        set(props, "license", info.license());
+        set(props, "lastCommitDate", info.lastCommitDate());
+        set(props, "contributorCount", info.contributorCount());
+        store(GITHUB, source + " " + info.ownerRepo(), props, now);
+    }
+
+    public int hits() {
+        return hits.get();
+    }
+
+    public int misses() {
+        return misses.get();
+    }
+
+    public int stores() {
+        return stores.get();
+    }
+
+    /**
+     * One-line counters summary for build logs.
+     */
+    public String summary() {
+        return String.format("repository health cache: %d hits, %d misses, %d stored%s",
+                hits(), misses(), stores(), offline ? " (offline)" : "");
+    }
+
+    private Properties fresh(String type, String key, long now) {
+        Properties props = entries.computeIfAbsent(type + ":" + key, k -> load(type, key)).orElse(null);
+        if (props != null) {
+            try {
+                long fetchedAt = Long.parseLong(props.getProperty("fetchedAt", "0"));
+                if (offline || now - fetchedAt < ttlMillis) {
+                    hits.incrementAndGet();
+                    return props;
+                }
+            } catch (NumberFormatException ignored) {
+                // Treated as stale
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    private Optional<Properties> load(String type, String key) {
+        Path file = directory.resolve(fileName(type, key));
+        if (!Files.isRegularFile(file)) return Optional.empty();
+        try (InputStream in = Files.newInputStream(file)) {
+            Properties props = new Properties();
+            props.load(in);
+            // A foreign file must never be served for this key
+            if (!type.equals(props.getProperty("type")) || !key.equals(props.getProperty("key"))) return Optional.empty();
+            return Optional.of(props);
+        } catch (IOException e) {
+            log.debug("Ignoring unreadable repository health cache entry for {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(String type, String key, Properties props, long now) {
+        props.setProperty("type", type);
+        props.setProperty("key", key);
+        props.setProperty("fetchedAt", Long.toString(now));
+        entries.put(type + ":" + key, Optional.of(props));
+        stores.incrementAndGet();
+        String fileName = fileName(type, key);
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, fileName, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                props.store(out, null);
+            }
+            Files.move(tmp, directory.resolve(fileName),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debug("Could not write repository health cache entry for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static void set(Properties props, String name, Object value) {
+        if (value != null) props.setProperty(name, value.toString());
+    }
+
+    private static Integer integer(String value) {
+        try {
+            return value != null ? Integer.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Instant instant(String value) {
+        try {
+            return value != null ? Instant.parse(value) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String fileName(String type, String key) {
+        try {
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            return type + "-" + HexFormat.of().formatHex(sha1.digest(key.getBytes(StandardCharsets.UTF_8))) + ".properties";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+}
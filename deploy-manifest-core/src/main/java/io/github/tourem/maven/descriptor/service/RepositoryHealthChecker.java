@@ -1,5 +1,6 @@
 package io.github.tourem.maven.descriptor.service;
 
+import io.github.tourem.maven.descriptor.model.Gav;
 import io.github.tourem.maven.descriptor.model.analysis.RepositoryHealth;
 import lombok.extern.slf4j.Slf4j;
 import org.w3c.dom.Document;
@@ -9,32 +10,40 @@ import org.w3c.dom.NodeList;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.ByteArrayInputStream;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
+import java.io.IOException;
 import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service to check the health of dependency repositories.
  * Analyzes Maven Central metadata and GitHub repository information.
+ * A checker created without an HTTP client opens its own: close the checker when done.
  *
  * @author tourem
  */
 @Slf4j
-public class RepositoryHealthChecker {
+public class RepositoryHealthChecker implements AutoCloseable {
 
     private static final int DEFAULT_TIMEOUT_MS = 5000;
+    public static final int DEFAULT_CONCURRENCY = 8;
     private static final String MAVEN_CENTRAL = "https://repo1.maven.org/maven2";
-    private static final String GITHUB_API = "https://api.github.com";
 
     // Thresholds for health assessment
     private static final long DAYS_WARNING_THRESHOLD = 730;  // 2 years
@@ -43,17 +52,75 @@ public class RepositoryHealthChecker {
     private static final int CONTRIBUTORS_DANGER_THRESHOLD = 2;
 
     private final int timeoutMs;
-    private final String githubToken; // Optional GitHub token for higher rate limits
+    private final MetadataHttpClient http;
+    private final boolean ownsHttp;
+    private final GitHubClient github;
+    private final RepositoryHealthCache cache;
+    private final int concurrency;
 
-    public RepositoryHealthChecker(int timeoutMs, String githubToken) {
+    /**
+     * @param githubToken optional GitHub token: higher rate limits and batched GraphQL queries
+     * @param http        HTTP client of the run (null = a client owned by this checker, closed by {@link #close()})
+     */
+    public RepositoryHealthChecker(int timeoutMs, String githubToken, MetadataHttpClient http) {
+        this(timeoutMs, githubToken, http != null ? http : new MetadataHttpClient(), http == null);
+    }
+
+    private RepositoryHealthChecker(int timeoutMs, String githubToken, MetadataHttpClient http, boolean ownsHttp) {
+        this(timeoutMs, http, new GitHubClient(GitHubClient.DEFAULT_API_URL, githubToken, http,
+                timeoutMs > 0 ? timeoutMs : DEFAULT_TIMEOUT_MS, GitHubClient.DEFAULT_BATCH_SIZE, GitHubClient.DEFAULT_MAX_WAIT_MS),
+                null, DEFAULT_CONCURRENCY, ownsHttp);
+    }
+
+    public RepositoryHealthChecker(int timeoutMs, MetadataHttpClient http, GitHubClient github) {
+        this(timeoutMs, http, github, null);
+    }
+
+    /**
+     * @param cache persistent cache of Maven Central and GitHub data (optional)
+     */
+    public RepositoryHealthChecker(int timeoutMs, MetadataHttpClient http, GitHubClient github, RepositoryHealthCache cache) {
+        this(timeoutMs, http, github, cache, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * @param http        HTTP client of the run (null = a client owned by this checker, closed by {@link #close()})
+     * @param cache       persistent cache of Maven Central and GitHub data (optional)
+     * @param concurrency maximum artifacts checked against Maven Central at once (0 or less = default)
+     */
+    public RepositoryHealthChecker(int timeoutMs, MetadataHttpClient http, GitHubClient github, RepositoryHealthCache cache,
+                                   int concurrency) {
+        this(timeoutMs, http != null ? http : new MetadataHttpClient(), github, cache, concurrency, http == null);
+    }
+
+    private RepositoryHealthChecker(int timeoutMs, MetadataHttpClient http, GitHubClient github, RepositoryHealthCache cache,
+                                    int concurrency, boolean ownsHttp) {
         this.timeoutMs = timeoutMs > 0 ? timeoutMs : DEFAULT_TIMEOUT_MS;
-        this.githubToken = githubToken;
+        this.ownsHttp = ownsHttp;
+        this.http = http;
+        this.github = github;
+        this.cache = cache;
+        this.concurrency = concurrency > 0 ? concurrency : DEFAULT_CONCURRENCY;
+    }
+
+    public RepositoryHealthChecker(int timeoutMs, String githubToken) {
+        this(timeoutMs, githubToken, null);
     }
 
     public RepositoryHealthChecker(int timeoutMs) {
         this(timeoutMs, null);
     }
 
+    /**
+     * Close the HTTP client if this checker opened it; a client handed in belongs to the caller.
+     */
+    @Override
+    public void close() {
+        if (ownsHttp) {
+            http.close();
+        }
+    }
+
     /**
      * Check the health of a dependency's repository.
      *
@@ -66,15 +133,125 @@ public class RepositoryHealthChecker {
         if (groupId == null || artifactId == null) {
             return null;
         }
+        Gav gav = new Gav(groupId, artifactId, currentVersion);
+        return checkHealthAll(List.of(gav)).get(gav);
+    }
+
+    /**
+     * Check the health of many dependencies: Maven Central is queried concurrently, once per groupId:artifactId,
+     * then all GitHub repositories found are fetched together (one GraphQL query per batch when a token is configured).
+     * With a cache, artifacts and repositories checked within its TTL are not fetched again.
+     *
+     * @return health per coordinates, in input order; coordinates without groupId or artifactId are absent.
+     *         Coordinates differing only by version share the same instance.
+     */
+    public Map<Gav, RepositoryHealth> checkHealthAll(Collection<Gav> artifacts) {
+        // Health does not depend on the version: one assessment per G:A
+        Map<String, Gav> distinct = new LinkedHashMap<>();
+        for (Gav gav : artifacts) {
+            if (gav.groupId() != null && gav.artifactId() != null) {
+                distinct.putIfAbsent(gav.groupId() + ":" + gav.artifactId(), gav);
+            }
+        }
+        Map<String, Assessment> assessments = assessMavenCentralAll(distinct);
+
+        Set<String> ownerRepos = new LinkedHashSet<>();
+        for (Assessment assessment : assessments.values()) {
+            if (assessment.ownerRepo != null) ownerRepos.add(assessment.ownerRepo);
+        }
+        Map<String, GitHubClient.RepositoryInfo> githubInfos = new LinkedHashMap<>();
+        if (cache != null) {
+            long now = System.currentTimeMillis();
+            for (String ownerRepo : ownerRepos) {
+                GitHubClient.RepositoryInfo cached = cache.getRepository(github.source(), ownerRepo, now);
+                if (cached != null) githubInfos.put(ownerRepo, cached);
+            }
+            ownerRepos.removeAll(githubInfos.keySet());
+        }
+        if (!ownerRepos.isEmpty()) {
+            try {
+                Map<String, GitHubClient.RepositoryInfo> fetched = github.fetchAll(ownerRepos);
+                githubInfos.putAll(fetched);
+                if (cache != null) {
+                    long now = System.currentTimeMillis();
+                    // Skipped or failed repositories are absent, so they are checked again next time
+                    fetched.values().forEach(info -> cache.putRepository(github.source(), info, now));
+                }
+            } catch (Exception e) {
+                log.debug("Failed to fetch GitHub info: {}", e.getMessage());
+            }
+            log.debug(github.summary());
+        }
+        if (cache != null) {
+            log.debug(cache.summary());
+        }
+
+        Map<String, RepositoryHealth> byArtifact = new LinkedHashMap<>();
+        for (Map.Entry<String, Assessment> entry : assessments.entrySet()) {
+            byArtifact.put(entry.getKey(), finish(entry.getValue(), githubInfos));
+        }
+        Map<Gav, RepositoryHealth> result = new LinkedHashMap<>();
+        for (Gav gav : artifacts) {
+            RepositoryHealth health = byArtifact.get(gav.groupId() + ":" + gav.artifactId());
+            if (health != null) result.putIfAbsent(gav, health);
+        }
+        return result;
+    }
+
+    /**
+     * Maven Central phase for all artifacts on a bounded pool; results keep the order of {@code artifacts}.
+     */
+    private Map<String, Assessment> assessMavenCentralAll(Map<String, Gav> artifacts) {
+        Map<String, Assessment> assessments = new LinkedHashMap<>();
+        if (artifacts.size() <= 1) {
+            artifacts.forEach((ga, gav) -> assessments.put(ga, assessMavenCentral(gav.groupId(), gav.artifactId())));
+            return assessments;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, artifacts.size()),
+                new DaemonThreadFactory("deploy-manifest-health"));
+        try {
+            Map<String, Future<Assessment>> futures = new LinkedHashMap<>();
+            artifacts.forEach((ga, gav) -> futures.put(ga,
+                    executor.submit(() -> assessMavenCentral(gav.groupId(), gav.artifactId()))));
+            for (Map.Entry<String, Future<Assessment>> entry : futures.entrySet()) {
+                Assessment assessment;
+                try {
+                    assessment = entry.getValue().get();
+                } catch (ExecutionException e) {
+                    assessment = new Assessment();
+                    assessment.failed = true;
+                }
+                assessments.put(entry.getKey(), assessment);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return assessments;
+    }
 
+    /**
+     * Maven Central part of the assessment: release history and SCM URL, from the cache when fresh.
+     */
+    private Assessment assessMavenCentral(String groupId, String artifactId) {
+        Assessment assessment = new Assessment();
         try {
-            RepositoryHealth.RepositoryHealthBuilder builder = RepositoryHealth.builder();
-            List<String> concerns = new ArrayList<>();
-            List<String> positives = new ArrayList<>();
+            RepositoryHealth.RepositoryHealthBuilder builder = assessment.builder;
+
+            RepositoryHealthCache.ArtifactInfo info = cache != null
+                    ? cache.getArtifact(groupId, artifactId, System.currentTimeMillis())
+                    : null;
+            if (info == null) {
+                info = fetchArtifactInfo(groupId, artifactId);
+            }
+            if (info != null) {
+                MavenMetadata mavenMeta = new MavenMetadata();
+                mavenMeta.latestVersion = info.latestVersion();
+                mavenMeta.totalVersions = info.totalVersions();
+                mavenMeta.lastReleaseDate = info.lastReleaseDate();
+                assessment.mavenMeta = mavenMeta;
 
-            // Step 1: Get Maven Central metadata
-            MavenMetadata mavenMeta = fetchMavenMetadata(groupId, artifactId);
-            if (mavenMeta != null) {
                 builder.totalVersions(mavenMeta.totalVersions);
                 builder.latestVersion(mavenMeta.latestVersion);
                 builder.lastReleaseDate(mavenMeta.lastReleaseDate);
@@ -84,84 +261,120 @@ public class RepositoryHealthChecker {
                     builder.daysSinceLastRelease(daysSince);
 
                     if (daysSince > DAYS_DANGER_THRESHOLD) {
-                        concerns.add(String.format("Last release was %d days ago (>3 years)", daysSince));
+                        assessment.concerns.add(String.format("Last release was %d days ago (>3 years)", daysSince));
                     } else if (daysSince > DAYS_WARNING_THRESHOLD) {
-                        concerns.add(String.format("Last release was %d days ago (>2 years)", daysSince));
+                        assessment.concerns.add(String.format("Last release was %d days ago (>2 years)", daysSince));
                     } else if (daysSince < 180) {
-                        positives.add(String.format("Recently updated (%d days ago)", daysSince));
+                        assessment.positives.add(String.format("Recently updated (%d days ago)", daysSince));
                     }
                 }
 
-                // Try to get POM to find SCM URL
-                String scmUrl = fetchScmUrl(groupId, artifactId, mavenMeta.latestVersion);
+                String scmUrl = info.scmUrl();
                 if (scmUrl != null) {
                     // Clean up URL before storing
                     String cleanedUrl = scmUrl.replaceAll("github\\.com:", "github.com/");
                     builder.repositoryUrl(cleanedUrl);
 
-                    // If it's a GitHub repository, fetch additional info
+                    // If it's a GitHub repository, additional info is fetched in a batch afterwards
                     if (scmUrl.contains("github.com")) {
                         builder.repositoryType("github");
-                        GitHubInfo githubInfo = fetchGitHubInfo(scmUrl);
-                        if (githubInfo != null) {
-                            enrichWithGitHubInfo(builder, githubInfo, concerns, positives);
-                        }
+                        assessment.ownerRepo = GitHubClient.ownerRepo(scmUrl);
                     }
                 }
             }
-
-            // Determine overall health level
-            RepositoryHealth.HealthLevel level = determineHealthLevel(concerns, positives, mavenMeta);
-            builder.level(level);
-            builder.concerns(concerns.isEmpty() ? null : concerns);
-            builder.positives(positives.isEmpty() ? null : positives);
-
-            return builder.build();
-
         } catch (Exception e) {
             log.debug("Failed to check repository health for {}:{}: {}", groupId, artifactId, e.getMessage());
+            assessment.failed = true;
+        }
+        return assessment;
+    }
+
+    /**
+     * Fetch metadata and the SCM URL of the latest version from Maven Central; the result is cached only when
+     * both answers were conclusive.
+     */
+    private RepositoryHealthCache.ArtifactInfo fetchArtifactInfo(String groupId, String artifactId) {
+        MavenMetadata mavenMeta = fetchMavenMetadata(groupId, artifactId);
+        if (mavenMeta == null) {
+            return null;
+        }
+        // Try to get POM to find SCM URL
+        String scmUrl = null;
+        boolean conclusive = true;
+        try {
+            scmUrl = fetchScmUrl(groupId, artifactId, mavenMeta.latestVersion);
+        } catch (Exception e) {
+            log.debug("Failed to fetch POM for {}:{}:{}: {}", groupId, artifactId, mavenMeta.latestVersion, e.getMessage());
+            conclusive = false;
+        }
+        RepositoryHealthCache.ArtifactInfo info = new RepositoryHealthCache.ArtifactInfo(
+                mavenMeta.latestVersion, mavenMeta.totalVersions, mavenMeta.lastReleaseDate, scmUrl);
+        if (cache != null && conclusive) {
+            cache.putArtifact(groupId, artifactId, info, System.currentTimeMillis());
+        }
+        return info;
+    }
+
+    private RepositoryHealth finish(Assessment assessment, Map<String, GitHubClient.RepositoryInfo> githubInfos) {
+        if (assessment.failed) {
             return RepositoryHealth.builder()
                     .level(RepositoryHealth.HealthLevel.UNKNOWN)
                     .build();
         }
+        RepositoryHealth.RepositoryHealthBuilder builder = assessment.builder;
+        List<String> concerns = assessment.concerns;
+        List<String> positives = assessment.positives;
+
+        GitHubClient.RepositoryInfo githubInfo = assessment.ownerRepo != null ? githubInfos.get(assessment.ownerRepo) : null;
+        if (githubInfo != null) {
+            enrichWithGitHubInfo(builder, githubInfo, concerns, positives);
+        }
+
+        // Determine overall health level
+        RepositoryHealth.HealthLevel level = determineHealthLevel(concerns, positives, assessment.mavenMeta);
+        builder.level(level);
+        builder.concerns(concerns.isEmpty() ? null : concerns);
+        builder.positives(positives.isEmpty() ? null : positives);
+
+        return builder.build();
     }
 
     private void enrichWithGitHubInfo(RepositoryHealth.RepositoryHealthBuilder builder,
-                                       GitHubInfo githubInfo,
+                                       GitHubClient.RepositoryInfo githubInfo,
                                        List<String> concerns,
                                        List<String> positives) {
-        builder.contributorCount(githubInfo.contributorCount);
-        builder.starCount(githubInfo.starCount);
-        builder.forkCount(githubInfo.forkCount);
-        builder.openIssueCount(githubInfo.openIssueCount);
-        builder.archived(githubInfo.archived);
-        builder.license(githubInfo.license);
-        builder.lastCommitDate(githubInfo.lastCommitDate);
-
-        if (githubInfo.lastCommitDate != null) {
-            long daysSince = ChronoUnit.DAYS.between(githubInfo.lastCommitDate, Instant.now());
+        builder.contributorCount(githubInfo.contributorCount());
+        builder.starCount(githubInfo.starCount());
+        builder.forkCount(githubInfo.forkCount());
+        builder.openIssueCount(githubInfo.openIssueCount());
+        builder.archived(githubInfo.archived());
+        builder.license(githubInfo.license());
+        builder.lastCommitDate(githubInfo.lastCommitDate());
+
+        if (githubInfo.lastCommitDate() != null) {
+            long daysSince = ChronoUnit.DAYS.between(githubInfo.lastCommitDate(), Instant.now());
             builder.daysSinceLastCommit(daysSince);
         }
 
         // Assess contributors
-        if (githubInfo.contributorCount != null) {
-            if (githubInfo.contributorCount <= CONTRIBUTORS_DANGER_THRESHOLD) {
-                concerns.add(String.format("Only %d contributor(s) - high bus factor risk", githubInfo.contributorCount));
-            } else if (githubInfo.contributorCount <= CONTRIBUTORS_WARNING_THRESHOLD) {
-                concerns.add(String.format("Only %d contributors - limited maintenance team", githubInfo.contributorCount));
-            } else if (githubInfo.contributorCount >= 10) {
-                positives.add(String.format("%d contributors - healthy community", githubInfo.contributorCount));
+        if (githubInfo.contributorCount() != null) {
+            if (githubInfo.contributorCount() <= CONTRIBUTORS_DANGER_THRESHOLD) {
+                concerns.add(String.format("Only %d contributor(s) - high bus factor risk", githubInfo.contributorCount()));
+            } else if (githubInfo.contributorCount() <= CONTRIBUTORS_WARNING_THRESHOLD) {
+                concerns.add(String.format("Only %d contributors - limited maintenance team", githubInfo.contributorCount()));
+            } else if (githubInfo.contributorCount() >= 10) {
+                positives.add(String.format("%d contributors - healthy community", githubInfo.contributorCount()));
             }
         }
 
         // Check if archived
-        if (Boolean.TRUE.equals(githubInfo.archived)) {
+        if (Boolean.TRUE.equals(githubInfo.archived())) {
             concerns.add("Repository is archived - no longer maintained");
         }
 
         // Check stars/forks as popularity indicators
-        if (githubInfo.starCount != null && githubInfo.starCount > 1000) {
-            positives.add(String.format("Popular project (%d stars)", githubInfo.starCount));
+        if (githubInfo.starCount() != null && githubInfo.starCount() > 1000) {
+            positives.add(String.format("Popular project (%d stars)", githubInfo.starCount()));
         }
     }
 
@@ -205,21 +418,9 @@ public class RepositoryHealthChecker {
             String path = groupId.replace('.', '/') + "/" + artifactId + "/maven-metadata.xml";
             String url = MAVEN_CENTRAL + "/" + path;
 
-            HttpClient client = HttpClient.newBuilder()
-                    .connectTimeout(Duration.ofMillis(timeoutMs))
-                    .build();
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .header("User-Agent", "deploy-manifest-plugin/2.5.0")
-                    .GET()
-                    .build();
-
-            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
-
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                return parseMavenMetadata(response.body());
+            byte[] body = throughCircuitBreaker(MAVEN_CENTRAL, () -> http.fetchMetadata(url, timeoutMs));
+            if (body != null) {
+                return parseMavenMetadata(body);
             }
         } catch (Exception e) {
             log.debug("Failed to fetch Maven metadata for {}:{}: {}", groupId, artifactId, e.getMessage());
@@ -228,39 +429,14 @@ public class RepositoryHealthChecker {
     }
 
     private MavenMetadata parseMavenMetadata(byte[] xmlBytes) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-        factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-        factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-
-        DocumentBuilder docBuilder = factory.newDocumentBuilder();
-        Document doc = docBuilder.parse(new ByteArrayInputStream(xmlBytes));
+        MavenMetadataParser.Metadata parsed = MavenMetadataParser.parse(xmlBytes);
 
         MavenMetadata meta = new MavenMetadata();
-
-        // Get latest version
-        NodeList latestNodes = doc.getElementsByTagName("latest");
-        if (latestNodes.getLength() > 0) {
-            meta.latestVersion = latestNodes.item(0).getTextContent().trim();
-        } else {
-            // Fallback to release
-            NodeList releaseNodes = doc.getElementsByTagName("release");
-            if (releaseNodes.getLength() > 0) {
-                meta.latestVersion = releaseNodes.item(0).getTextContent().trim();
-            }
-        }
-
-        // Get all versions
-        NodeList versionNodes = doc.getElementsByTagName("version");
-        meta.totalVersions = versionNodes.getLength();
-
-        // Get lastUpdated timestamp
-        NodeList lastUpdatedNodes = doc.getElementsByTagName("lastUpdated");
-        if (lastUpdatedNodes.getLength() > 0) {
-            String lastUpdated = lastUpdatedNodes.item(0).getTextContent().trim();
-            meta.lastReleaseDate = parseLastUpdated(lastUpdated);
+        meta.latestVersion = parsed.latestOrRelease();
+        meta.totalVersions = parsed.versions().size();
+        if (parsed.lastUpdated() != null) {
+            meta.lastReleaseDate = parseLastUpdated(parsed.lastUpdated());
         }
-
         return meta;
     }
 
@@ -279,33 +455,32 @@ public class RepositoryHealthChecker {
     }
 
 
-    private String fetchScmUrl(String groupId, String artifactId, String version) {
+    /**
+     * SCM URL declared by the POM, or null when the POM is missing or declares none.
+     * Throws when the answer is inconclusive (network error, open circuit, server error).
+     */
+    private String fetchScmUrl(String groupId, String artifactId, String version) throws Exception {
         if (version == null) {
             return null;
         }
 
-        try {
-            String path = groupId.replace('.', '/') + "/" + artifactId + "/" + version + "/" + artifactId + "-" + version + ".pom";
-            String url = MAVEN_CENTRAL + "/" + path;
-
-            HttpClient client = HttpClient.newBuilder()
-                    .connectTimeout(Duration.ofMillis(timeoutMs))
-                    .build();
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .header("User-Agent", "deploy-manifest-plugin/2.5.0")
-                    .GET()
-                    .build();
-
-            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        String path = groupId.replace('.', '/') + "/" + artifactId + "/" + version + "/" + artifactId + "-" + version + ".pom";
+        String url = MAVEN_CENTRAL + "/" + path;
 
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                return parseScmUrl(response.body());
+        // A 5xx answer is a failure of the repository: raised inside the breaker so that it counts
+        HttpResponse<byte[]> response = throughCircuitBreaker(MAVEN_CENTRAL, () -> {
+            HttpResponse<byte[]> answer = http.get(url, timeoutMs);
+            if (answer.statusCode() >= 500) {
+                throw new IOException("HTTP " + answer.statusCode() + " for " + url);
             }
-        } catch (Exception e) {
-            log.debug("Failed to fetch POM for {}:{}:{}: {}", groupId, artifactId, version, e.getMessage());
+            return answer;
+        });
+
+        if (response == null) {
+            throw new IllegalStateException("circuit open for " + MAVEN_CENTRAL);
+        }
+        if (response.statusCode() >= 200 && response.statusCode() < 300) {
+            return parseScmUrl(response.body());
         }
         return null;
     }
@@ -337,229 +512,27 @@ public class RepositoryHealthChecker {
         return null;
     }
 
-    private GitHubInfo fetchGitHubInfo(String repoUrl) {
-        try {
-            // Extract owner/repo from URL
-            // Examples: https://github.com/owner/repo or git@github.com:owner/repo
-            String ownerRepo = extractGitHubOwnerRepo(repoUrl);
-            if (ownerRepo == null) {
-                return null;
-            }
-
-            String apiUrl = GITHUB_API + "/repos/" + ownerRepo;
-
-            HttpClient client = HttpClient.newBuilder()
-                    .connectTimeout(Duration.ofMillis(timeoutMs))
-                    .build();
-
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(apiUrl))
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .header("User-Agent", "deploy-manifest-plugin/2.5.0")
-                    .header("Accept", "application/vnd.github.v3+json");
-
-            if (githubToken != null && !githubToken.isEmpty()) {
-                requestBuilder.header("Authorization", "token " + githubToken);
-            }
-
-            HttpRequest request = requestBuilder.GET().build();
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                return parseGitHubResponse(response.body(), ownerRepo);
-            } else {
-                log.debug("GitHub API returned {}: {}", response.statusCode(), response.body());
-            }
-        } catch (Exception e) {
-            log.debug("Failed to fetch GitHub info for {}: {}", repoUrl, e.getMessage());
-        }
-        return null;
-    }
-
-    private String extractGitHubOwnerRepo(String url) {
-        // Handle various GitHub URL formats
-        url = url.replaceAll("^git@github\\.com:", "https://github.com/")
-                 .replaceAll("\\.git$", "")
-                 .replaceAll("github\\.com:", "github.com/");  // Fix malformed URLs with : instead of /
-
-        if (url.contains("github.com/")) {
-            String[] parts = url.split("github\\.com/");
-            if (parts.length > 1) {
-                String ownerRepo = parts[1];
-                // Remove trailing slashes and paths
-                ownerRepo = ownerRepo.split("/tree/")[0];
-                ownerRepo = ownerRepo.split("/blob/")[0];
-                ownerRepo = ownerRepo.replaceAll("/$", "");
-
-                // Should be owner/repo
-                String[] segments = ownerRepo.split("/");
-                if (segments.length >= 2) {
-                    return segments[0] + "/" + segments[1];
-                }
-            }
-        }
-        return null;
-    }
-
-    private GitHubInfo parseGitHubResponse(String json, String ownerRepo) {
-        GitHubInfo info = new GitHubInfo();
-
-        try {
-            // Simple JSON parsing (avoiding Jackson dependency in service layer)
-            info.starCount = extractJsonInt(json, "stargazers_count");
-            info.forkCount = extractJsonInt(json, "forks_count");
-            info.openIssueCount = extractJsonInt(json, "open_issues_count");
-            info.archived = extractJsonBoolean(json, "archived");
-
-            String license = extractJsonString(json, "license", "spdx_id");
-            if (license != null && !license.equals("null")) {
-                info.license = license;
-            }
-
-            // Fetch contributors count (separate API call)
-            info.contributorCount = fetchContributorCount(ownerRepo);
-
-            // Fetch last commit date (separate API call)
-            info.lastCommitDate = fetchLastCommitDate(ownerRepo);
-
-        } catch (Exception e) {
-            log.debug("Failed to parse GitHub response: {}", e.getMessage());
-        }
-
-        return info;
-    }
-
-    private Integer fetchContributorCount(String ownerRepo) {
-        try {
-            String apiUrl = GITHUB_API + "/repos/" + ownerRepo + "/contributors?per_page=1&anon=true";
-
-            HttpClient client = HttpClient.newBuilder()
-                    .connectTimeout(Duration.ofMillis(timeoutMs))
-                    .build();
-
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(apiUrl))
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .header("User-Agent", "deploy-manifest-plugin/2.5.0")
-                    .header("Accept", "application/vnd.github.v3+json");
-
-            if (githubToken != null && !githubToken.isEmpty()) {
-                requestBuilder.header("Authorization", "token " + githubToken);
-            }
-
-            HttpRequest request = requestBuilder.GET().build();
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                // GitHub returns Link header with total count
-                String linkHeader = response.headers().firstValue("Link").orElse(null);
-                if (linkHeader != null && linkHeader.contains("page=")) {
-                    // Extract last page number
-                    String[] parts = linkHeader.split("page=");
-                    for (String part : parts) {
-                        if (part.contains("rel=\"last\"")) {
-                            String pageNum = part.substring(0, part.indexOf(">")).split("&")[0];
-                            return Integer.parseInt(pageNum);
-                        }
-                    }
-                }
-                // If no pagination, count array elements
-                int count = response.body().split("\\{").length - 1;
-                return count > 0 ? count : null;
-            }
-        } catch (Exception e) {
-            log.debug("Failed to fetch contributor count for {}: {}", ownerRepo, e.getMessage());
-        }
-        return null;
-    }
-
-    private Instant fetchLastCommitDate(String ownerRepo) {
-        try {
-            String apiUrl = GITHUB_API + "/repos/" + ownerRepo + "/commits?per_page=1";
-
-            HttpClient client = HttpClient.newBuilder()
-                    .connectTimeout(Duration.ofMillis(timeoutMs))
-                    .build();
-
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(apiUrl))
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .header("User-Agent", "deploy-manifest-plugin/2.5.0")
-                    .header("Accept", "application/vnd.github.v3+json");
-
-            if (githubToken != null && !githubToken.isEmpty()) {
-                requestBuilder.header("Authorization", "token " + githubToken);
-            }
-
-            HttpRequest request = requestBuilder.GET().build();
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                String dateStr = extractJsonString(response.body(), "commit", "committer", "date");
-                if (dateStr != null) {
-                    return Instant.parse(dateStr);
-                }
-            }
-        } catch (Exception e) {
-            log.debug("Failed to fetch last commit date for {}: {}", ownerRepo, e.getMessage());
-        }
-        return null;
-    }
-
-    // Simple JSON extraction helpers (to avoid Jackson dependency)
-    private Integer extractJsonInt(String json, String key) {
-        try {
-            String pattern = "\"" + key + "\"\\s*:\\s*(\\d+)";
-            java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern);
-            java.util.regex.Matcher m = p.matcher(json);
-            if (m.find()) {
-                return Integer.parseInt(m.group(1));
-            }
-        } catch (Exception e) {
-            // Ignore
-        }
-        return null;
-    }
-
-    private Boolean extractJsonBoolean(String json, String key) {
-        try {
-            String pattern = "\"" + key + "\"\\s*:\\s*(true|false)";
-            java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern);
-            java.util.regex.Matcher m = p.matcher(json);
-            if (m.find()) {
-                return Boolean.parseBoolean(m.group(1));
-            }
-        } catch (Exception e) {
-            // Ignore
+    /**
+     * Run a request through the circuit breaker of the repository: returns null without calling it while the
+     * circuit is open, records latency and outcome otherwise. Failures are rethrown.
+     */
+    private <T> T throughCircuitBreaker(String repository, Callable<T> call) throws Exception {
+        RepositoryStats stats = http.repositoryStats();
+        if (!stats.allowRequest(repository)) {
+            log.debug("Skipping {}: circuit open", repository);
+            return null;
         }
-        return null;
-    }
-
-    private String extractJsonString(String json, String... keys) {
+        long start = System.nanoTime();
         try {
-            String current = json;
-            for (int i = 0; i < keys.length - 1; i++) {
-                String pattern = "\"" + keys[i] + "\"\\s*:\\s*\\{([^}]+)\\}";
-                java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern);
-                java.util.regex.Matcher m = p.matcher(current);
-                if (m.find()) {
-                    current = m.group(1);
-                } else {
-                    return null;
-                }
-            }
-
-            String lastKey = keys[keys.length - 1];
-            String pattern = "\"" + lastKey + "\"\\s*:\\s*\"([^\"]+)\"";
-            java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern);
-            java.util.regex.Matcher m = p.matcher(current);
-            if (m.find()) {
-                return m.group(1);
-            }
+            T result = call.call();
+            stats.recordSuccess(repository, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return result;
+        } catch (InterruptedException e) {
+            throw e;
         } catch (Exception e) {
-            // Ignore
+            stats.recordFailure(repository, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            throw e;
         }
-        return null;
     }
 
     // Inner classes for data transfer
@@ -569,14 +542,14 @@ public class RepositoryHealthChecker {
         Instant lastReleaseDate;
     }
 
-    private static class GitHubInfo {
-        Integer contributorCount;
-        Integer starCount;
-        Integer forkCount;
-        Integer openIssueCount;
-        Boolean archived;
-        String license;
-        Instant lastCommitDate;
+    /** Per-artifact state between the Maven Central and the GitHub phases. */
+    private static class Assessment {
+        final RepositoryHealth.RepositoryHealthBuilder builder = RepositoryHealth.builder();
+        final List<String> concerns = new ArrayList<>();
+        final List<String> positives = new ArrayList<>();
+        MavenMetadata mavenMeta;
+        String ownerRepo;
+        boolean failed;
     }
 }
 
@@ -0,0 +1,199 @@
+package io.github.tourem.maven.descriptor.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-repository latency and failure statistics with a circuit breaker, kept for the lifetime of a
+ * {@link MetadataHttpClient}.
+ *
+ * After {@link #DEFAULT_FAILURE_THRESHOLD} consecutive failures (timeouts, connection errors, 5xx) the circuit of a
+ * repository opens and requests are short-circuited. Once the open period has elapsed a single probe request is
+ * let through (half-open): success closes the circuit, failure opens it again. Any answer from the repository,
+ * including a 404, counts as success.
+ * @author tourem
+ */
+public class RepositoryStats {
+
+    public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+    public static final long DEFAULT_OPEN_MILLIS = 30_000;
+
+    /**
+     * Circuit state of a repository.
+     */
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+    private final Map<String, Counters> repositories = new ConcurrentHashMap<>();
+
+    /**
+     * Statistics of one repository at a point in time.
+     */
+    public record Snapshot(String repository, long requests, long failures, long rejected, long trips,
+                           long averageLatencyMs, State state) {
+        public boolean healthy() {
+            return state == State.CLOSED;
+        }
+    }
+
+    public RepositoryStats() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_MILLIS);
+    }
+
+    /**
+     * @param failureThreshold consecutive failures opening the circuit (0 or less = default)
+     * @param openMillis       time before a half-open probe is allowed (0 or less = default)
+     */
+    public RepositoryStats(int failureThreshold, long openMillis) {
+        this(failureThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    RepositoryStats(int failureThreshold, long openMillis, LongSupplier clock) {
+        this.failureThreshold = failureThreshold > 0 ? failureThreshold : DEFAULT_FAILURE_THRESHOLD;
+        this.openMillis = openMillis > 0 ? openMillis : DEFAULT_OPEN_MILLIS;
+        this.clock = clock;
+    }
+
+    /**
+     * Whether a request may be sent to the repository now. While the circuit is open requests are rejected;
+     * after the open period one caller gets the half-open probe (again if that probe never reported back).
+     */
+    public boolean allowRequest(String repository) {
+        Counters c = repositories.get(repository);
+        if (c == null) return true;
+        synchronized (c) {
+            long now = clock.getAsLong();
+            switch (c.state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (now - c.openedAt >= openMillis) {
+                        c.state = State.HALF_OPEN;
+                        c.probeStartedAt = now;
+                        return true;
+                    }
+                    break;
+                case HALF_OPEN:
+                    if (now - c.probeStartedAt >= openMillis) {
+                        c.probeStartedAt = now;
+                        return true;
+                    }
+                    break;
+            }
+            c.rejected++;
+            return false;
+        }
+    }
+
+    public void recordSuccess(String repository, long latencyMs) {
+        Counters c = counters(repository);
+        synchronized (c) {
+            c.requests++;
+            c.totalLatencyMs += latencyMs;
+            c.consecutiveFailures = 0;
+            c.state = State.CLOSED;
+        }
+    }
+
+    public void recordFailure(String repository, long latencyMs) {
+        Counters c = counters(repository);
+        synchronized (c) {
+            c.requests++;
+            c.failures++;
+            c.totalLatencyMs += latencyMs;
+            c.consecutiveFailures++;
+            if (c.state == State.HALF_OPEN || (c.state == State.CLOSED && c.consecutiveFailures >= failureThreshold)) {
+                c.state = State.OPEN;
+                c.openedAt = clock.getAsLong();
+                c.trips++;
+            }
+        }
+    }
+
+    public boolean isHealthy(String repository) {
+        return state(repository) == State.CLOSED;
+    }
+
+    public State state(String repository) {
+        Counters c = repositories.get(repository);
+        if (c == null) return State.CLOSED;
+        synchronized (c) {
+            return c.state;
+        }
+    }
+
+    /**
+     * Mean latency of the repository, or 0 when it has not been queried yet.
+     */
+    public long averageLatencyMs(String repository) {
+        Counters c = repositories.get(repository);
+        if (c == null) return 0;
+        synchronized (c) {
+            return c.requests == 0 ? 0 : c.totalLatencyMs / c.requests;
+        }
+    }
+
+    /**
+     * Repositories that may be queried now, fastest first; repositories without samples keep their order first.
+     */
+    public List<String> rank(List<String> repositories) {
+        List<String> ranked = new ArrayList<>();
+        for (String repository : repositories) {
+            if (allowRequest(repository)) ranked.add(repository);
+        }
+        ranked.sort(Comparator.comparingLong(this::averageLatencyMs));
+        return ranked;
+    }
+
+    public List<Snapshot> snapshot() {
+        List<Snapshot> result = new ArrayList<>();
+        repositories.forEach((repository, c) -> {
+            synchronized (c) {
+                result.add(new Snapshot(repository, c.requests, c.failures, c.rejected, c.trips,
+                        c.requests == 0 ? 0 : c.totalLatencyMs / c.requests, c.state));
+            }
+        });
+        result.sort(Comparator.comparing(Snapshot::repository));
+        return result;
+    }
+
+    /**
+     * One line per repository, for build logs.
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder("repository stats:");
+        for (Snapshot s : snapshot()) {
+            sb.append(System.lineSeparator()).append("  ").append(s.repository())
+                    .append(": ").append(s.requests()).append(" requests, ")
+                    .append(s.failures()).append(" failures, avg ").append(s.averageLatencyMs()).append(" ms");
+            if (s.trips() > 0) {
+                sb.append(", circuit opened ").append(s.trips()).append("x, ")
+                        .append(s.rejected()).append(" requests skipped, now ").append(s.state());
+            }
+        }
+        return sb.toString();
+    }
+
+    private Counters counters(String repository) {
+        return repositories.computeIfAbsent(repository, k -> new Counters());
+    }
+
+    /** Mutable counters of one repository, guarded by their own monitor. */
+    private static final class Counters {
+        long requests;
+        long failures;
+        long rejected;
+        long trips;
+        long totalLatencyMs;
+        int consecutiveFailures;
+        State state = State.CLOSED;
+        long openedAt;
+        long probeStartedAt;
+    }
+}
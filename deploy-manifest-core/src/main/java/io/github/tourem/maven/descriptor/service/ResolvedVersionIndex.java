@@ -0,0 +1,117 @@
+package io.github.tourem.maven.descriptor.service;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Versions selected by Maven dependency resolution, per reactor module.
+ *
+ * Filled by the plugin from the resolved dependency graph of each module, then read by the license collector to
+ * resolve dependencies that declare no version. Each module keeps its own selection, so modules resolving different
+ * versions of the same artifact do not see each other's. Modules that were not indexed (for instance a module
+ * directory the plugin did not resolve) fall back to the first version resolved anywhere in the reactor.
+ * Safe for concurrent reads and writes.
+ *
+ * The index can be filled while it is read: modules announced with {@link #expect(Path)} are awaited by
+ * {@link #await(Path)} until {@link #complete(Path)} is called for them, so analysis of a module can start as soon
+ * as that module is resolved. {@link #await(Path, long, TimeUnit)} bounds the wait for callers that can proceed
+ * without the module's versions.
+ * @author tourem
+ */
+public final class ResolvedVersionIndex {
+
+    private final Map<Path, Map<String, String>> byModule = new ConcurrentHashMap<>();
+    private final Map<String, String> reactor = new ConcurrentHashMap<>();
+    private final Map<Path, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Announce that versions of the module are about to be recorded; announce every module before completing any.
+     */
+    public void expect(Path moduleDir) {
+        if (moduleDir != null) {
+            pending.putIfAbsent(key(moduleDir), new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * Mark the module as fully recorded, successfully or not.
+     */
+    public void complete(Path moduleDir) {
+        CompletableFuture<Void> done = moduleDir != null ? pending.get(key(moduleDir)) : null;
+        if (done != null) {
+            done.complete(null);
+        }
+    }
+
+    /**
+     * Wait until the module is fully recorded. A module that was not announced waits for all announced modules,
+     * since its lookups fall back to versions resolved anywhere in the reactor.
+     */
+    public void await(Path moduleDir) throws InterruptedException {
+        try {
+            done(moduleDir).get();
+        } catch (ExecutionException e) {
+            // Never completed exceptionally
+        }
+    }
+
+    /**
+     * Like {@link #await(Path)}, giving up after {@code timeout}.
+     *
+     * @return true when the module is fully recorded, false when the wait timed out
+     */
+    public boolean await(Path moduleDir, long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            done(moduleDir).get(timeout, unit);
+            return true;
+        } catch (ExecutionException e) {
+            // Never completed exceptionally
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Record the version resolved for {@code groupId:artifactId} in the module; the first version recorded wins.
+     */
+    public void put(Path moduleDir, String groupId, String artifactId, String version) {
+        if (moduleDir == null || groupId == null || artifactId == null || version == null || version.isBlank()) {
+            return;
+        }
+        String ga = groupId + ":" + artifactId;
+        byModule.computeIfAbsent(key(moduleDir), k -> new ConcurrentHashMap<>()).putIfAbsent(ga, version);
+        reactor.putIfAbsent(ga, version);
+    }
+
+    /**
+     * Version resolved for {@code groupId:artifactId} in the module, or null when the module did not resolve it.
+     */
+    public String version(Path moduleDir, String groupId, String artifactId) {
+        String ga = groupId + ":" + artifactId;
+        Map<String, String> module = moduleDir != null ? byModule.get(key(moduleDir)) : null;
+        return module != null ? module.get(ga) : reactor.get(ga);
+    }
+
+    public boolean isEmpty() {
+        return reactor.isEmpty();
+    }
+
+    public int moduleCount() {
+        return byModule.size();
+    }
+
+    private CompletableFuture<Void> done(Path moduleDir) {
+        CompletableFuture<Void> done = moduleDir != null ? pending.get(key(moduleDir)) : null;
+        return done != null ? done : CompletableFuture.allOf(pending.values().toArray(new CompletableFuture<?>[0]));
+    }
+
+    private static Path key(Path moduleDir) {
+        return moduleDir.toAbsolutePath().normalize();
+    }
+}
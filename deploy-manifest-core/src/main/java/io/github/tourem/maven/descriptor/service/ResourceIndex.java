@@ -0,0 +1,154 @@
+package io.github.tourem.maven.descriptor.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Files at the top of one module's {@code src/main/resources}, listed once and queried by every detector.
+ *
+ * The directory is scanned lazily, on the first query, with a single directory read that also captures sizes and
+ * modification times; later queries (existence checks, profile file listings) never touch the file system.
+ * A missing or unreadable directory reads as empty. The index reflects the directory at scan time: obtain indexes
+ * from a {@link ResourceIndexCache} scoped to one analysis run.
+ * @author tourem
+ */
+@Slf4j
+public final class ResourceIndex {
+
+    /**
+     * A regular file of the resources directory.
+     */
+    public record Entry(Path path, long size, long lastModified) {
+    }
+
+    private final Path directory;
+    private final AtomicLong scanCounter;
+    private volatile Scan scan;
+
+    private record Scan(boolean exists, Map<String, Entry> files) {
+    }
+
+    ResourceIndex(Path directory, AtomicLong scanCounter) {
+        this.directory = directory;
+        this.scanCounter = scanCounter;
+    }
+
+    /**
+     * Uncached index of the module resources directory.
+     */
+    public static ResourceIndex forModule(Path modulePath) {
+        return new ResourceIndex(modulePath.resolve("src/main/resources"), null);
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Whether the resources directory exists.
+     */
+    public boolean exists() {
+        return scan().exists();
+    }
+
+    /**
+     * Whether a regular file with this name sits at the top of the directory.
+     */
+    public boolean contains(String fileName) {
+        return scan().files().containsKey(fileName);
+    }
+
+    /**
+     * The file with this name, or null when there is none.
+     */
+    public Path file(String fileName) {
+        Entry entry = scan().files().get(fileName);
+        return entry != null ? entry.path() : null;
+    }
+
+    /**
+     * Size and modification time of the file with this name, or null when there is none.
+     */
+    public Entry entry(String fileName) {
+        return scan().files().get(fileName);
+    }
+
+    /**
+     * Names of all regular files, sorted.
+     */
+    public List<String> fileNames() {
+        return List.copyOf(scan().files().keySet());
+    }
+
+    /**
+     * Names of the regular files accepted by {@code filter}, sorted.
+     */
+    public List<String> fileNames(Predicate<String> filter) {
+        return scan().files().keySet().stream().filter(filter).toList();
+    }
+
+    private Scan scan() {
+        Scan current = scan;
+        if (current == null) {
+            synchronized (this) {
+                current = scan;
+                if (current == null) {
+                    current = read();
+                    scan = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Scan read() {
+        if (scanCounter != null) {
+            scanCounter.incrementAndGet();
+        }
+        Map<String, Entry> files = new TreeMap<>();
+        boolean[] exists = new boolean[1];
+        try {
+            Files.walkFileTree(directory, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    exists[0] = true;
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (exists[0] && attrs.isRegularFile()) {
+                        files.put(file.getFileName().toString(),
+                                new Entry(file, attrs.size(), attrs.lastModifiedTime().toMillis()));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (NoSuchFileException e) {
+            return new Scan(false, Collections.emptyMap());
+        } catch (IOException e) {
+            log.warn("Error scanning resources directory {}: {}", directory, e.getMessage());
+        }
+        return new Scan(exists[0], Collections.unmodifiableMap(files));
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.tourem.maven.descriptor.service;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ResourceIndex} and {@link SpringConfiguration} of each module for one analysis run, shared by the analyzer
+ * and all its detectors (including framework detectors) so that each {@code src/main/resources} directory is scanned
+ * once, and each Spring configuration file parsed once, per run.
+ *
+ * The analyzer clears the cache when a run starts, so files changed between runs are seen. Detectors created
+ * without a cache use {@link #uncached()}, which hands out a fresh index and configuration on every call.
+ * Thread-safe.
+ * @author tourem
+ */
+public final class ResourceIndexCache {
+
+    private static final ResourceIndexCache UNCACHED = new ResourceIndexCache(false);
+
+    private final boolean caching;
+    private final Map<Path, ResourceIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<Path, ResourceIndex> configIndexes = new ConcurrentHashMap<>();
+    private final Map<Path, SpringConfiguration> configurations = new ConcurrentHashMap<>();
+    private final AtomicLong scans = new AtomicLong();
+    private final AtomicLong parses = new AtomicLong();
+
+    public ResourceIndexCache() {
+        this(true);
+    }
+
+    private ResourceIndexCache(boolean caching) {
+        this.caching = caching;
+    }
+
+    /**
+     * Cache that does not retain indexes: every call of {@link #index(Path)} scans again when queried.
+     */
+    public static ResourceIndexCache uncached() {
+        return UNCACHED;
+    }
+
+    /**
+     * Resource index of the module directory.
+     */
+    public ResourceIndex index(Path modulePath) {
+        if (!caching) {
+            return ResourceIndex.forModule(modulePath);
+        }
+        Path key = modulePath.toAbsolutePath().normalize();
+        return indexes.computeIfAbsent(key, k -> new ResourceIndex(k.resolve("src/main/resources"), scans));
+    }
+
+    /**
+     * Resource index of the module's {@code src/main/resources/config} directory, Spring's {@code config/} location.
+     */
+    public ResourceIndex configIndex(Path modulePath) {
+        if (!caching) {
+            return new ResourceIndex(modulePath.resolve("src/main/resources/config"), null);
+        }
+        Path key = modulePath.toAbsolutePath().normalize();
+        return configIndexes.computeIfAbsent(key, k -> new ResourceIndex(k.resolve("src/main/resources/config"), scans));
+    }
+
+    /**
+     * Spring configuration files of the module, parsed on demand.
+     */
+    public SpringConfiguration springConfiguration(Path modulePath) {
+        if (!caching) {
+            return new SpringConfiguration(ResourceIndex.forModule(modulePath), null);
+        }
+        Path key = modulePath.toAbsolutePath().normalize();
+        return configurations.computeIfAbsent(key, k -> new SpringConfiguration(index(k), parses));
+    }
+
+    /**
+     * Number of directory scans performed through this cache.
+     */
+    public long scans() {
+        return scans.get();
+    }
+
+    /**
+     * Number of configuration files parsed through this cache.
+     */
+    public long parses() {
+        return parses.get();
+    }
+
+    public int size() {
+        return indexes.size();
+    }
+
+    public void clear() {
+        indexes.clear();
+        configIndexes.clear();
+        configurations.clear();
+    }
+}
@@ -5,12 +5,18 @@ import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 
 import java.io.IOException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 /**
  * Service to detect Spring Boot profiles from application configuration files.
@@ -24,6 +30,44 @@ public class SpringBootProfileDetector {
 
     private static final Pattern PROFILE_PATTERN = Pattern.compile("application-([a-zA-Z0-9_-]+)\\.(properties|yml|yaml)");
 
+    /** Build output and dependency directories never holding module sources; hidden directories are pruned too. */
+    private static final Set<String> PRUNED_DIRECTORIES = Set.of("target", "build", "out", "bin", "dist",
+            "node_modules", "bower_components");
+
+    private final PomModelCache pomCache;
+    private final ResourceIndexCache resourceIndexes;
+    private final int threads;
+
+    public SpringBootProfileDetector() {
+        this(null);
+    }
+
+    /**
+     * @param pomCache cache used to read module POMs (null = a cache private to this detector)
+     */
+    public SpringBootProfileDetector(PomModelCache pomCache) {
+        this(pomCache, null);
+    }
+
+    /**
+     * @param pomCache cache used to read module POMs (null = a cache private to this detector)
+     * @param resourceIndexes resource directory indexes of the analysis run
+     */
+    public SpringBootProfileDetector(PomModelCache pomCache, ResourceIndexCache resourceIndexes) {
+        this(pomCache, resourceIndexes, 1);
+    }
+
+    /**
+     * @param pomCache cache used to read module POMs (null = a cache private to this detector)
+     * @param resourceIndexes resource directory indexes of the analysis run
+     * @param threads number of modules {@link #detectProfilesRecursive(Path)} scans concurrently
+     */
+    public SpringBootProfileDetector(PomModelCache pomCache, ResourceIndexCache resourceIndexes, int threads) {
+        this.pomCache = pomCache != null ? pomCache : new PomModelCache();
+        this.resourceIndexes = resourceIndexes != null ? resourceIndexes : ResourceIndexCache.uncached();
+        this.threads = Math.max(1, threads);
+    }
+
     /**
      * Detect all Spring Boot profiles for a module.
      * This includes profiles from:
@@ -63,25 +107,26 @@ public class SpringBootProfileDetector {
     private Set<String> detectProfilesInModule(Path modulePath) {
         Set<String> profiles = new HashSet<>();
 
-        Path resourcesPath = modulePath.resolve("src/main/resources");
-        if (!Files.exists(resourcesPath) || !Files.isDirectory(resourcesPath)) {
-            log.debug("No resources directory found at: {}", resourcesPath);
+        ResourceIndex resources = resourceIndexes.index(modulePath);
+        if (!resources.exists()) {
+            log.debug("No resources directory found at: {}", resources.directory());
             return profiles;
         }
 
-        try (Stream<Path> files = Files.walk(resourcesPath, 1)) {
-            files.filter(Files::isRegularFile)
-                .forEach(file -> {
-                    String fileName = file.getFileName().toString();
-                    Matcher matcher = PROFILE_PATTERN.matcher(fileName);
-                    if (matcher.matches()) {
-                        String profile = matcher.group(1);
-                        profiles.add(profile);
-                        log.debug("Found profile '{}' in file: {}", profile, fileName);
-                    }
-                });
-        } catch (IOException e) {
-            log.warn("Error scanning resources directory {}: {}", resourcesPath, e.getMessage());
+        for (String fileName : resources.fileNames()) {
+            Matcher matcher = PROFILE_PATTERN.matcher(fileName);
+            if (matcher.matches()) {
+                String profile = matcher.group(1);
+                profiles.add(profile);
+                log.debug("Found profile '{}' in file: {}", profile, fileName);
+            }
+        }
+
+        // Profile-specific documents of multi-document application.yml files
+        for (String profile : resourceIndexes.springConfiguration(modulePath).documentProfiles()) {
+            if (profiles.add(profile)) {
+                log.debug("Found profile '{}' in a multi-document configuration file", profile);
+            }
         }
 
         return profiles;
@@ -91,62 +136,169 @@ public class SpringBootProfileDetector {
      * Detect profiles in a dependency module (if it's a local module in the same project).
      */
     private Set<String> detectProfilesInDependency(Dependency dependency, Path projectRootPath) {
-        Set<String> profiles = new HashSet<>();
+        Path moduleDirectory = localModuleDirectory(dependency, projectRootPath);
+        if (moduleDirectory == null) {
+            return new HashSet<>();
+        }
+        log.debug("Found local dependency module: {}", dependency.getArtifactId());
+        return detectProfilesInModule(moduleDirectory);
+    }
 
-        // Try to find the dependency as a local module
-        // Common patterns: artifactId as directory name, or nested in modules/
+    /**
+     * Directory of the dependency when it is a module of the same project, or null.
+     * Common patterns: artifactId as directory name, or nested in modules/ or libs/.
+     */
+    static Path localModuleDirectory(Dependency dependency, Path projectRootPath) {
         String artifactId = dependency.getArtifactId();
-
+        if (artifactId == null || artifactId.isBlank()) {
+            return null;
+        }
         List<Path> possiblePaths = Arrays.asList(
             projectRootPath.resolve(artifactId),
             projectRootPath.resolve("modules").resolve(artifactId),
             projectRootPath.resolve("libs").resolve(artifactId)
         );
-
         for (Path possiblePath : possiblePaths) {
-            if (Files.exists(possiblePath) && Files.isDirectory(possiblePath)) {
-                Path pomFile = possiblePath.resolve("pom.xml");
-                if (Files.exists(pomFile)) {
-                    log.debug("Found local dependency module: {}", artifactId);
-                    profiles.addAll(detectProfilesInModule(possiblePath));
-                    break;
-                }
+            if (Files.isDirectory(possiblePath) && Files.exists(possiblePath.resolve("pom.xml"))) {
+                return possiblePath;
             }
         }
-
-        return profiles;
+        return null;
     }
 
     /**
-     * Detect profiles in a module by scanning all subdirectories.
+     * Detect profiles in all modules of a project.
      * This is useful when the exact module structure is unknown.
+     * Modules are scanned with the thread count this detector was created with.
+     *
+     * @see #detectProfilesRecursive(Path, int)
      */
     public List<String> detectProfilesRecursive(Path projectRootPath) {
+        return detectProfilesRecursive(projectRootPath, threads);
+    }
+
+    /**
+     * Detect profiles in all modules of a project: the root and the modules its POM declares, recursively.
+     * Each module's {@code src/main/resources} and {@code src/main/resources/config} are listed, nothing else.
+     * Without a readable root POM, the tree is walked instead, pruning build output, dependency and hidden
+     * (VCS, IDE) directories and not descending into {@code src}.
+     *
+     * @param projectRootPath Root path of the project
+     * @param threads number of modules scanned concurrently; 1 or less scans them sequentially
+     * @return List of detected profile names (sorted, unique)
+     */
+    public List<String> detectProfilesRecursive(Path projectRootPath, int threads) {
+        List<Path> moduleDirectories = findModuleDirectories(projectRootPath);
         Set<String> profiles = new HashSet<>();
 
-        try (Stream<Path> paths = Files.walk(projectRootPath)) {
-            paths.filter(path -> path.toString().contains("src/main/resources"))
-                .filter(Files::isDirectory)
-                .forEach(resourcesPath -> {
-                    try (Stream<Path> files = Files.list(resourcesPath)) {
-                        files.filter(Files::isRegularFile)
-                            .forEach(file -> {
-                                String fileName = file.getFileName().toString();
-                                Matcher matcher = PROFILE_PATTERN.matcher(fileName);
-                                if (matcher.matches()) {
-                                    String profile = matcher.group(1);
-                                    profiles.add(profile);
-                                }
-                            });
-                    } catch (IOException e) {
-                        log.warn("Error scanning directory {}: {}", resourcesPath, e.getMessage());
-                    }
-                });
-        } catch (IOException e) {
-            log.warn("Error walking project tree {}: {}", projectRootPath, e.getMessage());
+        if (threads <= 1 || moduleDirectories.size() <= 1) {
+            for (Path moduleDirectory : moduleDirectories) {
+                profiles.addAll(detectProfilesInModuleResources(moduleDirectory));
+            }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, moduleDirectories.size()),
+                    new DaemonThreadFactory("deploy-manifest-profiles"));
+            try {
+                List<Future<Set<String>>> futures = new ArrayList<>(moduleDirectories.size());
+                for (Path moduleDirectory : moduleDirectories) {
+                    futures.add(executor.submit(() -> detectProfilesInModuleResources(moduleDirectory)));
+                }
+                for (Future<Set<String>> future : futures) {
+                    profiles.addAll(future.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while scanning modules of {}", projectRootPath);
+            } catch (ExecutionException e) {
+                log.warn("Error scanning modules of {}: {}", projectRootPath, e.getCause().getMessage());
+            } finally {
+                executor.shutdownNow();
+            }
         }
 
+        log.debug("Scanned {} module directories of {} for profiles", moduleDirectories.size(), projectRootPath);
         return profiles.stream().sorted().toList();
     }
-}
 
+    /**
+     * Profiles of the module's resources, including Spring's {@code config/} location.
+     */
+    private Set<String> detectProfilesInModuleResources(Path modulePath) {
+        Set<String> profiles = detectProfilesInModule(modulePath);
+        for (String fileName : resourceIndexes.configIndex(modulePath).fileNames()) {
+            Matcher matcher = PROFILE_PATTERN.matcher(fileName);
+            if (matcher.matches()) {
+                profiles.add(matcher.group(1));
+            }
+        }
+        return profiles;
+    }
+
+    /**
+     * The project root and the modules declared by the reactor POMs, or the directories holding
+     * {@code src/main/resources} when the root has no readable POM.
+     */
+    private List<Path> findModuleDirectories(Path projectRootPath) {
+        Path root = projectRootPath.toAbsolutePath().normalize();
+        Path rootPom = root.resolve("pom.xml");
+        Model rootModel = Files.isRegularFile(rootPom) ? pomCache.readQuietly(rootPom) : null;
+        Set<Path> directories = new LinkedHashSet<>();
+        if (rootModel != null) {
+            collectModuleDirectories(root, rootModel, directories);
+        } else {
+            walkForResourceDirectories(root, directories);
+        }
+        return new ArrayList<>(directories);
+    }
+
+    private void collectModuleDirectories(Path moduleDirectory, Model model, Set<Path> directories) {
+        if (!directories.add(moduleDirectory) || model.getModules() == null) {
+            return;
+        }
+        for (String module : model.getModules()) {
+            Path modulePath = moduleDirectory.resolve(module).normalize();
+            Path pomFile = modulePath.resolve("pom.xml");
+            if (Files.isRegularFile(modulePath) && module.endsWith(".xml")) {
+                // <module> pointing at a POM file rather than a directory
+                pomFile = modulePath;
+                modulePath = modulePath.getParent();
+            }
+            Model moduleModel = Files.isRegularFile(pomFile) ? pomCache.readQuietly(pomFile) : null;
+            if (moduleModel != null) {
+                collectModuleDirectories(modulePath, moduleModel, directories);
+            } else if (Files.isDirectory(modulePath)) {
+                directories.add(modulePath);
+            }
+        }
+    }
+
+    private void walkForResourceDirectories(Path root, Set<Path> directories) {
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (dir.equals(root)) {
+                        directories.add(dir);
+                        return FileVisitResult.CONTINUE;
+                    }
+                    String name = dir.getFileName().toString();
+                    if ("src".equals(name) || name.startsWith(".") || PRUNED_DIRECTORIES.contains(name)) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    if (Files.isDirectory(dir.resolve("src/main/resources"))) {
+                        directories.add(dir);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    log.debug("Skipping {}: {}", file, e.getMessage());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Error walking project tree {}: {}", root, e.getMessage());
+        }
+    }
+}
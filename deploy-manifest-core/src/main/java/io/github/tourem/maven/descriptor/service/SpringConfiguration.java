@@ -0,0 +1,245 @@
+package io.github.tourem.maven.descriptor.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spring Boot configuration files of one module ({@code application[-profile].yml|yaml|properties} at the top of
+ * {@code src/main/resources}), each parsed at most once into an immutable tree shared by every detector.
+ *
+ * Files are parsed lazily, on the first lookup. YAML files are read with a {@link YamlKeyExtractor} that keeps only
+ * the keys the detectors use ({@link #KEYS}) and splits multi-document files into the unconditional content and
+ * the documents activated for a profile; properties files are flat maps of dotted keys. Obtain instances from
+ * {@link ResourceIndexCache#springConfiguration(Path)} so that an analysis run parses each file once, whatever the
+ * number of detectors and profiles. Thread-safe.
+ * @author tourem
+ */
+@Slf4j
+public final class SpringConfiguration {
+
+    /**
+     * Keys read from YAML files.
+     */
+    public static final List<String> KEYS = List.of(
+            "server.port",
+            "server.servlet.context-path",
+            "spring.webflux.base-path",
+            "management.endpoints.web.base-path",
+            "spring.profiles.*");
+
+    private static final String[] EXTENSIONS = {".yml", ".yaml", ".properties"};
+    private static final YamlKeyExtractor YAML_EXTRACTOR = new YamlKeyExtractor(KEYS);
+
+    private final ResourceIndex resources;
+    private final AtomicLong parseCounter;
+    private final Map<String, Optional<ConfigFile>> files = new ConcurrentHashMap<>();
+    private volatile ConfigOverlay commonOverlay;
+
+    SpringConfiguration(ResourceIndex resources, AtomicLong parseCounter) {
+        this.resources = resources;
+        this.parseCounter = parseCounter;
+    }
+
+    /**
+     * One parsed configuration file.
+     *
+     * @param path             file location
+     * @param tree             unmodifiable content outside profile-specific documents: nested maps for YAML,
+     *                         dotted keys for properties
+     * @param profileDocuments documents of a multi-document YAML file activated for some profiles, in file order
+     */
+    public record ConfigFile(Path path, Map<String, Object> tree, List<YamlKeyExtractor.Document> profileDocuments) {
+
+        /**
+         * Trees of the documents activated for {@code profile}, in file order.
+         */
+        public List<Map<String, Object>> profileTrees(String profile) {
+            List<Map<String, Object>> trees = new ArrayList<>();
+            for (YamlKeyExtractor.Document document : profileDocuments) {
+                if (document.profiles().contains(profile)) {
+                    trees.add(document.tree());
+                }
+            }
+            return trees;
+        }
+
+        /**
+         * Value of a dotted key: the nested YAML path first ({@code server -> port}), then the key as written
+         * ({@code server.port}, as in properties files). Null when absent.
+         */
+        public Object get(String key) {
+            Object node = tree;
+            for (String segment : key.split("\\.")) {
+                if (!(node instanceof Map<?, ?> map)) {
+                    node = null;
+                    break;
+                }
+                node = map.get(segment);
+            }
+            return node != null ? node : tree.get(key);
+        }
+    }
+
+    public ResourceIndex resources() {
+        return resources;
+    }
+
+    /**
+     * The parsed file with this name, or null when it does not exist or cannot be parsed.
+     */
+    public ConfigFile file(String fileName) {
+        return files.computeIfAbsent(fileName, name -> Optional.ofNullable(parse(resources.file(name)))).orElse(null);
+    }
+
+    /**
+     * {@code application.yml}, {@code application.yaml} and {@code application.properties} that exist, in this
+     * order: a later file overrides an earlier one.
+     */
+    public List<ConfigFile> common() {
+        return layers("application");
+    }
+
+    /**
+     * {@code application-{profile}.yml|yaml|properties} that exist, in override order like {@link #common()}.
+     */
+    public List<ConfigFile> profile(String profile) {
+        return layers("application-" + profile);
+    }
+
+    /**
+     * The common configuration as one overlay layer, built once.
+     */
+    public ConfigOverlay commonOverlay() {
+        ConfigOverlay overlay = commonOverlay;
+        if (overlay == null) {
+            overlay = ConfigOverlay.empty().with(layer(common()));
+            commonOverlay = overlay;
+        }
+        return overlay;
+    }
+
+    /**
+     * The profile configuration layered over the common configuration: documents of the common files activated
+     * for the profile, then the profile files. The common layer is shared, not copied, so resolving a profile costs
+     * the size of its own documents and files.
+     */
+    public ConfigOverlay overlay(String profile) {
+        ConfigOverlay overlay = commonOverlay();
+        for (ConfigFile file : common()) {
+            for (Map<String, Object> tree : file.profileTrees(profile)) {
+                overlay = overlay.with(tree);
+            }
+        }
+        return overlay.with(layer(profile(profile)));
+    }
+
+    /**
+     * Profiles that documents of the common files are activated for, in file order.
+     */
+    public Set<String> documentProfiles() {
+        Set<String> profiles = new LinkedHashSet<>();
+        for (ConfigFile file : common()) {
+            for (YamlKeyExtractor.Document document : file.profileDocuments()) {
+                profiles.addAll(document.profiles());
+            }
+        }
+        return profiles;
+    }
+
+    /**
+     * Files of one level merged key by key at the top level, as Spring binds {@code .yml} and {@code .properties}
+     * side by side; a single file is used as is.
+     */
+    private static Map<String, Object> layer(List<ConfigFile> files) {
+        if (files.size() == 1) {
+            return files.get(0).tree();
+        }
+        Map<String, Object> layer = new LinkedHashMap<>();
+        for (ConfigFile file : files) {
+            layer.putAll(file.tree());
+        }
+        return Collections.unmodifiableMap(layer);
+    }
+
+    private List<ConfigFile> layers(String baseName) {
+        List<ConfigFile> layers = new ArrayList<>(EXTENSIONS.length);
+        for (String extension : EXTENSIONS) {
+            ConfigFile file = file(baseName + extension);
+            if (file != null) {
+                layers.add(file);
+            }
+        }
+        return layers;
+    }
+
+    private ConfigFile parse(Path path) {
+        if (path == null) {
+            return null;
+        }
+        if (parseCounter != null) {
+            parseCounter.incrementAndGet();
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            if (path.getFileName().toString().endsWith(".properties")) {
+                Properties props = new Properties();
+                props.load(in);
+                Map<String, Object> tree = new LinkedHashMap<>();
+                for (String key : props.stringPropertyNames()) {
+                    tree.put(key, props.getProperty(key));
+                }
+                return new ConfigFile(path, Collections.unmodifiableMap(tree), List.of());
+            }
+            Map<String, Object> tree = Collections.emptyMap();
+            List<YamlKeyExtractor.Document> profileDocuments = new ArrayList<>();
+            for (YamlKeyExtractor.Document document :
+                    YAML_EXTRACTOR.extract(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                if (!document.conditional()) {
+                    tree = merge(tree, document.tree());
+                } else if (!document.profiles().isEmpty()) {
+                    profileDocuments.add(document);
+                }
+            }
+            return new ConfigFile(path, tree, List.copyOf(profileDocuments));
+        } catch (IOException | YAMLException e) {
+            log.warn("Error reading configuration file {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Deep merge of {@code over} onto {@code base} into a new unmodifiable tree; untouched sections are shared.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> merge(Map<String, Object> base, Map<String, Object> over) {
+        if (base.isEmpty()) {
+            return over;
+        }
+        Map<String, Object> merged = new LinkedHashMap<>(base);
+        for (Map.Entry<String, Object> entry : over.entrySet()) {
+            if (entry.getValue() instanceof Map<?, ?> overSection && base.get(entry.getKey()) instanceof Map<?, ?> baseSection) {
+                merged.put(entry.getKey(), merge((Map<String, Object>) baseSection, (Map<String, Object>) overSection));
+            } else {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(merged);
+    }
+}
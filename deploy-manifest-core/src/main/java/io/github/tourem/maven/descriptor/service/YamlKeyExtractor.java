@@ -0,0 +1,313 @@
+package io.github.tourem.maven.descriptor.service;
+
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads selected key paths out of a YAML stream with SnakeYAML's event parser, without building the object graph
+ * of the rest of the document.
+ *
+ * Keys are dotted paths ({@code server.port}); a path ending in {@code .*} selects the whole subtree under its
+ * prefix ({@code spring.profiles.*}). Mappings are only descended into when they lead to a selected path; other
+ * subtrees are skipped event by event, so large unrelated blocks cost a scan but no allocation. Dotted keys written
+ * in the YAML ({@code server.port: 8080}) match like nested ones. Selected scalars get the same Java types as
+ * {@code new Yaml().load}.
+ *
+ * Each document of a multi-document file is returned separately, with the profiles it is activated for
+ * ({@code spring.config.activate.on-profile}, or the legacy document-level {@code spring.profiles} as a string or a
+ * list). Any {@code spring.config.activate.*} key makes a document {@link Document#conditional()}; documents whose
+ * condition cannot be evaluated from profiles alone ({@code on-cloud-platform} or another activation key, profile
+ * expressions with {@code !} or {@code &}) are reported with no profiles so callers can ignore them.
+ * Not supported: merge keys ({@code <<}) and aliases to collections outside the selected paths.
+ * Instances are immutable and thread-safe.
+ * @author tourem
+ */
+public final class YamlKeyExtractor {
+
+    private static final String ACTIVATE = "spring.config.activate";
+    private static final String ON_PROFILE = "on-profile";
+    private static final String LEGACY_PROFILES = "spring.profiles";
+    private static final Object SKIPPED = new Object();
+
+    private final Set<String> leaves = new HashSet<>();
+    private final Set<String> subtrees = new HashSet<>();
+    private final Set<String> prefixes = new HashSet<>();
+
+    private enum Interest { CAPTURE, DESCEND, SKIP }
+
+    /**
+     * One document of the stream.
+     *
+     * @param profiles    profiles the document is activated for; empty for an unconditional document
+     * @param conditional whether the document has an activation condition (possibly one not understood)
+     * @param tree        unmodifiable tree holding only the selected paths
+     */
+    public record Document(Set<String> profiles, boolean conditional, Map<String, Object> tree) {
+    }
+
+    /**
+     * @param keys dotted key paths to extract; the activation keys are always read
+     */
+    public YamlKeyExtractor(Collection<String> keys) {
+        List<String> all = new ArrayList<>(keys);
+        all.add(ACTIVATE + ".*");
+        all.add(LEGACY_PROFILES);
+        for (String key : all) {
+            String path = key;
+            if (key.endsWith(".*")) {
+                path = key.substring(0, key.length() - 2);
+                subtrees.add(path);
+            } else {
+                leaves.add(path);
+            }
+            for (int dot = path.indexOf('.'); dot > 0; dot = path.indexOf('.', dot + 1)) {
+                prefixes.add(path.substring(0, dot));
+            }
+        }
+    }
+
+    /**
+     * Extract the selected paths of every document.
+     *
+     * @throws org.yaml.snakeyaml.error.YAMLException when the stream is not valid YAML
+     */
+    public List<Document> extract(Reader reader) {
+        return new Run(reader).documents();
+    }
+
+    private Interest interest(String path) {
+        if (leaves.contains(path) || subtrees.contains(path)) {
+            return Interest.CAPTURE;
+        }
+        for (int dot = path.lastIndexOf('.'); dot > 0; dot = path.lastIndexOf('.', dot - 1)) {
+            if (subtrees.contains(path.substring(0, dot))) {
+                return Interest.CAPTURE;
+            }
+        }
+        return prefixes.contains(path) ? Interest.DESCEND : Interest.SKIP;
+    }
+
+    /**
+     * State of one extraction: parser, anchors and scalar construction.
+     */
+    private final class Run {
+
+        private final Parser parser;
+        private final Resolver resolver = new Resolver();
+        private final ScalarConstructor constructor;
+        private final Map<String, Object> anchors = new HashMap<>();
+
+        Run(Reader reader) {
+            LoaderOptions options = new LoaderOptions();
+            this.parser = new ParserImpl(new StreamReader(reader), options);
+            this.constructor = new ScalarConstructor(options);
+        }
+
+        List<Document> documents() {
+            List<Document> documents = new ArrayList<>();
+            while (!parser.checkEvent(Event.ID.StreamEnd)) {
+                Event event = parser.getEvent();
+                if (event.is(Event.ID.DocumentStart)) {
+                    anchors.clear();
+                    Object root = node(parser.getEvent(), "", Interest.DESCEND);
+                    parser.getEvent(); // DocumentEnd
+                    documents.add(document(root));
+                }
+            }
+            return documents;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Document document(Object root) {
+            Map<String, Object> tree = root instanceof Map<?, ?> map ? (Map<String, Object>) map : Collections.emptyMap();
+            Map<String, Object> activation = new LinkedHashMap<>();
+            collectActivation(tree, "", activation);
+            Object expressions;
+            if (!activation.isEmpty()) {
+                expressions = activation.get(ON_PROFILE);
+                if (expressions == null || activation.size() > 1) {
+                    // Cloud platform or other conditions: not decidable from profiles
+                    return new Document(Set.of(), true, tree);
+                }
+            } else {
+                // Legacy document-level profiles; a mapping is spring.profiles.active/include/group instead
+                expressions = lookup(tree, LEGACY_PROFILES);
+                if (!(expressions instanceof String) && !(expressions instanceof List<?>)) {
+                    return new Document(Set.of(), false, tree);
+                }
+            }
+            Set<String> profiles = new LinkedHashSet<>();
+            for (Object expression : expressions instanceof List<?> list ? list : List.of(expressions)) {
+                for (String profile : String.valueOf(expression).split("[,|]")) {
+                    profile = profile.trim();
+                    if (profile.startsWith("(") && profile.endsWith(")")) {
+                        profile = profile.substring(1, profile.length() - 1).trim();
+                    }
+                    if (profile.isEmpty() || profile.contains("!") || profile.contains("&")) {
+                        return new Document(Set.of(), true, tree);
+                    }
+                    profiles.add(profile);
+                }
+            }
+            return new Document(Collections.unmodifiableSet(profiles), true, tree);
+        }
+
+        /**
+         * Value of the node starting with {@code event}, or {@link #SKIPPED} when it is not selected.
+         */
+        private Object node(Event event, String path, Interest interest) {
+            if (event instanceof AliasEvent alias) {
+                Object value = anchors.get(alias.getAnchor());
+                return interest == Interest.SKIP || value == null ? SKIPPED : value;
+            }
+            Object value;
+            if (event instanceof ScalarEvent scalar) {
+                value = interest != Interest.SKIP || scalar.getAnchor() != null ? scalar(scalar) : SKIPPED;
+            } else if (event instanceof MappingStartEvent && interest != Interest.SKIP) {
+                value = mapping(path, interest);
+            } else if (event instanceof SequenceStartEvent && interest == Interest.CAPTURE) {
+                value = sequence(path);
+            } else {
+                skip(event);
+                value = SKIPPED;
+            }
+            String anchor = ((NodeEvent) event).getAnchor();
+            if (anchor != null && value != SKIPPED) {
+                anchors.put(anchor, value);
+            }
+            return value;
+        }
+
+        private Map<String, Object> mapping(String path, Interest interest) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            while (!parser.checkEvent(Event.ID.MappingEnd)) {
+                Event keyEvent = parser.getEvent();
+                if (!(keyEvent instanceof ScalarEvent key)) {
+                    // Complex keys never lead to a selected path
+                    skip(keyEvent);
+                    skip(parser.getEvent());
+                    continue;
+                }
+                String childPath = path.isEmpty() ? key.getValue() : path + "." + key.getValue();
+                Interest childInterest = interest == Interest.CAPTURE ? Interest.CAPTURE : interest(childPath);
+                Object value = node(parser.getEvent(), childPath, childInterest);
+                if (value != SKIPPED) {
+                    map.put(key.getValue(), value);
+                }
+            }
+            parser.getEvent();
+            return Collections.unmodifiableMap(map);
+        }
+
+        private List<Object> sequence(String path) {
+            List<Object> list = new ArrayList<>();
+            while (!parser.checkEvent(Event.ID.SequenceEnd)) {
+                Object value = node(parser.getEvent(), path, Interest.CAPTURE);
+                list.add(value == SKIPPED ? null : value);
+            }
+            parser.getEvent();
+            return Collections.unmodifiableList(list);
+        }
+
+        /**
+         * Consume the rest of the node started by {@code event}, keeping only anchored scalars.
+         */
+        private void skip(Event event) {
+            if (!(event instanceof MappingStartEvent) && !(event instanceof SequenceStartEvent)) {
+                if (event instanceof ScalarEvent scalar && scalar.getAnchor() != null) {
+                    anchors.put(scalar.getAnchor(), scalar(scalar));
+                }
+                return;
+            }
+            int depth = 1;
+            while (depth > 0) {
+                Event next = parser.getEvent();
+                if (next instanceof MappingStartEvent || next instanceof SequenceStartEvent) {
+                    depth++;
+                } else if (next.is(Event.ID.MappingEnd) || next.is(Event.ID.SequenceEnd)) {
+                    depth--;
+                } else if (next instanceof ScalarEvent scalar && scalar.getAnchor() != null) {
+                    anchors.put(scalar.getAnchor(), scalar(scalar));
+                }
+            }
+        }
+
+        private Object scalar(ScalarEvent event) {
+            // Tag resolution as done by SnakeYAML's composer
+            Tag tag = event.getTag() == null || "!".equals(event.getTag())
+                    ? resolver.resolve(NodeId.scalar, event.getValue(), event.getImplicit().canOmitTagInPlainScalar())
+                    : new Tag(event.getTag());
+            return constructor.construct(new ScalarNode(tag, event.getValue(),
+                    event.getStartMark(), event.getEndMark(), event.getScalarStyle()));
+        }
+    }
+
+    /**
+     * Activation conditions of a document by name ({@code on-profile}, {@code on-cloud-platform}), whether written
+     * nested, dotted or mixed.
+     */
+    @SuppressWarnings("unchecked")
+    private static void collectActivation(Map<String, Object> node, String path, Map<String, Object> activation) {
+        for (Map.Entry<String, Object> entry : node.entrySet()) {
+            String childPath = path.isEmpty() ? entry.getKey() : path + "." + entry.getKey();
+            if (childPath.startsWith(ACTIVATE + ".")) {
+                // Named by the first segment below the prefix
+                String name = childPath.substring(ACTIVATE.length() + 1);
+                activation.put(name.contains(".") ? name.substring(0, name.indexOf('.')) : name, entry.getValue());
+            } else if (entry.getValue() instanceof Map<?, ?> nested && (ACTIVATE + ".").startsWith(childPath + ".")) {
+                collectActivation((Map<String, Object>) nested, childPath, activation);
+            }
+        }
+    }
+
+    private static Object lookup(Map<String, Object> tree, String key) {
+        Object node = tree;
+        for (String segment : key.split("\\.")) {
+            if (!(node instanceof Map<?, ?> map)) {
+                node = null;
+                break;
+            }
+            node = map.get(segment);
+        }
+        return node != null ? node : tree.get(key);
+    }
+
+    /**
+     * Exposes the construction of single scalars with the standard YAML types.
+     */
+    private static final class ScalarConstructor extends SafeConstructor {
+
+        ScalarConstructor(LoaderOptions options) {
+            super(options);
+        }
+
+        Object construct(ScalarNode node) {
+            return constructObject(node);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.tourem.maven.descriptor.spi;
 
 import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.service.PomModelCache;
+import io.github.tourem.maven.descriptor.service.ResourceIndexCache;
 import org.apache.maven.model.Model;
 
 import java.nio.file.Path;
@@ -82,5 +84,23 @@ public interface FrameworkDetector {
     default int getPriority() {
         return 0;
     }
-}
 
+    /**
+     * Provide the resource directory indexes of the analysis run, so that detectors reading
+     * {@code src/main/resources} share the single scan of each module. Called by the analyzer
+     * before any module is processed; detectors that do not read resources can ignore it.
+     *
+     * @param resourceIndexes Resource directory indexes of the analysis run
+     */
+    default void setResourceIndexes(ResourceIndexCache resourceIndexes) {
+    }
+
+    /**
+     * Provide the POM model cache of the analysis run, so that detectors reading module POMs
+     * parse each one once per run. Called by the analyzer before any module is processed.
+     *
+     * @param pomCache POM model cache of the analysis run
+     */
+    default void setPomCache(PomModelCache pomCache) {
+    }
+}
@@ -1,19 +1,16 @@
 package io.github.tourem.maven.descriptor.spi.impl;
 
 import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.service.ResourceIndexCache;
 import io.github.tourem.maven.descriptor.spi.FrameworkDetector;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Plugin;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Properties;
-import java.util.stream.Stream;
 
 /**
  * Framework detector for Quarkus applications.
@@ -26,6 +23,13 @@ import java.util.stream.Stream;
 @Slf4j
 public class QuarkusFrameworkDetector implements FrameworkDetector {
 
+    private ResourceIndexCache resourceIndexes = ResourceIndexCache.uncached();
+
+    @Override
+    public void setResourceIndexes(ResourceIndexCache resourceIndexes) {
+        this.resourceIndexes = resourceIndexes != null ? resourceIndexes : ResourceIndexCache.uncached();
+    }
+
     @Override
     public String getFrameworkName() {
         return "Quarkus";
@@ -117,19 +121,10 @@ public class QuarkusFrameworkDetector implements FrameworkDetector {
         List<String> profiles = new ArrayList<>();
 
         // Check src/main/resources for application-{profile}.properties
-        Path resourcesDir = modulePath.resolve("src/main/resources");
-        if (Files.exists(resourcesDir)) {
-            try (Stream<Path> files = Files.list(resourcesDir)) {
-                files.filter(f -> f.getFileName().toString().matches("application-.*\\.properties"))
-                     .forEach(f -> {
-                         String fileName = f.getFileName().toString();
-                         String profile = fileName.substring("application-".length(),
-                                                            fileName.length() - ".properties".length());
-                         profiles.add(profile);
-                     });
-            } catch (IOException e) {
-                log.warn("Failed to scan Quarkus profiles: {}", e.getMessage());
-            }
+        for (String fileName : resourceIndexes.index(modulePath).fileNames(n -> n.matches("application-.*\\.properties"))) {
+            String profile = fileName.substring("application-".length(),
+                                               fileName.length() - ".properties".length());
+            profiles.add(profile);
         }
 
         return profiles;
@@ -19,15 +19,29 @@ import java.util.List;
 public class SpringBootFrameworkDetector implements FrameworkDetector {
 
     private final SpringBootDetector springBootDetector;
-    private final SpringBootProfileDetector profileDetector;
-    private final DeploymentMetadataDetector metadataDetector;
-    private final EnvironmentConfigDetector environmentConfigDetector;
+    private PomModelCache pomCache;
+    private ResourceIndexCache resourceIndexes;
+    private SpringBootProfileDetector profileDetector;
+    private DeploymentMetadataDetector metadataDetector;
+    private EnvironmentConfigDetector environmentConfigDetector;
 
     public SpringBootFrameworkDetector() {
         this.springBootDetector = new SpringBootDetector();
-        this.profileDetector = new SpringBootProfileDetector();
-        this.metadataDetector = new DeploymentMetadataDetector();
-        this.environmentConfigDetector = new EnvironmentConfigDetector();
+        setResourceIndexes(null);
+    }
+
+    @Override
+    public void setResourceIndexes(ResourceIndexCache resourceIndexes) {
+        this.resourceIndexes = resourceIndexes;
+        this.profileDetector = new SpringBootProfileDetector(pomCache, resourceIndexes);
+        this.metadataDetector = new DeploymentMetadataDetector(resourceIndexes);
+        this.environmentConfigDetector = new EnvironmentConfigDetector(resourceIndexes);
+    }
+
+    @Override
+    public void setPomCache(PomModelCache pomCache) {
+        this.pomCache = pomCache;
+        this.profileDetector = new SpringBootProfileDetector(pomCache, resourceIndexes);
     }
 
     @Override
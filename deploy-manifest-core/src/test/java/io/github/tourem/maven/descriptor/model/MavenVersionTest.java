@@ -0,0 +1,75 @@
+package io.github.tourem.maven.descriptor.model;
+
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenVersionTest {
+
+    @Test
+    void shouldOrderLikeMaven() {
+        List<String> expected = List.of(
+                "1.0-alpha-1", "1.0-alpha2", "1.0-beta1", "1.0-M1", "1.0-rc1", "1.0-RC2",
+                "1.0-SNAPSHOT", "1.0", "1.0-sp1", "1.0-1", "1.0.1", "1.1", "1.10", "2.0.0-M3", "2.0.0");
+        List<String> shuffled = new ArrayList<>(expected);
+        Collections.shuffle(shuffled, new Random(42));
+
+        shuffled.sort(MavenVersion.COMPARATOR);
+
+        assertThat(shuffled).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldAgreeWithMavenComparableVersion() {
+        String[] versions = {
+                "1", "1.0", "1.0.1", "1.10", "1.2", "2.0-SNAPSHOT", "2.0", "2.0-rc1", "2.0-M1", "2.0-alpha1",
+                "2.0-beta-2", "2.0.RELEASE", "2.0-sp1", "2.0-1", "2.0-jre", "2.0-android", "1.0.0.Beta1",
+                "1.0.0.CR1", "1.0-b1", "3.0.0-beta.1", "1.2.3-20240101", "5.10.0-M1", "0.10.0", "10"};
+        for (String a : versions) {
+            for (String b : versions) {
+                int maven = Integer.signum(new ComparableVersion(a).compareTo(new ComparableVersion(b)));
+                assertThat(Integer.signum(MavenVersion.compare(a, b))).as("%s vs %s", a, b).isEqualTo(maven);
+            }
+        }
+    }
+
+    @Test
+    void shouldTreatTrailingZerosAndReleaseQualifiersAsEqual() {
+        assertThat(MavenVersion.compare("1", "1.0.0")).isZero();
+        assertThat(MavenVersion.compare("5.3.20.RELEASE", "5.3.20")).isZero();
+        assertThat(MavenVersion.compare("6.2.0.Final", "6.2")).isZero();
+        assertThat(MavenVersion.compare("1.0-cr1", "1.0-RC-1")).isZero();
+        assertThat(MavenVersion.compare("1.0alpha1", "1.0-alpha-1")).isZero();
+        assertThat(MavenVersion.parse("1.0.0")).isEqualTo(MavenVersion.parse("1"));
+    }
+
+    @Test
+    void shouldCompareUnknownQualifiersAfterKnownOnes() {
+        assertThat(MavenVersion.compare("1.0-jre", "1.0-android")).isPositive();
+        assertThat(MavenVersion.compare("1.0-jre", "1.0-sp1")).isPositive();
+        assertThat(MavenVersion.compare("33.0.0-jre", "32.1.3-jre")).isPositive();
+    }
+
+    @Test
+    void shouldExposeMajorMinorAndSnapshot() {
+        MavenVersion version = MavenVersion.parse("3.12.1-SNAPSHOT");
+
+        assertThat(version.major()).isEqualTo(3);
+        assertThat(version.minor()).isEqualTo(12);
+        assertThat(version.isSnapshot()).isTrue();
+        assertThat(MavenVersion.parse("v2").major()).isEqualTo(-1);
+        assertThat(MavenVersion.parse("20240101120000").major()).isEqualTo(20240101120000L);
+    }
+
+    @Test
+    void shouldCacheParsedVersions() {
+        assertThat(MavenVersion.parse("4.5.6")).isSameAs(MavenVersion.parse("4.5.6"));
+        assertThat(MavenVersion.parse(null).toString()).isEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.tourem.maven.descriptor.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConfigOverlayTest {
+
+    private static final Map<String, Object> BASE = Map.of(
+            "server", Map.of("port", 8080, "servlet", Map.of("context-path", "/api")),
+            "management", Map.of("endpoints", Map.of("web", Map.of("base-path", "/manage"))),
+            "logging", "INFO",
+            "server.port", "7000");
+
+    @Test
+    void shouldResolveLikeDeepMerge() {
+        Map<String, Object> profile = Map.of(
+                "server", Map.of("port", 9090),
+                "management", "disabled",
+                "logging", Map.of("level", "DEBUG"));
+
+        ConfigOverlay overlay = ConfigOverlay.empty().with(BASE).with(profile);
+        Map<String, Object> merged = deepMerge(deepMerge(new HashMap<>(), BASE), profile);
+
+        for (List<String> path : List.of(
+                List.of("server", "port"),
+                List.of("server", "servlet", "context-path"),
+                List.of("management", "endpoints", "web", "base-path"),
+                List.of("management"),
+                List.of("logging", "level"),
+                List.of("logging"),
+                List.of("server", "address"),
+                List.of("missing", "key"))) {
+            Object expected = lookup(merged, path);
+            assertThat(overlay.get(path.toArray(String[]::new)))
+                    .as("%s", path)
+                    .isEqualTo(expected instanceof Map ? null : expected);
+        }
+        assertThat(overlay.getKey("server.port")).isEqualTo("7000");
+    }
+
+    @Test
+    void shouldLeaveSharedBaseUntouched() {
+        ConfigOverlay base = ConfigOverlay.empty().with(BASE);
+        ConfigOverlay dev = base.with(Map.of("server", Map.of("port", 8081)));
+        ConfigOverlay prod = base.with(Map.of("server.port", "9090"));
+
+        assertThat(dev.get("server", "port")).isEqualTo(8081);
+        assertThat(prod.get("server", "port")).isEqualTo(8080);
+        assertThat(prod.getKey("server.port")).isEqualTo("9090");
+        assertThat(base.get("server", "port")).isEqualTo(8080);
+        assertThat(base.with(Map.of())).isSameAs(base);
+    }
+
+    @Test
+    void shouldShareCommonLayerAcrossProfiles(@TempDir Path tempDir) throws Exception {
+        Path resources = Files.createDirectories(tempDir.resolve("src/main/resources"));
+        Files.writeString(resources.resolve("application.yml"), "server:\n  port: 8080\n  servlet:\n    context-path: /api\n");
+        Files.writeString(resources.resolve("application-dev.yml"), "server:\n  port: 8081\n");
+        Files.writeString(resources.resolve("application-dev.properties"), "spring.webflux.base-path=/flux\n");
+
+        SpringConfiguration configuration = new ResourceIndexCache().springConfiguration(tempDir);
+        ConfigOverlay dev = configuration.overlay("dev");
+
+        assertThat(configuration.commonOverlay()).isSameAs(configuration.commonOverlay());
+        assertThat(configuration.overlay("prod")).isSameAs(configuration.commonOverlay());
+        assertThat(dev.get("server", "port")).isEqualTo(8081);
+        assertThat(dev.get("server", "servlet", "context-path")).isEqualTo("/api");
+        assertThat(dev.getKey("spring.webflux.base-path")).isEqualTo("/flux");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> deepMerge(Map<String, Object> target, Map<String, Object> source) {
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            if (entry.getValue() instanceof Map<?, ?> sourceMap && target.get(entry.getKey()) instanceof Map<?, ?> targetMap) {
+                Map<String, Object> copy = new HashMap<>((Map<String, Object>) targetMap);
+                target.put(entry.getKey(), deepMerge(copy, (Map<String, Object>) sourceMap));
+            } else if (entry.getValue() instanceof Map<?, ?> sourceMap) {
+                target.put(entry.getKey(), deepMerge(new HashMap<>(), (Map<String, Object>) sourceMap));
+            } else {
+                target.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return target;
+    }
+
+    private static Object lookup(Map<String, Object> map, List<String> path) {
+        Object node = map;
+        for (String segment : path) {
+            if (!(node instanceof Map<?, ?> section)) {
+                return null;
+            }
+            node = section.get(segment);
+        }
+        return node;
+    }
+}
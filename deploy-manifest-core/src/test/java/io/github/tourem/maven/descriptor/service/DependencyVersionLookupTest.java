@@ -0,0 +1,154 @@
+package io.github.tourem.maven.descriptor.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.tourem.maven.descriptor.model.Gav;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyVersionLookupTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            requests.computeIfAbsent(path, k -> new AtomicInteger()).incrementAndGet();
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(path.contains("/hanging/") ? 5_000 : 50);
+                byte[] body = metadata("1.0.0", "1.1.0", "1.2.0", "2.0.0").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void lookupAllShouldDeduplicateAndBoundRequestsInFlight() throws Exception {
+        List<Gav> artifacts = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            artifacts.add(new Gav("com.example", "lib-" + i, "1.0.0"));
+        }
+        artifacts.add(new Gav("com.example", "lib-0", "1.0.0"));
+
+        try (MetadataHttpClient http = new MetadataHttpClient()) {
+            DependencyVersionLookup lookup = new DependencyVersionLookup(List.of(baseUrl), 2000, http);
+            Map<Gav, List<String>> result = lookup.lookupAll(artifacts, 2, 3, 10_000).get(10, TimeUnit.SECONDS);
+
+            assertThat(result).hasSize(12);
+            assertThat(result.keySet()).first().isEqualTo(new Gav("com.example", "lib-0", "1.0.0"));
+            assertThat(result.values()).allSatisfy(v -> assertThat(v).containsExactly("2.0.0", "1.2.0"));
+        }
+        assertThat(requests.get("/com/example/lib-0/maven-metadata.xml")).hasValue(1);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void lookupAllShouldReturnPartialResultsAtDeadline() throws Exception {
+        List<Gav> artifacts = List.of(
+                new Gav("com.example", "fast", "1.0.0"),
+                new Gav("com.hanging", "slow", "1.0.0"));
+
+        try (MetadataHttpClient http = new MetadataHttpClient()) {
+            DependencyVersionLookup lookup = new DependencyVersionLookup(List.of(baseUrl), 10_000, http);
+            long start = System.nanoTime();
+            Map<Gav, List<String>> result = lookup.lookupAll(artifacts, 3, 4, 1_000).get(10, TimeUnit.SECONDS);
+
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(4_000);
+            assertThat(result.get(artifacts.get(0))).containsExactly("2.0.0", "1.2.0", "1.1.0");
+            assertThat(result.get(artifacts.get(1))).isEmpty();
+        }
+    }
+
+    @Test
+    void hedgedLookupShouldNotWaitForSlowRepository() throws Exception {
+        try (MetadataHttpClient http = new MetadataHttpClient()) {
+            try (DependencyVersionLookup lookup = new DependencyVersionLookup(
+                    List.of(baseUrl + "/hanging", baseUrl + "/fast"), 10_000, http, 100)) {
+                long start = System.nanoTime();
+                List<String> versions = lookup.lookupAvailableVersions("com.example", "lib", "1.1.0", 3);
+
+                assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(3_000);
+                assertThat(versions).containsExactly("2.0.0", "1.2.0");
+                assertThat(hedgeThreads()).isPositive();
+            }
+            // Hedge threads belong to the lookup: closing it stops them
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+            while (hedgeThreads() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(hedgeThreads()).isZero();
+        }
+        assertThat(requests).containsKeys("/hanging/com/example/lib/maven-metadata.xml", "/fast/com/example/lib/maven-metadata.xml");
+    }
+
+    private static long hedgeThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.isAlive() && t.getName().startsWith("deploy-manifest-hedge-"))
+                .count();
+    }
+
+    @Test
+    void shouldSkipRepositoryAfterRepeatedFailures() throws Exception {
+        String dead;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            dead = "http://127.0.0.1:" + socket.getLocalPort();
+        }
+        try (MetadataHttpClient http = new MetadataHttpClient()) {
+            DependencyVersionLookup lookup = new DependencyVersionLookup(List.of(dead, baseUrl), 2000, http);
+            for (int i = 0; i < 5; i++) {
+                assertThat(lookup.lookupAvailableVersions("com.example", "lib-" + i, "1.0.0", 1)).containsExactly("2.0.0");
+            }
+
+            assertThat(http.repositoryStats().snapshot())
+                    .filteredOn(s -> s.repository().equals(dead))
+                    .singleElement()
+                    .satisfies(s -> {
+                        assertThat(s.requests()).isEqualTo(RepositoryStats.DEFAULT_FAILURE_THRESHOLD);
+                        assertThat(s.healthy()).isFalse();
+                    });
+        }
+    }
+
+    private static String metadata(String... versions) {
+        StringBuilder sb = new StringBuilder("<metadata><versioning><versions>");
+        for (String v : versions) {
+            sb.append("<version>").append(v).append("</version>");
+        }
+        return sb.append("</versions></versioning></metadata>").toString();
+    }
+}
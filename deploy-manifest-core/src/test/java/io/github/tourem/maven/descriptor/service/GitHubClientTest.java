@@ -0,0 +1,198 @@
+package io.github.tourem.maven.descriptor.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitHubClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private MetadataHttpClient http;
+    private final List<String> graphQlQueries = new CopyOnWriteArrayList<>();
+    private final List<String> restPaths = new CopyOnWriteArrayList<>();
+    private final List<Long> waits = new CopyOnWriteArrayList<>();
+    /** Number of upcoming requests answered with a rate limit error. */
+    private final AtomicInteger rateLimited = new AtomicInteger();
+    private volatile long resetEpochSeconds;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/graphql", exchange -> {
+            try (exchange) {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                if (rateLimitedAnswer(exchange)) return;
+                graphQlQueries.add(body);
+                StringBuilder data = new StringBuilder("{\"data\":{");
+                for (int i = 0; body.contains("r" + i + ": repository"); i++) {
+                    if (i > 0) data.append(',');
+                    data.append("\"r").append(i).append("\":{\"stargazerCount\":").append(1000 + i)
+                            .append(",\"forkCount\":7,\"isArchived\":").append(i == 1)
+                            .append(",\"pushedAt\":\"2024-01-02T00:00:00Z\",\"licenseInfo\":{\"spdxId\":\"Apache-2.0\"}")
+                            .append(",\"issues\":{\"totalCount\":3},\"pullRequests\":{\"totalCount\":2}")
+                            .append(",\"mentionableUsers\":{\"totalCount\":12}")
+                            .append(",\"defaultBranchRef\":{\"target\":{\"committedDate\":\"2024-03-04T05:06:07Z\"}}}");
+                }
+                data.append("}}");
+                respond(exchange, 200, data.toString());
+            }
+        });
+        server.createContext("/repos/", exchange -> {
+            try (exchange) {
+                restPaths.add(exchange.getRequestURI().toString());
+                if (rateLimitedAnswer(exchange)) return;
+                if (exchange.getRequestURI().getPath().endsWith("/contributors")) {
+                    exchange.getResponseHeaders().add("Link",
+                            "<" + baseUrl + "/repositories/1/contributors?per_page=1&anon=true&page=2>; rel=\"next\", "
+                                    + "<" + baseUrl + "/repositories/1/contributors?per_page=1&anon=true&page=42>; rel=\"last\"");
+                    respond(exchange, 200, "[{\"login\":\"octocat\"}]");
+                } else {
+                    respond(exchange, 200, "{\"stargazers_count\":5,\"forks_count\":1,\"open_issues_count\":4,"
+                            + "\"archived\":true,\"license\":{\"spdx_id\":\"MIT\"},\"pushed_at\":\"2023-05-06T07:08:09Z\"}");
+                }
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        http = new MetadataHttpClient(4, 2, 2000);
+    }
+
+    @AfterEach
+    void stopServer() {
+        http.close();
+        server.stop(0);
+    }
+
+    @Test
+    void shouldBatchRepositoriesIntoGraphQlQueries() {
+        GitHubClient client = client("secret", 2, 60_000);
+
+        Map<String, GitHubClient.RepositoryInfo> infos =
+                client.fetchAll(List.of("apache/commons-lang", "google/guava", "apache/commons-lang", "FasterXML/jackson"));
+
+        assertThat(graphQlQueries).hasSize(2);
+        assertThat(restPaths).isEmpty();
+        assertThat(infos).containsOnlyKeys("apache/commons-lang", "google/guava", "FasterXML/jackson");
+        GitHubClient.RepositoryInfo guava = infos.get("google/guava");
+        assertThat(guava.starCount()).isEqualTo(1001);
+        assertThat(guava.archived()).isTrue();
+        assertThat(guava.openIssueCount()).isEqualTo(5);
+        assertThat(guava.contributorCount()).isEqualTo(12);
+        assertThat(guava.license()).isEqualTo("Apache-2.0");
+        assertThat(guava.lastCommitDate()).isEqualTo(Instant.parse("2024-03-04T05:06:07Z"));
+    }
+
+    @Test
+    void shouldPassOwnersAndNamesAsVariablesAndIgnoreInvalidNames() {
+        GitHubClient client = client("secret", 25, 60_000);
+
+        Map<String, GitHubClient.RepositoryInfo> infos = client.fetchAll(
+                List.of("apache/commons-lang", "evil\") { x } #/repo", "a/b/c", "owner\\/name", "google/guava"));
+
+        assertThat(graphQlQueries).hasSize(1);
+        assertThat(graphQlQueries.get(0))
+                .contains("r0: repository(owner: $o0, name: $n0)", "\"o1\":\"google\"", "\"n1\":\"guava\"")
+                .doesNotContain("owner: \\\"", "evil");
+        assertThat(infos).containsOnlyKeys("apache/commons-lang", "google/guava");
+    }
+
+    @Test
+    void shouldFallBackToRestWithoutToken() {
+        GitHubClient client = client(null, 25, 60_000);
+
+        GitHubClient.RepositoryInfo info = client.fetch("octocat/hello-world");
+
+        assertThat(graphQlQueries).isEmpty();
+        assertThat(restPaths).containsExactly("/repos/octocat/hello-world",
+                "/repos/octocat/hello-world/contributors?per_page=1&anon=true");
+        assertThat(info.starCount()).isEqualTo(5);
+        assertThat(info.archived()).isTrue();
+        assertThat(info.license()).isEqualTo("MIT");
+        assertThat(info.contributorCount()).isEqualTo(42);
+        assertThat(info.lastCommitDate()).isEqualTo(Instant.parse("2023-05-06T07:08:09Z"));
+    }
+
+    @Test
+    void shouldDeriveGraphQlEndpointFromRestBase() {
+        assertThat(GitHubClient.graphqlUrl("https://api.github.com")).isEqualTo("https://api.github.com/graphql");
+        assertThat(GitHubClient.graphqlUrl("https://ghe.example.com/api/v3")).isEqualTo("https://ghe.example.com/api/graphql");
+        assertThat(new GitHubClient("https://ghe.example.com/api/v3/", "secret", http, 1000, 0, 0).queryMode())
+                .isEqualTo("GraphQL");
+        assertThat(new GitHubClient(null, null, http, 1000, 0, 0).apiUrl()).isEqualTo(GitHubClient.DEFAULT_API_URL);
+    }
+
+    @Test
+    void shouldWaitForRateLimitResetAndRetry() {
+        resetEpochSeconds = System.currentTimeMillis() / 1000 + 5;
+        rateLimited.set(1);
+        GitHubClient client = client("secret", 25, 60_000);
+
+        Map<String, GitHubClient.RepositoryInfo> infos = client.fetchAll(List.of("google/guava"));
+
+        assertThat(infos).containsOnlyKeys("google/guava");
+        assertThat(waits).singleElement().satisfies(w -> assertThat(w).isBetween(1L, 6_000L));
+        assertThat(client.retries()).isEqualTo(1);
+        assertThat(client.requests()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSkipRemainingRepositoriesWhenWaitBudgetIsExhausted() {
+        resetEpochSeconds = System.currentTimeMillis() / 1000 + 3600;
+        rateLimited.set(1);
+        GitHubClient client = client(null, 25, 1_000);
+
+        Map<String, GitHubClient.RepositoryInfo> infos = client.fetchAll(List.of("a/one", "b/two", "c/three"));
+
+        assertThat(infos).isEmpty();
+        assertThat(waits).isEmpty();
+        assertThat(restPaths).hasSize(1);
+        assertThat(client.skipped()).isEqualTo(3);
+        assertThat(client.summary()).contains("3 repositories skipped");
+    }
+
+    @Test
+    void shouldExtractOwnerAndRepositoryFromScmUrls() {
+        assertThat(GitHubClient.ownerRepo("https://github.com/apache/commons-lang")).isEqualTo("apache/commons-lang");
+        assertThat(GitHubClient.ownerRepo("git@github.com:google/guava.git")).isEqualTo("google/guava");
+        assertThat(GitHubClient.ownerRepo("https://github.com/FasterXML/jackson-core/tree/2.17")).isEqualTo("FasterXML/jackson-core");
+        assertThat(GitHubClient.ownerRepo("https://gitbox.apache.org/repos/asf/maven")).isNull();
+        assertThat(GitHubClient.ownerRepo("https://github.com/owner/name\" } evil")).isNull();
+    }
+
+    private GitHubClient client(String token, int batchSize, long maxWaitMs) {
+        return new GitHubClient(baseUrl, token, http, 2000, batchSize, maxWaitMs, System::currentTimeMillis, waits::add);
+    }
+
+    private boolean rateLimitedAnswer(HttpExchange exchange) throws IOException {
+        if (rateLimited.getAndUpdate(n -> Math.max(0, n - 1)) == 0) {
+            exchange.getResponseHeaders().add("X-RateLimit-Remaining", "4999");
+            exchange.getResponseHeaders().add("X-RateLimit-Reset", Long.toString(resetEpochSeconds));
+            return false;
+        }
+        exchange.getResponseHeaders().add("X-RateLimit-Remaining", "0");
+        exchange.getResponseHeaders().add("X-RateLimit-Reset", Long.toString(resetEpochSeconds));
+        respond(exchange, 403, "{\"message\":\"API rate limit exceeded\"}");
+        return true;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.AnalysisOptions;
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import io.github.tourem.maven.descriptor.model.PropertyOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IncrementalAnalysisStateTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReuseUnchangedModulesAndAnalyzeChangedOnes() throws IOException {
+        Path project = tempDir.resolve("project");
+        writeProject(project);
+        Path state = tempDir.resolve("target/descriptor.state.json");
+
+        ProjectDescriptor first = analyzer(state).analyzeProject(project);
+        assertThat(state).exists();
+
+        ProjectDescriptor second = analyzer(state).analyzeProject(project);
+        assertThat(second.deployableModules()).isEqualTo(first.deployableModules());
+
+        // Unchanged modules come from the state file, not from a new analysis
+        Files.writeString(state, Files.readString(state)
+                .replace("\"lib-1.0.0\"", "\"lib-from-state\"")
+                .replace("\"app-1.0.0\"", "\"app-from-state\""));
+        ProjectDescriptor reused = analyzer(state).analyzeProject(project);
+        assertThat(module(reused, "lib").getFinalName()).isEqualTo("lib-from-state");
+        assertThat(module(reused, "app").getFinalName()).isEqualTo("app-from-state");
+
+        Files.writeString(project.resolve("app/src/main/resources/application-prod.yml"), "server:\n  port: 9090\n");
+        ProjectDescriptor changed = analyzer(state).analyzeProject(project);
+        assertThat(module(changed, "lib").getFinalName()).isEqualTo("lib-from-state");
+        assertThat(module(changed, "app").getFinalName()).isEqualTo("app-1.0.0");
+        assertThat(module(changed, "app").getEnvironments())
+                .anySatisfy(env -> assertThat(env.serverPort()).isEqualTo(9090));
+    }
+
+    @Test
+    void reusedModulesShouldReportCurrentSystemProperties() throws IOException {
+        Path project = tempDir.resolve("project");
+        writeProject(project);
+        Path state = tempDir.resolve("target/descriptor.state.json");
+        PropertyOptions properties = PropertyOptions.builder().include(true).build();
+        String previous = System.getProperty("build.number");
+        try {
+            System.setProperty("build.number", "41");
+            new MavenProjectAnalyzer(null, null, properties, null,
+                    AnalysisOptions.builder().incrementalStateFile(state.toString()).build()).analyzeProject(project);
+            Files.writeString(state, Files.readString(state).replace("\"lib-1.0.0\"", "\"lib-from-state\""));
+
+            System.setProperty("build.number", "42");
+            ProjectDescriptor rerun = new MavenProjectAnalyzer(null, null, properties, null,
+                    AnalysisOptions.builder().incrementalStateFile(state.toString()).build()).analyzeProject(project);
+
+            DeployableModule lib = module(rerun, "lib");
+            assertThat(lib.getFinalName()).isEqualTo("lib-from-state");
+            assertThat(lib.getProperties().getSystem()).containsEntry("build.number", "42");
+        } finally {
+            if (previous != null) {
+                System.setProperty("build.number", previous);
+            } else {
+                System.clearProperty("build.number");
+            }
+        }
+    }
+
+    @Test
+    void fingerprintShouldFollowParentPomAndDockerfile() throws Exception {
+        Path project = tempDir.resolve("project");
+        writeProject(project);
+        PomModelCache pomCache = new PomModelCache();
+        IncrementalAnalysisState state = IncrementalAnalysisState.load(tempDir.resolve("state.json"), "config", pomCache);
+        Path lib = project.resolve("lib");
+
+        String initial = state.fingerprint(pomCache.read(lib.resolve("pom.xml")), lib, project);
+        assertThat(state.fingerprint(pomCache.read(lib.resolve("pom.xml")), lib, project)).isEqualTo(initial);
+
+        Files.writeString(lib.resolve("Dockerfile"), "FROM eclipse-temurin:17\n");
+        String withDockerfile = state.fingerprint(pomCache.read(lib.resolve("pom.xml")), lib, project);
+        assertThat(withDockerfile).isNotEqualTo(initial);
+
+        Files.writeString(project.resolve("pom.xml"), Files.readString(project.resolve("pom.xml"))
+                .replace("<packaging>pom</packaging>", "<packaging>pom</packaging><name>renamed</name>"));
+        assertThat(state.fingerprint(pomCache.read(lib.resolve("pom.xml")), lib, project)).isNotEqualTo(withDockerfile);
+
+        IncrementalAnalysisState otherConfig = IncrementalAnalysisState.load(tempDir.resolve("state.json"), "other", pomCache);
+        assertThat(otherConfig.fingerprint(pomCache.read(lib.resolve("pom.xml")), lib, project))
+                .isNotEqualTo(state.fingerprint(pomCache.read(lib.resolve("pom.xml")), lib, project));
+    }
+
+    @Test
+    void fingerprintShouldFollowConfigDirectoryAndLocalDependencyResources() throws Exception {
+        Path project = tempDir.resolve("project");
+        writeProject(project);
+        Path app = project.resolve("app");
+        Files.writeString(app.resolve("pom.xml"), Files.readString(app.resolve("pom.xml")).replace("<build>",
+                "<dependencies><dependency><groupId>com.example</groupId><artifactId>lib</artifactId>"
+                        + "<version>1.0.0</version></dependency></dependencies><build>"));
+        PomModelCache pomCache = new PomModelCache();
+        IncrementalAnalysisState state = IncrementalAnalysisState.load(tempDir.resolve("state.json"), "config", pomCache);
+
+        String initial = state.fingerprint(pomCache.read(app.resolve("pom.xml")), app, project);
+
+        Files.createDirectories(app.resolve("src/main/resources/config"));
+        Files.writeString(app.resolve("src/main/resources/config/application-qa.yml"), "server:\n  port: 8082\n");
+        String withConfig = state.fingerprint(pomCache.read(app.resolve("pom.xml")), app, project);
+        assertThat(withConfig).isNotEqualTo(initial);
+
+        Files.createDirectories(project.resolve("lib/src/main/resources"));
+        Files.writeString(project.resolve("lib/src/main/resources/application-staging.yml"), "server:\n  port: 8083\n");
+        assertThat(state.fingerprint(pomCache.read(app.resolve("pom.xml")), app, project)).isNotEqualTo(withConfig);
+    }
+
+    @Test
+    void shouldCountReusedModules() throws IOException {
+        Path project = tempDir.resolve("project");
+        writeProject(project);
+        Path statePath = tempDir.resolve("descriptor.state.json");
+        IncrementalAnalysisState state = IncrementalAnalysisState.load(statePath, "config", new PomModelCache());
+        DeployableModule module = DeployableModule.builder().groupId("com.example").artifactId("lib").version("1.0.0").build();
+        state.record("lib", "abc", module);
+        state.record("parent", "def", null);
+        state.save();
+
+        IncrementalAnalysisState reloaded = IncrementalAnalysisState.load(statePath, "config", new PomModelCache());
+        assertThat(reloaded.lookup("lib", "abc")).hasValueSatisfying(e -> assertThat(e.module()).isEqualTo(module));
+        assertThat(reloaded.lookup("parent", "def")).hasValueSatisfying(e -> assertThat(e.module()).isNull());
+        assertThat(reloaded.lookup("lib", "changed")).isEmpty();
+        assertThat(reloaded.reused()).isEqualTo(2);
+
+        assertThat(IncrementalAnalysisState.load(statePath, "other", new PomModelCache()).lookup("lib", "abc")).isEmpty();
+    }
+
+    private static DeployableModule module(ProjectDescriptor descriptor, String artifactId) {
+        return descriptor.deployableModules().stream()
+                .filter(m -> m.getArtifactId().equals(artifactId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static MavenProjectAnalyzer analyzer(Path state) {
+        return new MavenProjectAnalyzer(null, null, null, null,
+                AnalysisOptions.builder().incrementalStateFile(state.toString()).build());
+    }
+
+    private static void writeProject(Path project) throws IOException {
+        Files.createDirectories(project.resolve("lib"));
+        Files.createDirectories(project.resolve("app/src/main/resources"));
+        Files.writeString(project.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>parent</artifactId>
+                    <version>1.0.0</version>
+                    <packaging>pom</packaging>
+                    <modules>
+                        <module>lib</module>
+                        <module>app</module>
+                    </modules>
+                </project>
+                """);
+        String module = """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <parent>
+                        <groupId>com.example</groupId>
+                        <artifactId>parent</artifactId>
+                        <version>1.0.0</version>
+                    </parent>
+                    <artifactId>%s</artifactId>
+                    <build><plugins>%s</plugins></build>
+                </project>
+                """;
+        Files.writeString(project.resolve("lib/pom.xml"), module.formatted("lib", ""));
+        Files.writeString(project.resolve("app/pom.xml"), module.formatted("app", """
+                <plugin>
+                    <groupId>org.springframework.boot</groupId>
+                    <artifactId>spring-boot-maven-plugin</artifactId>
+                    <executions><execution><goals><goal>repackage</goal></goals></execution></executions>
+                </plugin>
+                """));
+        Files.writeString(project.resolve("app/src/main/resources/application.yml"), "server:\n  port: 8080\n");
+        Files.writeString(project.resolve("app/src/main/resources/application-prod.yml"), "server:\n  port: 8081\n");
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.tourem.maven.descriptor.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LicenseCacheTest {
+
+    @Test
+    void shouldPersistEntriesAcrossInstances(@TempDir Path tempDir) {
+        LicenseCache cache = new LicenseCache(tempDir);
+        cache.put("com.example:lib:1.0", new LicenseCache.Entry(List.of("MPL-2.0", "EPL-1.0"), "https://www.mozilla.org/MPL/2.0/"));
+        cache.put("com.example:other:2.0", new LicenseCache.Entry(List.of("MIT"), null));
+        cache.flush();
+
+        LicenseCache reloaded = new LicenseCache(tempDir);
+        assertThat(reloaded.size()).isEqualTo(2);
+        assertThat(reloaded.get("com.example:lib:1.0").names()).containsExactly("MPL-2.0", "EPL-1.0");
+        assertThat(reloaded.get("com.example:lib:1.0").url()).isEqualTo("https://www.mozilla.org/MPL/2.0/");
+        assertThat(reloaded.get("com.example:other:2.0").url()).isNull();
+    }
+
+    @Test
+    void shouldOnlyAppendNewEntries(@TempDir Path tempDir) throws Exception {
+        LicenseCache cache = new LicenseCache(tempDir);
+        cache.put("com.example:lib:1.0", new LicenseCache.Entry(List.of("MIT"), null));
+        cache.flush();
+        cache.put("com.example:lib:1.0", new LicenseCache.Entry(List.of("MIT"), null));
+        cache.put("com.example:lib:1.1", new LicenseCache.Entry(List.of("MIT"), null));
+        cache.flush();
+        cache.flush();
+
+        assertThat(Files.readAllLines(tempDir.resolve(LicenseCache.FILE_NAME))).hasSize(2);
+    }
+
+    @Test
+    void shouldIgnoreTornAndUncheckedLines(@TempDir Path tempDir) throws Exception {
+        LicenseCache writer = new LicenseCache(tempDir);
+        writer.put("com.example:lib:1.0", new LicenseCache.Entry(List.of("Apache-2.0"), null));
+        writer.put("com.example:other:1.0", new LicenseCache.Entry(List.of("MIT"), null));
+        writer.flush();
+        List<String> lines = Files.readAllLines(tempDir.resolve(LicenseCache.FILE_NAME));
+        Files.writeString(tempDir.resolve(LicenseCache.FILE_NAME), String.join("\n",
+                lines.get(0),
+                "",
+                "com.example:legacy:1.0\t\tMIT",
+                // Another writer's line interleaved into this one
+                lines.get(1).substring(0, 10) + "com.example:x:1.0\t\tGPL-3.0" + lines.get(1).substring(10),
+                "com.example:torn") + "\n");
+
+        LicenseCache cache = new LicenseCache(tempDir);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("com.example:lib:1.0").names()).containsExactly("Apache-2.0");
+    }
+
+    @Test
+    void shouldKeepAppendsApartFromATornLastLine(@TempDir Path tempDir) throws Exception {
+        Files.writeString(tempDir.resolve(LicenseCache.FILE_NAME), "com.example:torn:1.0\t\tM");
+
+        LicenseCache cache = new LicenseCache(tempDir);
+        cache.put("com.example:lib:1.0", new LicenseCache.Entry(List.of("MIT"), null));
+        cache.flush();
+
+        LicenseCache reloaded = new LicenseCache(tempDir);
+        assertThat(reloaded.size()).isEqualTo(1);
+        assertThat(reloaded.get("com.example:lib:1.0").names()).containsExactly("MIT");
+    }
+
+    @Test
+    void shouldNotCacheSnapshotsOrUnresolvedVersions() {
+        assertThat(LicenseCache.isCacheable("1.0.0")).isTrue();
+        assertThat(LicenseCache.isCacheable("1.0.0-SNAPSHOT")).isFalse();
+        assertThat(LicenseCache.isCacheable("${project.version}")).isFalse();
+        assertThat(LicenseCache.isCacheable(null)).isFalse();
+    }
+}
@@ -0,0 +1,343 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.LicenseDetail;
+import io.github.tourem.maven.descriptor.model.LicenseInfo;
+import io.github.tourem.maven.descriptor.model.LicenseOptions;
+import org.apache.maven.model.Model;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LicenseCollectorTest {
+
+    private static final int DEPENDENCY_COUNT = 30;
+
+    @TempDir
+    Path tempDir;
+
+    private Path repo;
+    private String previousRepo;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repo = tempDir.resolve("m2repo");
+        Files.createDirectories(repo);
+        previousRepo = System.getProperty("maven.repo.local");
+        System.setProperty("maven.repo.local", repo.toString());
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (previousRepo != null) System.setProperty("maven.repo.local", previousRepo);
+        else System.clearProperty("maven.repo.local");
+    }
+
+    @Test
+    void shouldResolveBomManagedVersionsOncePerContextModel() throws Exception {
+        StringBuilder managed = new StringBuilder();
+        StringBuilder deps = new StringBuilder();
+        for (int i = 0; i < DEPENDENCY_COUNT; i++) {
+            managed.append("<dependency><groupId>com.example</groupId><artifactId>lib-").append(i)
+                    .append("</artifactId><version>${lib.version}</version></dependency>");
+            deps.append("<dependency><groupId>com.example</groupId><artifactId>lib-").append(i)
+                    .append("</artifactId></dependency>");
+            writePom(repo, "com.example", "lib-" + i, "2.0",
+                    "<licenses><license><name>Apache-2.0</name></license></licenses>");
+        }
+        writePom(repo, "com.example", "bom", "1.0",
+                "<packaging>pom</packaging><properties><lib.version>2.0</lib.version></properties>"
+                        + "<dependencyManagement><dependencies>" + managed + "</dependencies></dependencyManagement>");
+
+        Path projectDir = tempDir.resolve("app");
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("pom.xml"), """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+              <modelVersion>4.0.0</modelVersion>
+              <groupId>com.example</groupId>
+              <artifactId>app</artifactId>
+              <version>1.0.0</version>
+              <dependencyManagement>
+                <dependencies>
+                  <dependency>
+                    <groupId>com.example</groupId>
+                    <artifactId>bom</artifactId>
+                    <version>1.0</version>
+                    <type>pom</type>
+                    <scope>import</scope>
+                  </dependency>
+                </dependencies>
+              </dependencyManagement>
+              <dependencies>%s</dependencies>
+            </project>
+            """.formatted(deps));
+
+        PomModelCache pomCache = new PomModelCache();
+        Model model = pomCache.read(projectDir.resolve("pom.xml"));
+        LicenseCollector collector = new LicenseCollector(pomCache);
+        LicenseInfo info = collector.collect(model, projectDir,
+                LicenseOptions.builder().include(true).licenseWarnings(true).includeTransitiveLicenses(false).build());
+
+        assertThat(info.getSummary().getTotal()).isEqualTo(DEPENDENCY_COUNT);
+        assertThat(info.getSummary().getUnknown()).isZero();
+        assertThat(info.getDetails()).extracting(LicenseDetail::getVersion).containsOnly("2.0");
+        // project POM + BOM + one read per dependency: the BOM is not re-imported for each dependency
+        assertThat(pomCache.hits() + pomCache.misses()).isEqualTo(DEPENDENCY_COUNT + 2);
+
+        // Effective models belong to the run
+        assertThat(collector.effectiveModelCount()).isPositive();
+        collector.clear();
+        assertThat(collector.effectiveModelCount()).isZero();
+    }
+
+    @Test
+    void shouldServeReleasedLicensesFromPersistentCache() throws Exception {
+        writePom(repo, "com.example", "lib", "1.0",
+                "<licenses><license><name>MIT</name><url>https://opensource.org/licenses/MIT</url></license></licenses>");
+        writePom(repo, "com.example", "snap", "1.0-SNAPSHOT",
+                "<licenses><license><name>MIT</name></license></licenses>");
+        Path projectDir = tempDir.resolve("cached-app");
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("pom.xml"), """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+              <modelVersion>4.0.0</modelVersion>
+              <groupId>com.example</groupId>
+              <artifactId>cached-app</artifactId>
+              <version>1.0.0</version>
+              <dependencies>
+                <dependency><groupId>com.example</groupId><artifactId>lib</artifactId><version>1.0</version></dependency>
+                <dependency><groupId>com.example</groupId><artifactId>snap</artifactId><version>1.0-SNAPSHOT</version></dependency>
+              </dependencies>
+            </project>
+            """);
+        LicenseOptions options = LicenseOptions.builder().include(true)
+                .cache(true).cacheDirectory(tempDir.resolve("license-db").toString()).build();
+
+        PomModelCache pomCache = new PomModelCache();
+        Model model = pomCache.read(projectDir.resolve("pom.xml"));
+        new LicenseCollector(pomCache).collect(model, projectDir, options);
+
+        // Once cached, the released artifact no longer needs its POM; the SNAPSHOT is re-read
+        Files.delete(repo.resolve("com/example/lib/1.0/lib-1.0.pom"));
+        Files.delete(repo.resolve("com/example/snap/1.0-SNAPSHOT/snap-1.0-SNAPSHOT.pom"));
+        LicenseInfo info = new LicenseCollector(new PomModelCache()).collect(model, projectDir, options);
+
+        assertThat(info.getDetails()).filteredOn(d -> "lib".equals(d.getArtifactId()))
+                .singleElement()
+                .satisfies(d -> {
+                    assertThat(d.getLicense()).isEqualTo("MIT");
+                    assertThat(d.getLicenseUrl()).isEqualTo("https://opensource.org/licenses/MIT");
+                });
+        assertThat(info.getDetails()).filteredOn(d -> "snap".equals(d.getArtifactId()))
+                .singleElement()
+                .extracting(LicenseDetail::getLicense).isEqualTo("unknown");
+        assertThat(Files.readAllLines(tempDir.resolve("license-db").resolve(LicenseCache.FILE_NAME)))
+                .singleElement().asString()
+                .startsWith("com.example:lib:1.0\thttps://opensource.org/licenses/MIT\tMIT\t#");
+    }
+
+    @Test
+    void parallelBreadthFirstResolutionShouldBeDeterministic() throws Exception {
+        // app -> a, b ; a -> c ; b -> c, d ; d -> a (cycle)
+        writePom(repo, "com.example", "a", "1.0", licensed("MIT") + deps("c"));
+        writePom(repo, "com.example", "b", "1.0", licensed("Apache-2.0") + deps("c", "d"));
+        writePom(repo, "com.example", "c", "1.0", licensed("EPL-2.0"));
+        writePom(repo, "com.example", "d", "1.0", deps("a"));
+        Path projectDir = tempDir.resolve("graph-app");
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("pom.xml"), """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+              <modelVersion>4.0.0</modelVersion>
+              <groupId>com.example</groupId>
+              <artifactId>graph-app</artifactId>
+              <version>1.0.0</version>
+              %s
+            </project>
+            """.formatted(deps("a", "b")));
+        LicenseOptions options = LicenseOptions.builder().include(true).licenseWarnings(true)
+                .parallelResolution(true).resolutionThreads(4).build();
+
+        PomModelCache pomCache = new PomModelCache();
+        Model model = pomCache.read(projectDir.resolve("pom.xml"));
+        for (int run = 0; run < 5; run++) {
+            LicenseInfo info = new LicenseCollector(pomCache).collect(model, projectDir, options);
+
+            assertThat(info.getDetails()).extracting(LicenseDetail::getArtifactId).containsExactly("a", "b", "c", "d");
+            assertThat(info.getDetails()).extracting(LicenseDetail::getDepth).containsExactly(1, 1, 2, 2);
+            assertThat(info.getSummary().getUnknown()).isEqualTo(1);
+            assertThat(info.getWarnings()).singleElement()
+                    .extracting(w -> w.getArtifact()).isEqualTo("com.example:d:1.0");
+        }
+    }
+
+    @Test
+    void parallelResolutionShouldRunOnTheCallersPool() throws Exception {
+        writePom(repo, "com.example", "a", "1.0", licensed("MIT") + deps("c"));
+        writePom(repo, "com.example", "b", "1.0", licensed("Apache-2.0"));
+        writePom(repo, "com.example", "c", "1.0", licensed("EPL-2.0"));
+        Path projectDir = tempDir.resolve("pooled-app");
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("pom.xml"), """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+              <modelVersion>4.0.0</modelVersion>
+              <groupId>com.example</groupId>
+              <artifactId>pooled-app</artifactId>
+              <version>1.0.0</version>
+              %s
+            </project>
+            """.formatted(deps("a", "b")));
+        LicenseOptions options = LicenseOptions.builder().include(true)
+                .parallelResolution(true).resolutionThreads(2).build();
+        AtomicInteger tasks = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        ExecutorService counting = new AbstractExecutorService() {
+            @Override public void execute(Runnable command) { tasks.incrementAndGet(); pool.execute(command); }
+            @Override public void shutdown() { pool.shutdown(); }
+            @Override public List<Runnable> shutdownNow() { return pool.shutdownNow(); }
+            @Override public boolean isShutdown() { return pool.isShutdown(); }
+            @Override public boolean isTerminated() { return pool.isTerminated(); }
+            @Override public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+                return pool.awaitTermination(timeout, unit);
+            }
+        };
+        try {
+            PomModelCache pomCache = new PomModelCache();
+            LicenseCollector collector = new LicenseCollector(pomCache);
+            Model model = pomCache.read(projectDir.resolve("pom.xml"));
+            for (int run = 0; run < 2; run++) {
+                LicenseInfo info = collector.collect(model, projectDir, options, counting);
+
+                assertThat(info.getDetails()).extracting(LicenseDetail::getArtifactId).containsExactly("a", "b", "c");
+            }
+            assertThat(tasks.get()).isPositive();
+            assertThat(pool.isShutdown()).isFalse();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldUseVersionsResolvedForEachModule() throws Exception {
+        writePom(repo, "com.example", "lib", "1.0", licensed("MIT"));
+        writePom(repo, "com.example", "lib", "2.0", licensed("Apache-2.0"));
+        Path moduleA = tempDir.resolve("module-a");
+        Path moduleB = tempDir.resolve("module-b");
+        Path moduleC = tempDir.resolve("module-c");
+        for (Path module : new Path[] {moduleA, moduleB, moduleC}) {
+            Files.createDirectories(module);
+            Files.writeString(module.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>%s</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency><groupId>com.example</groupId><artifactId>lib</artifactId></dependency>
+                  </dependencies>
+                </project>
+                """.formatted(module.getFileName()));
+        }
+        ResolvedVersionIndex resolved = new ResolvedVersionIndex();
+        resolved.put(moduleA, "com.example", "lib", "1.0");
+        resolved.put(moduleB, "com.example", "lib", "2.0");
+        resolved.put(moduleB, "com.example", "lib", "1.0");
+        LicenseOptions options = LicenseOptions.builder().include(true).build();
+
+        PomModelCache pomCache = new PomModelCache();
+        LicenseCollector collector = new LicenseCollector(pomCache, resolved);
+        LicenseInfo a = collector.collect(pomCache.read(moduleA.resolve("pom.xml")), moduleA, options);
+        LicenseInfo b = collector.collect(pomCache.read(moduleB.resolve("pom.xml")), moduleB, options);
+        // Not indexed: falls back to the first version resolved in the reactor
+        LicenseInfo c = collector.collect(pomCache.read(moduleC.resolve("pom.xml")), moduleC, options);
+
+        assertThat(a.getDetails()).singleElement().satisfies(d -> {
+            assertThat(d.getVersion()).isEqualTo("1.0");
+            assertThat(d.getLicense()).isEqualTo("MIT");
+        });
+        assertThat(b.getDetails()).singleElement().satisfies(d -> {
+            assertThat(d.getVersion()).isEqualTo("2.0");
+            assertThat(d.getLicense()).isEqualTo("Apache-2.0");
+        });
+        assertThat(c.getDetails()).singleElement().extracting(LicenseDetail::getVersion).isEqualTo("1.0");
+        assertThat(resolved.moduleCount()).isEqualTo(2);
+    }
+
+    @Test
+    void transitiveDependenciesShouldUseVersionsResolvedForTheirModule() throws Exception {
+        writePom(repo, "com.example", "lib", "1.0", licensed("MIT"));
+        writePom(repo, "com.example", "lib", "2.0", licensed("Apache-2.0"));
+        writePom(repo, "com.example", "wrapper", "1.0", licensed("MIT")
+                + "<dependencies><dependency><groupId>com.example</groupId><artifactId>lib</artifactId></dependency></dependencies>");
+        Path moduleA = tempDir.resolve("module-a");
+        Path moduleB = tempDir.resolve("module-b");
+        for (Path module : new Path[] {moduleA, moduleB}) {
+            Files.createDirectories(module);
+            Files.writeString(module.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>%s</artifactId>
+                  <version>1.0.0</version>
+                  %s
+                </project>
+                """.formatted(module.getFileName(), deps("wrapper")));
+        }
+        ResolvedVersionIndex resolved = new ResolvedVersionIndex();
+        // Module B is indexed first: its version is the reactor-wide one
+        resolved.put(moduleB, "com.example", "lib", "2.0");
+        resolved.put(moduleA, "com.example", "lib", "1.0");
+
+        for (boolean parallel : new boolean[] {false, true}) {
+            LicenseOptions options = LicenseOptions.builder().include(true)
+                    .parallelResolution(parallel).resolutionThreads(2).build();
+            PomModelCache pomCache = new PomModelCache();
+            LicenseInfo a = new LicenseCollector(pomCache, resolved)
+                    .collect(pomCache.read(moduleA.resolve("pom.xml")), moduleA, options);
+
+            assertThat(a.getDetails()).filteredOn(d -> "lib".equals(d.getArtifactId()))
+                    .as("parallel=%s", parallel)
+                    .singleElement()
+                    .satisfies(d -> {
+                        assertThat(d.getVersion()).isEqualTo("1.0");
+                        assertThat(d.getDepth()).isEqualTo(2);
+                    });
+        }
+    }
+
+    private static String licensed(String name) {
+        return "<licenses><license><name>" + name + "</name></license></licenses>";
+    }
+
+    private static String deps(String... artifactIds) {
+        StringBuilder sb = new StringBuilder("<dependencies>");
+        for (String a : artifactIds) {
+            sb.append("<dependency><groupId>com.example</groupId><artifactId>").append(a)
+                    .append("</artifactId><version>1.0</version></dependency>");
+        }
+        return sb.append("</dependencies>").toString();
+    }
+
+    private static void writePom(Path repo, String g, String a, String v, String inner) throws Exception {
+        Path dir = repo.resolve(g.replace('.', '/') + "/" + a + "/" + v);
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve(a + "-" + v + ".pom"),
+                "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                        + "  <modelVersion>4.0.0</modelVersion>\n"
+                        + "  <groupId>" + g + "</groupId>\n"
+                        + "  <artifactId>" + a + "</artifactId>\n"
+                        + "  <version>" + v + "</version>\n"
+                        + inner + "\n"
+                        + "</project>\n");
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.tourem.maven.descriptor.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.tourem.maven.descriptor.model.PluginOptions;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MavenMetadataCacheTest {
+
+    private static final String ETAG = "\"v1\"";
+    private static final String METADATA =
+            "<metadata><versioning><release>1.1.0</release><versions><version>1.0.0</version><version>1.1.0</version></versions></versioning></metadata>";
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicInteger downloads = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final AtomicInteger notFound = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            try {
+                if (exchange.getRequestURI().getPath().contains("/missing/")) {
+                    notFound.incrementAndGet();
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    notModified.incrementAndGet();
+                    exchange.sendResponseHeaders(304, -1);
+                    return;
+                }
+                downloads.incrementAndGet();
+                byte[] body = METADATA.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("ETag", ETAG);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldServeFreshEntriesWithoutNetworkAcrossRuns() throws Exception {
+        Path dir = tempDir.resolve("metadata");
+        try (MetadataHttpClient http = client(new MavenMetadataCache(dir, Duration.ofHours(1), false))) {
+            assertThat(lookup(http).lookupAvailableVersions("com.example", "lib", "1.0.0", 3)).containsExactly("1.1.0");
+        }
+
+        MavenMetadataCache cache = new MavenMetadataCache(dir, Duration.ofHours(1), false);
+        try (MetadataHttpClient http = client(cache)) {
+            assertThat(lookup(http).lookupAvailableVersions("com.example", "lib", "1.0.0", 3)).containsExactly("1.1.0");
+        }
+        assertThat(downloads.get()).isEqualTo(1);
+        assertThat(cache.hits()).isPositive();
+    }
+
+    @Test
+    void shouldRevalidateStaleEntriesWithEtag() throws Exception {
+        MavenMetadataCache cache = new MavenMetadataCache(tempDir.resolve("metadata"), Duration.ZERO, false);
+        try (MetadataHttpClient http = client(cache)) {
+            String url = baseUrl + "/com/example/lib/maven-metadata.xml";
+            byte[] first = http.fetchMetadata(url, 2000);
+            byte[] second = http.fetchMetadata(url, 2000);
+
+            assertThat(second).isEqualTo(first);
+        }
+        assertThat(downloads.get()).isEqualTo(1);
+        assertThat(notModified.get()).isEqualTo(1);
+        assertThat(cache.revalidated()).isEqualTo(1);
+    }
+
+    @Test
+    void offlineModeShouldUseCacheOnly() throws Exception {
+        Path dir = tempDir.resolve("metadata");
+        try (MetadataHttpClient http = client(new MavenMetadataCache(dir, Duration.ZERO, false))) {
+            http.fetchMetadata(baseUrl + "/com/example/lib/maven-metadata.xml", 2000);
+        }
+        server.stop(0);
+
+        MavenMetadataCache offline = new MavenMetadataCache(dir, Duration.ZERO, true);
+        try (MetadataHttpClient http = client(offline)) {
+            assertThat(lookup(http).lookupAvailableVersions("com.example", "lib", "1.0.0", 3)).containsExactly("1.1.0");
+            assertThat(lookup(http).lookupAvailableVersions("com.example", "other", "1.0.0", 3)).isEmpty();
+        }
+        assertThat(offline.hits()).isEqualTo(1);
+        assertThat(offline.offlineMisses()).isEqualTo(1);
+        assertThat(downloads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRememberMissingMetadataWithinRunAndOnDisk() throws Exception {
+        Path dir = tempDir.resolve("metadata");
+        String url = baseUrl + "/missing/lib/maven-metadata.xml";
+        try (MetadataHttpClient http = client(new MavenMetadataCache(dir, Duration.ofHours(1), Duration.ofHours(1), false))) {
+            assertThat(http.fetchMetadata(url, 2000)).isNull();
+            assertThat(http.fetchMetadata(url, 2000)).isNull();
+            assertThat(http.summary()).contains("1 not found, 1 answered from the negative cache");
+        }
+        try (MetadataHttpClient http = client(new MavenMetadataCache(dir, Duration.ofHours(1), Duration.ofHours(1), false))) {
+            assertThat(http.fetchMetadata(url, 2000)).isNull();
+        }
+        try (MetadataHttpClient http = client(new MavenMetadataCache(dir, Duration.ofHours(1), false))) {
+            // Without a negative TTL the disk marker is ignored
+            assertThat(http.fetchMetadata(url, 2000)).isNull();
+        }
+        assertThat(notFound.get()).isEqualTo(2);
+    }
+
+    @Test
+    void analyzerShouldCheckPluginUpdatesThroughItsMetadataCache() throws Exception {
+        MavenMetadataCache cache = new MavenMetadataCache(tempDir.resolve("metadata"), Duration.ofHours(1), true);
+        cache.put("https://repo1.maven.org/maven2/com/example/demo-maven-plugin/maven-metadata.xml",
+                METADATA.getBytes(StandardCharsets.UTF_8), null, null, System.currentTimeMillis());
+        Path project = Files.createDirectories(tempDir.resolve("project"));
+        Files.writeString(project.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.example</groupId>
+                    <artifactId>app</artifactId>
+                    <version>1.0.0</version>
+                    <build><plugins><plugin>
+                        <groupId>com.example</groupId>
+                        <artifactId>demo-maven-plugin</artifactId>
+                        <version>1.0.0</version>
+                    </plugin></plugins></build>
+                </project>
+                """);
+        PluginOptions plugins = PluginOptions.builder().include(true).checkPluginUpdates(true).build();
+
+        try (MetadataHttpClient http = client(cache)) {
+            ProjectDescriptor descriptor = new MavenProjectAnalyzer(null, null, null, plugins, null, null, http)
+                    .analyzeProject(project);
+
+            assertThat(descriptor.deployableModules().get(0).getPlugins().getList())
+                    .singleElement()
+                    .satisfies(p -> assertThat(p.getOutdated().getLatest()).isEqualTo("1.1.0"));
+        }
+        assertThat(cache.hits()).isPositive();
+    }
+
+    private static MetadataHttpClient client(MavenMetadataCache cache) {
+        return new MetadataHttpClient(4, 2, 2000, cache);
+    }
+
+    private DependencyVersionLookup lookup(MetadataHttpClient http) {
+        return new DependencyVersionLookup(List.of(baseUrl), 2000, http);
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.tourem.maven.descriptor.service;
+
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MavenMetadataParserTest {
+
+    @Test
+    void shouldExtractVersioningInOnePass() throws Exception {
+        String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <metadata>
+                  <groupId>com.example</groupId>
+                  <artifactId>lib</artifactId>
+                  <version>0.9.0</version>
+                  <versioning>
+                    <latest>2.0.0-M1</latest>
+                    <release> 1.1.0 </release>
+                    <versions>
+                      <version>1.0.0</version>
+                      <version>1.1.0</version>
+                      <version></version>
+                      <version>2.0.0-M1</version>
+                    </versions>
+                    <lastUpdated>20240102030405</lastUpdated>
+                  </versioning>
+                </metadata>
+                """;
+
+        MavenMetadataParser.Metadata metadata = MavenMetadataParser.parse(
+                new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(metadata.versions()).containsExactly("1.0.0", "1.1.0", "2.0.0-M1");
+        assertThat(metadata.latest()).isEqualTo("2.0.0-M1");
+        assertThat(metadata.release()).isEqualTo("1.1.0");
+        assertThat(metadata.lastUpdated()).isEqualTo("20240102030405");
+        assertThat(metadata.releaseOrLatest()).isEqualTo("1.1.0");
+        assertThat(metadata.latestOrRelease()).isEqualTo("2.0.0-M1");
+    }
+
+    @Test
+    void shouldIgnoreSnapshotSectionsAndFallBack() throws Exception {
+        String xml = "<metadata><versioning><snapshot><timestamp>20240101.120000</timestamp></snapshot>"
+                + "<latest>3.0</latest><snapshotVersions><snapshotVersion><value>3.0-1</value></snapshotVersion>"
+                + "</snapshotVersions><versions><version>3.0</version></versions></versioning></metadata>";
+
+        MavenMetadataParser.Metadata metadata = MavenMetadataParser.parse(xml.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(metadata.versions()).containsExactly("3.0");
+        assertThat(metadata.release()).isNull();
+        assertThat(metadata.lastUpdated()).isNull();
+        assertThat(metadata.releaseOrLatest()).isEqualTo("3.0");
+    }
+
+    @Test
+    void shouldHandleThousandsOfVersions() throws Exception {
+        StringBuilder xml = new StringBuilder("<metadata><versioning><versions>");
+        for (int i = 0; i < 5000; i++) {
+            xml.append("<version>2.").append(i).append(".0</version>");
+        }
+        xml.append("</versions></versioning></metadata>");
+
+        MavenMetadataParser.Metadata metadata = MavenMetadataParser.parse(xml.toString().getBytes(StandardCharsets.UTF_8));
+
+        assertThat(metadata.versions()).hasSize(5000).endsWith("2.4999.0");
+    }
+
+    @Test
+    void shouldRejectDoctypeDeclarations() {
+        String xml = "<?xml version=\"1.0\"?><!DOCTYPE metadata [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>"
+                + "<metadata><versioning><latest>&xxe;</latest></versioning></metadata>";
+
+        assertThatThrownBy(() -> MavenMetadataParser.parse(xml.getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(XMLStreamException.class);
+    }
+}
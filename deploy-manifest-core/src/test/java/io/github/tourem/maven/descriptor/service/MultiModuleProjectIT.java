@@ -1,5 +1,6 @@
 package io.github.tourem.maven.descriptor.service;
 
+import io.github.tourem.maven.descriptor.model.AnalysisOptions;
 import io.github.tourem.maven.descriptor.model.DeployableModule;
 import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -221,5 +223,49 @@ class MultiModuleProjectIT {
         // Maven repositories always use standard naming artifactId-version.extension
         assertThat(module.getRepositoryPath()).isEqualTo("com/example/my-app/1.0.0/my-app-1.0.0.jar");
     }
-}
 
+    @Test
+    void parallelAnalysisShouldKeepSequentialModuleOrder() throws IOException {
+        Path projectDir = tempDir.resolve("parallel-project");
+        Files.createDirectories(projectDir);
+
+        StringBuilder modules = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            modules.append("<module>module-").append(i).append("</module>");
+            Path moduleDir = projectDir.resolve("module-" + i);
+            Files.createDirectories(moduleDir);
+            Files.writeString(moduleDir.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <parent>
+                        <groupId>com.example</groupId>
+                        <artifactId>parent</artifactId>
+                        <version>1.0.0</version>
+                    </parent>
+                    <artifactId>module-%d</artifactId>
+                    <packaging>jar</packaging>
+                </project>
+                """.formatted(i));
+        }
+        Files.writeString(projectDir.resolve("pom.xml"), """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                <groupId>com.example</groupId>
+                <artifactId>parent</artifactId>
+                <version>1.0.0</version>
+                <packaging>pom</packaging>
+                <modules>%s</modules>
+            </project>
+            """.formatted(modules));
+
+        ProjectDescriptor sequential = analyzer.analyzeProject(projectDir);
+        ProjectDescriptor parallel = new MavenProjectAnalyzer(null, null, null, null,
+                AnalysisOptions.builder().parallel(true).threads(4).build())
+                .analyzeProject(projectDir);
+
+        List<String> expected = sequential.deployableModules().stream().map(DeployableModule::getArtifactId).toList();
+        assertThat(expected).hasSize(12).startsWith("module-0", "module-1");
+        assertThat(parallel.deployableModules()).extracting(DeployableModule::getArtifactId).containsExactlyElementsOf(expected);
+        assertThat(parallel.totalModules()).isEqualTo(sequential.totalModules());
+    }
+}
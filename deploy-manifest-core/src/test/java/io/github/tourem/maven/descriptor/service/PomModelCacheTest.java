@@ -0,0 +1,120 @@
+package io.github.tourem.maven.descriptor.service;
+
+import org.apache.maven.model.Model;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PomModelCacheTest {
+
+    private static String pom(String artifactId) {
+        return """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                <groupId>com.example</groupId>
+                <artifactId>%s</artifactId>
+                <version>1.0.0</version>
+            </project>
+            """.formatted(artifactId);
+    }
+
+    @Test
+    void shouldParseEachPomOnce(@TempDir Path tempDir) throws Exception {
+        Path pomFile = tempDir.resolve("pom.xml");
+        Files.writeString(pomFile, pom("app"));
+        PomModelCache cache = new PomModelCache();
+
+        Model first = cache.read(pomFile);
+        Model second = cache.read(tempDir.resolve("sub/../pom.xml"));
+
+        assertThat(first.getArtifactId()).isEqualTo("app");
+        assertThat(second).isSameAs(first);
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReparseWhenFileChanges(@TempDir Path tempDir) throws Exception {
+        Path pomFile = tempDir.resolve("pom.xml");
+        Files.writeString(pomFile, pom("app"));
+        PomModelCache cache = new PomModelCache();
+        cache.read(pomFile);
+
+        Files.writeString(pomFile, pom("renamed-app"));
+        Files.setLastModifiedTime(pomFile, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+
+        assertThat(cache.read(pomFile).getArtifactId()).isEqualTo("renamed-app");
+        assertThat(cache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCacheParseFailures(@TempDir Path tempDir) throws Exception {
+        Path pomFile = tempDir.resolve("pom.xml");
+        Files.writeString(pomFile, "<project>");
+        PomModelCache cache = new PomModelCache();
+
+        assertThatThrownBy(() -> cache.read(pomFile)).isInstanceOf(Exception.class);
+        assertThat(cache.readQuietly(pomFile)).isNull();
+        assertThat(cache.readQuietly(tempDir.resolve("missing.xml"))).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldResolveLocalRepositoryPomsByCoordinates(@TempDir Path tempDir) throws Exception {
+        String previous = System.getProperty("maven.repo.local");
+        System.setProperty("maven.repo.local", tempDir.toString());
+        try {
+            Path pomFile = tempDir.resolve("com/example/lib/1.0.0/lib-1.0.0.pom");
+            Files.createDirectories(pomFile.getParent());
+            Files.writeString(pomFile, pom("lib"));
+            PomModelCache cache = new PomModelCache();
+
+            assertThat(PomModelCache.localRepoPom("com.example", "lib", "1.0.0")).isEqualTo(pomFile);
+            assertThat(cache.readFromLocalRepo("com.example", "lib", "1.0.0").getArtifactId()).isEqualTo("lib");
+            assertThat(cache.readFromLocalRepo("com.example", "lib", "1.0.0")).isNotNull();
+            assertThat(cache.readFromLocalRepo("com.example", "lib", null)).isNull();
+            assertThat(cache.hits()).isEqualTo(1);
+            assertThat(cache.misses()).isEqualTo(1);
+        } finally {
+            if (previous == null) System.clearProperty("maven.repo.local");
+            else System.setProperty("maven.repo.local", previous);
+        }
+    }
+
+    @Test
+    void concurrentReadsShouldShareOneParse(@TempDir Path tempDir) throws Exception {
+        Path pomFile = tempDir.resolve("pom.xml");
+        Files.writeString(pomFile, pom("app"));
+        PomModelCache cache = new PomModelCache();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Model>> reads = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                reads.add(() -> cache.read(pomFile));
+            }
+            List<Future<Model>> results = executor.invokeAll(reads);
+            Model expected = results.get(0).get();
+            for (Future<Model> result : results) {
+                assertThat(result.get()).isSameAs(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.hits()).isEqualTo(63);
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.Gav;
+import io.github.tourem.maven.descriptor.model.analysis.RepositoryHealth;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryHealthCacheTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final String SOURCE = "GraphQL https://api.github.com";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldPersistEntriesAcrossInstances() {
+        RepositoryHealthCache cache = new RepositoryHealthCache(tempDir, Duration.ofHours(24), false);
+        Instant released = Instant.parse("2024-05-01T10:00:00Z");
+        cache.putArtifact("com.example", "lib", new RepositoryHealthCache.ArtifactInfo("1.2.0", 7, released,
+                "https://github.com/example/lib"), NOW);
+        cache.putRepository(SOURCE, new GitHubClient.RepositoryInfo("example/lib", 1500, 40, 12, false, "MIT",
+                Instant.parse("2024-06-01T08:00:00Z"), 25), NOW);
+
+        RepositoryHealthCache reloaded = new RepositoryHealthCache(tempDir, Duration.ofHours(24), false);
+        RepositoryHealthCache.ArtifactInfo artifact = reloaded.getArtifact("com.example", "lib", NOW + 1000);
+        GitHubClient.RepositoryInfo repository = reloaded.getRepository(SOURCE, "example/lib", NOW + 1000);
+
+        assertThat(artifact).isEqualTo(new RepositoryHealthCache.ArtifactInfo("1.2.0", 7, released,
+                "https://github.com/example/lib"));
+        assertThat(repository.starCount()).isEqualTo(1500);
+        assertThat(repository.archived()).isFalse();
+        assertThat(repository.license()).isEqualTo("MIT");
+        assertThat(repository.contributorCount()).isEqualTo(25);
+        assertThat(reloaded.hits()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepMissingFieldsNull() {
+        RepositoryHealthCache cache = new RepositoryHealthCache(tempDir, Duration.ofHours(24), false);
+        cache.putArtifact("com.example", "noscm", new RepositoryHealthCache.ArtifactInfo("1.0", 1, null, null), NOW);
+        cache.putRepository(SOURCE, new GitHubClient.RepositoryInfo("example/bare", null, null, null, null, null, null, null), NOW);
+
+        RepositoryHealthCache reloaded = new RepositoryHealthCache(tempDir, Duration.ofHours(24), false);
+
+        assertThat(reloaded.getArtifact("com.example", "noscm", NOW).scmUrl()).isNull();
+        assertThat(reloaded.getRepository(SOURCE, "example/bare", NOW).archived()).isNull();
+    }
+
+    @Test
+    void shouldKeepRepositoriesOfDifferentSourcesApart() {
+        RepositoryHealthCache cache = new RepositoryHealthCache(tempDir, Duration.ofHours(24), false);
+        cache.putRepository(SOURCE, new GitHubClient.RepositoryInfo("example/lib", 1, 1, 1, false, null, null, 12), NOW);
+
+        RepositoryHealthCache reloaded = new RepositoryHealthCache(tempDir, Duration.ofHours(24), false);
+
+        assertThat(reloaded.getRepository("REST https://api.github.com", "example/lib", NOW)).isNull();
+        assertThat(reloaded.getRepository("GraphQL https://ghe.example.com/api/v3", "example/lib", NOW)).isNull();
+        assertThat(reloaded.getRepository(SOURCE, "example/lib", NOW).contributorCount()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldIgnoreStaleEntriesUnlessOffline() {
+        RepositoryHealthCache cache = new RepositoryHealthCache(tempDir, Duration.ofHours(1), false);
+        cache.putArtifact("com.example", "lib", new RepositoryHealthCache.ArtifactInfo("1.0", 1, null, null), NOW);
+
+        long later = NOW + Duration.ofHours(2).toMillis();
+        assertThat(cache.getArtifact("com.example", "lib", later)).isNull();
+        assertThat(cache.getArtifact("com.example", "other", NOW)).isNull();
+        assertThat(cache.misses()).isEqualTo(2);
+
+        RepositoryHealthCache offline = new RepositoryHealthCache(tempDir, Duration.ofHours(1), true);
+        assertThat(offline.getArtifact("com.example", "lib", later)).isNotNull();
+    }
+
+    @Test
+    void shouldIgnoreUnreadableEntries() throws Exception {
+        RepositoryHealthCache cache = new RepositoryHealthCache(tempDir, Duration.ofHours(24), false);
+        cache.putRepository(SOURCE, new GitHubClient.RepositoryInfo("example/lib", 1, 1, 1, false, null, null, 1), NOW);
+        try (var files = Files.list(tempDir)) {
+            for (Path file : files.toList()) {
+                Files.writeString(file, "type=github\nkey=someone/else\nfetchedAt=" + NOW + "\n");
+            }
+        }
+
+        RepositoryHealthCache reloaded = new RepositoryHealthCache(tempDir, Duration.ofHours(24), false);
+
+        assertThat(reloaded.getRepository(SOURCE, "example/lib", NOW)).isNull();
+    }
+
+    @Test
+    void shouldAssessHealthFromWarmCacheWithoutNetwork() {
+        RepositoryHealthCache cache = new RepositoryHealthCache(tempDir, Duration.ofHours(24), false);
+        long now = System.currentTimeMillis();
+        cache.putArtifact("com.example", "lib", new RepositoryHealthCache.ArtifactInfo("1.2.0", 7,
+                Instant.now().minus(30, ChronoUnit.DAYS), "https://github.com/example/lib"), now);
+        // Unreachable endpoints: any request would fail the assessment
+        MetadataHttpClient http = new MetadataHttpClient();
+        GitHubClient github = new GitHubClient("http://127.0.0.1:1", null, http, 500, 0, 0);
+        cache.putRepository(github.source(), new GitHubClient.RepositoryInfo("example/lib", 1500, 40, 12, true, "MIT",
+                Instant.now().minus(400, ChronoUnit.DAYS), 25), now);
+        RepositoryHealthChecker checker = new RepositoryHealthChecker(500, http, github, cache);
+
+        Gav gav = new Gav("com.example", "lib", "1.0.0");
+        Map<Gav, RepositoryHealth> result = checker.checkHealthAll(List.of(gav));
+        http.close();
+
+        RepositoryHealth health = result.get(gav);
+        assertThat(health.getLatestVersion()).isEqualTo("1.2.0");
+        assertThat(health.getRepositoryType()).isEqualTo("github");
+        assertThat(health.getDaysSinceLastRelease()).isEqualTo(30);
+        assertThat(health.getDaysSinceLastCommit()).isEqualTo(400);
+        assertThat(health.getLevel()).isEqualTo(RepositoryHealth.HealthLevel.DANGER);
+        assertThat(github.requests()).isZero();
+    }
+}
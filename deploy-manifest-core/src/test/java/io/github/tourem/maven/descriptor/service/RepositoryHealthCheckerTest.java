@@ -0,0 +1,48 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.Gav;
+import io.github.tourem.maven.descriptor.model.analysis.RepositoryHealth;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryHealthCheckerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldCheckEachArtifactOnceAndKeepInputOrder() {
+        RepositoryHealthCache cache = new RepositoryHealthCache(tempDir, Duration.ofHours(24), false);
+        long now = System.currentTimeMillis();
+        List<Gav> gavs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            cache.putArtifact("com.example", "lib" + i, new RepositoryHealthCache.ArtifactInfo("2.0", 3,
+                    Instant.now().minus(10L * i, ChronoUnit.DAYS), null), now);
+            gavs.add(new Gav("com.example", "lib" + i, "1.0"));
+        }
+        gavs.add(new Gav("com.example", "lib3", "1.1"));
+        gavs.add(new Gav(null, "invalid", "1.0"));
+        // Unreachable endpoints: everything must come from the cache
+        Map<Gav, RepositoryHealth> result;
+        try (MetadataHttpClient http = new MetadataHttpClient()) {
+            GitHubClient github = new GitHubClient("http://127.0.0.1:1", null, http, 500, 0, 0);
+            result = new RepositoryHealthChecker(500, http, github, cache, 4).checkHealthAll(gavs);
+        }
+
+        assertThat(result.keySet()).containsExactlyElementsOf(gavs.subList(0, 21));
+        assertThat(result.get(new Gav("com.example", "lib3", "1.1")))
+                .isSameAs(result.get(new Gav("com.example", "lib3", "1.0")));
+        assertThat(result.get(new Gav("com.example", "lib7", "1.0")).getDaysSinceLastRelease()).isEqualTo(70);
+        assertThat(cache.hits()).isEqualTo(20);
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.tourem.maven.descriptor.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryStatsTest {
+
+    private static final String NEXUS = "https://nexus.example.com/repository/maven-public";
+    private static final String CENTRAL = "https://repo1.maven.org/maven2";
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final RepositoryStats stats = new RepositoryStats(3, 10_000, now::get);
+
+    @Test
+    void circuitShouldOpenAfterConsecutiveFailuresAndProbeOnce() {
+        stats.recordFailure(NEXUS, 5000);
+        stats.recordFailure(NEXUS, 5000);
+        assertThat(stats.allowRequest(NEXUS)).isTrue();
+        stats.recordFailure(NEXUS, 5000);
+
+        assertThat(stats.state(NEXUS)).isEqualTo(RepositoryStats.State.OPEN);
+        assertThat(stats.allowRequest(NEXUS)).isFalse();
+
+        now.addAndGet(10_000);
+        assertThat(stats.allowRequest(NEXUS)).isTrue();
+        assertThat(stats.state(NEXUS)).isEqualTo(RepositoryStats.State.HALF_OPEN);
+        assertThat(stats.allowRequest(NEXUS)).isFalse();
+
+        stats.recordSuccess(NEXUS, 40);
+        assertThat(stats.state(NEXUS)).isEqualTo(RepositoryStats.State.CLOSED);
+        assertThat(stats.snapshot()).singleElement().satisfies(s -> {
+            assertThat(s.trips()).isEqualTo(1);
+            assertThat(s.rejected()).isEqualTo(2);
+            assertThat(s.failures()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void failedProbeShouldReopenCircuit() {
+        for (int i = 0; i < 3; i++) stats.recordFailure(NEXUS, 100);
+        now.addAndGet(10_000);
+        assertThat(stats.allowRequest(NEXUS)).isTrue();
+
+        stats.recordFailure(NEXUS, 100);
+
+        assertThat(stats.state(NEXUS)).isEqualTo(RepositoryStats.State.OPEN);
+        assertThat(stats.allowRequest(NEXUS)).isFalse();
+        assertThat(stats.summary()).contains("circuit opened 2x");
+    }
+
+    @Test
+    void rankShouldSkipOpenCircuitsAndPreferFastRepositories() {
+        String mirror = "https://mirror.example.com/maven2";
+        stats.recordSuccess(CENTRAL, 300);
+        stats.recordSuccess(mirror, 20);
+        for (int i = 0; i < 3; i++) stats.recordFailure(NEXUS, 5000);
+
+        assertThat(stats.rank(List.of(NEXUS, CENTRAL, mirror))).containsExactly(mirror, CENTRAL);
+    }
+}
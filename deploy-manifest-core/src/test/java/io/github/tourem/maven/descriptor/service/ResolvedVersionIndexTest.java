@@ -0,0 +1,91 @@
+package io.github.tourem.maven.descriptor.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResolvedVersionIndexTest {
+
+    private final Path moduleA = Path.of("reactor", "module-a");
+    private final Path moduleB = Path.of("reactor", "module-b");
+
+    @Test
+    void shouldWaitOnlyForTheRequestedModule() throws Exception {
+        ResolvedVersionIndex index = new ResolvedVersionIndex();
+        index.expect(moduleA);
+        index.expect(moduleB);
+
+        CompletableFuture<String> reader = CompletableFuture.supplyAsync(() -> {
+            try {
+                index.await(moduleA);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return index.version(moduleA, "com.example", "lib");
+        });
+        Thread.sleep(50);
+        assertThat(reader).isNotDone();
+
+        index.put(moduleA, "com.example", "lib", "1.0");
+        index.complete(moduleA);
+
+        assertThat(reader.get(5, TimeUnit.SECONDS)).isEqualTo("1.0");
+    }
+
+    @Test
+    void unknownModuleShouldWaitForWholeReactor() throws Exception {
+        ResolvedVersionIndex index = new ResolvedVersionIndex();
+        index.expect(moduleA);
+        index.expect(moduleB);
+        Path other = Path.of("elsewhere");
+
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+            try {
+                index.await(other);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        index.put(moduleB, "com.example", "lib", "2.0");
+        index.put(moduleA, "com.example", "other", "1.0");
+        index.complete(moduleB);
+        Thread.sleep(50);
+        assertThat(reader).isNotDone();
+
+        index.complete(moduleA);
+        reader.get(5, TimeUnit.SECONDS);
+        assertThat(index.version(other, "com.example", "lib")).isEqualTo("2.0");
+        // An indexed module only sees its own selection
+        assertThat(index.version(moduleA, "com.example", "lib")).isNull();
+    }
+
+    @Test
+    void shouldNotBlockWithoutAnnouncedModules() throws Exception {
+        ResolvedVersionIndex index = new ResolvedVersionIndex();
+
+        index.await(moduleA);
+
+        assertThat(index.isEmpty()).isTrue();
+    }
+
+    @Test
+    void timedWaitShouldGiveUpOnUnfinishedModule() throws Exception {
+        ResolvedVersionIndex index = new ResolvedVersionIndex();
+        index.expect(moduleA);
+        index.expect(moduleB);
+        index.put(moduleA, "com.example", "lib", "1.0");
+        index.complete(moduleB);
+
+        assertThat(index.await(moduleA, 20, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(index.await(moduleB, 20, TimeUnit.MILLISECONDS)).isTrue();
+        // What was recorded before the timeout stays readable
+        assertThat(index.version(moduleA, "com.example", "lib")).isEqualTo("1.0");
+
+        index.complete(moduleA);
+        assertThat(index.await(moduleA, 20, TimeUnit.MILLISECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.EnvironmentConfig;
+import org.apache.maven.model.Model;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceIndexTest {
+
+    @Test
+    void shouldListFilesWithSizesAndModificationTimes(@TempDir Path tempDir) throws Exception {
+        Path resources = Files.createDirectories(tempDir.resolve("src/main/resources"));
+        Files.writeString(resources.resolve("application.yml"), "server:\n  port: 8081\n");
+        Files.writeString(resources.resolve("application-dev.yml"), "server:\n  port: 9000\n");
+        Files.createDirectories(resources.resolve("static"));
+        Files.setLastModifiedTime(resources.resolve("application.yml"), FileTime.fromMillis(1_700_000_000_000L));
+
+        ResourceIndex index = ResourceIndex.forModule(tempDir);
+
+        assertThat(index.exists()).isTrue();
+        assertThat(index.fileNames()).containsExactly("application-dev.yml", "application.yml");
+        assertThat(index.fileNames(n -> n.startsWith("application-"))).containsExactly("application-dev.yml");
+        assertThat(index.contains("static")).isFalse();
+        assertThat(index.file("application.yml")).isEqualTo(resources.resolve("application.yml"));
+        assertThat(index.entry("application.yml").size()).isEqualTo(Files.size(resources.resolve("application.yml")));
+        assertThat(index.entry("application.yml").lastModified()).isEqualTo(1_700_000_000_000L);
+        assertThat(index.file("application.properties")).isNull();
+    }
+
+    @Test
+    void shouldReadMissingDirectoryAsEmpty(@TempDir Path tempDir) {
+        ResourceIndex index = ResourceIndex.forModule(tempDir);
+
+        assertThat(index.exists()).isFalse();
+        assertThat(index.fileNames()).isEmpty();
+        assertThat(index.file("application.yml")).isNull();
+    }
+
+    @Test
+    void shouldScanEachModuleOnceAcrossDetectors(@TempDir Path tempDir) throws Exception {
+        Path resources = Files.createDirectories(tempDir.resolve("src/main/resources"));
+        Files.writeString(resources.resolve("application.yml"),
+                "server:\n  port: 8081\nmanagement:\n  endpoints:\n    web:\n      base-path: /manage\n");
+        Files.writeString(resources.resolve("application-prod.yml"), "server:\n  port: 9090\n");
+        Model model = new Model();
+        model.setArtifactId("app");
+        model.setPackaging("jar");
+
+        ResourceIndexCache cache = new ResourceIndexCache();
+        SpringBootProfileDetector profileDetector = new SpringBootProfileDetector(null, cache);
+        DeploymentMetadataDetector metadataDetector = new DeploymentMetadataDetector(cache);
+        EnvironmentConfigDetector environmentConfigDetector = new EnvironmentConfigDetector(cache);
+
+        List<String> profiles = profileDetector.detectProfiles(tempDir, model, tempDir);
+        Integer port = metadataDetector.detectServerPort(tempDir);
+        String basePath = metadataDetector.detectActuatorBasePath(tempDir.resolve("."), true);
+        List<EnvironmentConfig> configs = environmentConfigDetector.detectEnvironmentConfigs(tempDir, profiles, true);
+
+        assertThat(profiles).contains("prod");
+        assertThat(port).isEqualTo(8081);
+        assertThat(basePath).isEqualTo("/manage");
+        assertThat(configs).anySatisfy(c -> assertThat(c.serverPort()).isEqualTo(9090));
+        assertThat(cache.scans()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.clear();
+        metadataDetector.detectServerPort(tempDir);
+        assertThat(cache.scans()).isEqualTo(2);
+    }
+}
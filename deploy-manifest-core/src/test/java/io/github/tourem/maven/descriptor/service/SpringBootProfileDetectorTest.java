@@ -178,5 +178,68 @@ class SpringBootProfileDetectorTest {
         
         assertThat(profiles).containsExactly("dev");
     }
+    
+    @Test
+    void shouldScanOnlyReactorModulesRecursively(@TempDir Path tempDir) throws IOException {
+        Files.writeString(tempDir.resolve("pom.xml"), pom("parent", "services", "lib/pom.xml"));
+        Files.createDirectories(tempDir.resolve("services"));
+        Files.writeString(tempDir.resolve("services/pom.xml"), pom("services", "api"));
+        profileFile(tempDir.resolve("services/api"), "application-dev.yml");
+        Files.writeString(tempDir.resolve("services/api/pom.xml"), pom("api"));
+        profileFile(tempDir.resolve("services/api"), "config/application-cloud.properties");
+        profileFile(tempDir.resolve("lib"), "application-test.properties");
+        Files.writeString(tempDir.resolve("lib/pom.xml"), pom("lib"));
+        // Not part of the reactor
+        profileFile(tempDir.resolve("services/api/target/classes"), "application-stale.yml");
+        profileFile(tempDir.resolve("sandbox"), "application-sandbox.yml");
+        
+        assertThat(detector.detectProfilesRecursive(tempDir)).containsExactly("cloud", "dev", "test");
+        assertThat(detector.detectProfilesRecursive(tempDir, 4)).containsExactly("cloud", "dev", "test");
+    }
+    
+    @Test
+    void shouldScanConfigDirectoriesThroughTheRunCacheWithConfiguredThreads(@TempDir Path tempDir) throws IOException {
+        Files.writeString(tempDir.resolve("pom.xml"), pom("parent", "api", "worker"));
+        profileFile(tempDir.resolve("api"), "config/application-cloud.yml");
+        Files.writeString(tempDir.resolve("api/pom.xml"), pom("api"));
+        profileFile(tempDir.resolve("worker"), "application-batch.properties");
+        Files.writeString(tempDir.resolve("worker/pom.xml"), pom("worker"));
+        ResourceIndexCache resourceIndexes = new ResourceIndexCache();
+        SpringBootProfileDetector parallel = new SpringBootProfileDetector(null, resourceIndexes, 3);
+        
+        assertThat(parallel.detectProfilesRecursive(tempDir)).containsExactly("batch", "cloud");
+        long scans = resourceIndexes.scans();
+        // resources and resources/config of the root and both modules
+        assertThat(scans).isEqualTo(6);
+        assertThat(parallel.detectProfilesRecursive(tempDir)).containsExactly("batch", "cloud");
+        assertThat(resourceIndexes.scans()).isEqualTo(scans);
+    }
+    
+    @Test
+    void shouldPruneBuildAndVcsDirectoriesWithoutRootPom(@TempDir Path tempDir) throws IOException {
+        profileFile(tempDir.resolve("app"), "application-prod.yml");
+        profileFile(tempDir.resolve("tools/worker"), "application-batch.properties");
+        profileFile(tempDir.resolve("app/target"), "application-stale.yml");
+        profileFile(tempDir.resolve("web/node_modules/pkg"), "application-npm.yml");
+        profileFile(tempDir.resolve(".git/modules/app"), "application-git.yml");
+        profileFile(tempDir.resolve("app/src/test/fixture"), "application-fixture.yml");
+        
+        assertThat(detector.detectProfilesRecursive(tempDir)).containsExactly("batch", "prod");
+        assertThat(detector.detectProfilesRecursive(tempDir, 2)).containsExactly("batch", "prod");
+    }
+    
+    private static void profileFile(Path moduleDir, String name) throws IOException {
+        Path file = moduleDir.resolve("src/main/resources").resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.createFile(file);
+    }
+    
+    private static String pom(String artifactId, String... modules) {
+        StringBuilder sb = new StringBuilder("<project><modelVersion>4.0.0</modelVersion><groupId>com.example</groupId>")
+                .append("<artifactId>").append(artifactId).append("</artifactId><version>1.0.0</version><modules>");
+        for (String module : modules) {
+            sb.append("<module>").append(module).append("</module>");
+        }
+        return sb.append("</modules></project>").toString();
+    }
 }
-
@@ -0,0 +1,89 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.EnvironmentConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpringConfigurationTest {
+
+    @Test
+    void shouldParseEachFileOnceAcrossDetectorsAndProfiles(@TempDir Path tempDir) throws Exception {
+        Path resources = Files.createDirectories(tempDir.resolve("src/main/resources"));
+        Files.writeString(resources.resolve("application.yml"), """
+                server:
+                  port: 8080
+                  servlet:
+                    context-path: /api
+                management:
+                  endpoints:
+                    web:
+                      base-path: /manage
+                """);
+        Files.writeString(resources.resolve("application.properties"), "spring.application.name=app\n");
+        Files.writeString(resources.resolve("application-dev.yml"), "server:\n  port: 8081\n");
+        Files.writeString(resources.resolve("application-prod.yaml"), "server:\n  port: 9090\n");
+
+        ResourceIndexCache cache = new ResourceIndexCache();
+        DeploymentMetadataDetector metadataDetector = new DeploymentMetadataDetector(cache);
+        EnvironmentConfigDetector environmentConfigDetector = new EnvironmentConfigDetector(cache);
+
+        assertThat(metadataDetector.detectServerPort(tempDir)).isEqualTo(8080);
+        assertThat(metadataDetector.detectActuatorBasePath(tempDir, true)).isEqualTo("/manage");
+        for (int run = 0; run < 2; run++) {
+            List<EnvironmentConfig> configs = environmentConfigDetector.detectEnvironmentConfigs(
+                    tempDir, List.of("dev", "prod", "test"), true);
+            assertThat(configs).extracting(EnvironmentConfig::serverPort).containsExactly(8081, 9090, 8080);
+            assertThat(configs).extracting(EnvironmentConfig::contextPath).containsOnly("/api");
+            assertThat(configs).extracting(EnvironmentConfig::actuatorBasePath).containsOnly("/manage");
+        }
+
+        assertThat(cache.parses()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldServeNestedAndDottedKeysFromImmutableTree(@TempDir Path tempDir) throws Exception {
+        Path resources = Files.createDirectories(tempDir.resolve("src/main/resources"));
+        Files.writeString(resources.resolve("application.yml"), """
+                server:
+                  port: 8080
+                spring.webflux.base-path: /flux
+                """);
+        Files.writeString(resources.resolve("application.properties"), "server.port=9000\n");
+
+        SpringConfiguration configuration = new ResourceIndexCache().springConfiguration(tempDir);
+        SpringConfiguration.ConfigFile yaml = configuration.file("application.yml");
+
+        assertThat(yaml.get("server.port")).isEqualTo(8080);
+        assertThat(yaml.get("spring.webflux.base-path")).isEqualTo("/flux");
+        assertThat(yaml.get("server.address")).isNull();
+        assertThat(configuration.file("application.properties").get("server.port")).isEqualTo("9000");
+        assertThat(configuration.common()).extracting(f -> f.path().getFileName().toString())
+                .containsExactly("application.yml", "application.properties");
+        assertThat(configuration.file("application.yml")).isSameAs(yaml);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> server = (Map<String, Object>) yaml.tree().get("server");
+        assertThatThrownBy(() -> server.put("port", 1)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldSkipUnparsableFile(@TempDir Path tempDir) throws Exception {
+        Path resources = Files.createDirectories(tempDir.resolve("src/main/resources"));
+        Files.writeString(resources.resolve("application.yml"), "server: [unclosed\n");
+        Files.writeString(resources.resolve("application.yaml"), "server:\n  port: 7070\n");
+
+        ResourceIndexCache cache = new ResourceIndexCache();
+
+        assertThat(cache.springConfiguration(tempDir).file("application.yml")).isNull();
+        assertThat(new DeploymentMetadataDetector(cache).detectServerPort(tempDir)).isEqualTo(7070);
+        assertThat(cache.parses()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.tourem.maven.descriptor.service;
+
+import org.apache.maven.model.Model;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class YamlKeyExtractorTest {
+
+    private static final String APPLICATION_YML = """
+            server:
+              port: 8080
+              compression:
+                enabled: true
+              servlet:
+                context-path: /api
+            spring:
+              application:
+                name: orders
+              profiles:
+                active: dev
+                group:
+                  prod: [db, cloud]
+            management.endpoints.web.base-path: /manage
+            catalog:
+              entries:
+                - id: 1
+                  labels: {en: One, fr: Un}
+                - id: 2
+            """;
+
+    private final YamlKeyExtractor extractor = new YamlKeyExtractor(SpringConfiguration.KEYS);
+
+    @Test
+    void shouldKeepOnlySelectedPathsWithFullLoadTypes() {
+        List<YamlKeyExtractor.Document> documents = extractor.extract(new StringReader(APPLICATION_YML));
+
+        assertThat(documents).hasSize(1);
+        YamlKeyExtractor.Document document = documents.get(0);
+        assertThat(document.conditional()).isFalse();
+        assertThat(document.tree()).containsOnlyKeys("server", "spring", "management.endpoints.web.base-path");
+        assertThat(document.tree().get("server")).isEqualTo(Map.of("port", 8080, "servlet", Map.of("context-path", "/api")));
+        assertThat(document.tree().get("spring")).isEqualTo(Map.of("profiles",
+                Map.of("active", "dev", "group", Map.of("prod", List.of("db", "cloud")))));
+        assertThat(document.tree().get("management.endpoints.web.base-path")).isEqualTo("/manage");
+
+        Map<String, Object> full = new Yaml().load(APPLICATION_YML);
+        SpringConfiguration.ConfigFile selected = new SpringConfiguration.ConfigFile(null, document.tree(), List.of());
+        SpringConfiguration.ConfigFile loaded = new SpringConfiguration.ConfigFile(null, full, List.of());
+        for (String key : List.of("server.port", "server.servlet.context-path", "management.endpoints.web.base-path",
+                "spring.profiles.active", "spring.profiles.group")) {
+            assertThat(selected.get(key)).as(key).isEqualTo(loaded.get(key));
+        }
+    }
+
+    @Test
+    void shouldSplitProfileDocuments() {
+        String yaml = """
+                server:
+                  port: 8080
+                ---
+                spring:
+                  config:
+                    activate:
+                      on-profile: dev | test
+                server:
+                  port: 8081
+                ---
+                spring:
+                  profiles: legacy
+                server:
+                  port: 8082
+                ---
+                spring.config.activate.on-profile: "!prod"
+                server:
+                  port: 8083
+                """;
+
+        List<YamlKeyExtractor.Document> documents = extractor.extract(new StringReader(yaml));
+
+        assertThat(documents).extracting(YamlKeyExtractor.Document::profiles)
+                .containsExactly(Set.of(), Set.of("dev", "test"), Set.of("legacy"), Set.of());
+        assertThat(documents).extracting(YamlKeyExtractor.Document::conditional).containsExactly(false, true, true, true);
+        assertThat(documents.get(1).tree().get("server")).isEqualTo(Map.of("port", 8081));
+    }
+
+    @Test
+    void shouldReportConditionsOtherThanProfilesAsUnevaluable() {
+        String yaml = """
+                spring:
+                  profiles: [legacy, old]
+                server:
+                  port: 8082
+                ---
+                spring.config.activate.on-cloud-platform: kubernetes
+                server:
+                  port: 8083
+                ---
+                spring:
+                  config:
+                    activate:
+                      on-profile: prod
+                      on-cloud-platform: kubernetes
+                server:
+                  port: 8084
+                ---
+                spring.config.activate.on-profile: [dev, test]
+                spring:
+                  profiles:
+                    include: db
+                ---
+                spring:
+                  profiles:
+                    active: dev
+                """;
+
+        List<YamlKeyExtractor.Document> documents = extractor.extract(new StringReader(yaml));
+
+        assertThat(documents).extracting(YamlKeyExtractor.Document::profiles)
+                .containsExactly(Set.of("legacy", "old"), Set.of(), Set.of(), Set.of("dev", "test"), Set.of());
+        assertThat(documents).extracting(YamlKeyExtractor.Document::conditional)
+                .containsExactly(true, true, true, true, false);
+    }
+
+    @Test
+    void shouldDropDocumentsActivatedByCloudPlatform(@TempDir Path tempDir) throws Exception {
+        Path resources = Files.createDirectories(tempDir.resolve("src/main/resources"));
+        Files.writeString(resources.resolve("application.yml"), """
+                server:
+                  port: 8080
+                ---
+                spring.config.activate.on-cloud-platform: kubernetes
+                server:
+                  port: 9000
+                ---
+                spring.config.activate:
+                  on-profile: prod
+                  on-cloud-platform: kubernetes
+                server:
+                  port: 9001
+                """);
+
+        SpringConfiguration configuration = new ResourceIndexCache().springConfiguration(tempDir);
+
+        assertThat(configuration.commonOverlay().get("server", "port")).isEqualTo(8080);
+        assertThat(configuration.overlay("prod").get("server", "port")).isEqualTo(8080);
+        assertThat(configuration.documentProfiles()).isEmpty();
+    }
+
+    @Test
+    void shouldResolveScalarAliasesFromSkippedSubtrees() {
+        String yaml = """
+                defaults:
+                  http: &http 9000
+                  other: [a, b]
+                server:
+                  port: *http
+                """;
+
+        Map<String, Object> tree = extractor.extract(new StringReader(yaml)).get(0).tree();
+
+        assertThat(tree).containsOnlyKeys("server");
+        assertThat(tree.get("server")).isEqualTo(Map.of("port", 9000));
+    }
+
+    @Test
+    void shouldFailOnInvalidYaml() {
+        assertThatThrownBy(() -> extractor.extract(new StringReader("server: [unclosed\n")))
+                .isInstanceOf(YAMLException.class);
+    }
+
+    @Test
+    void shouldLayerProfileDocumentsBetweenCommonAndProfileFiles(@TempDir Path tempDir) throws Exception {
+        Path resources = Files.createDirectories(tempDir.resolve("src/main/resources"));
+        Files.writeString(resources.resolve("application.yml"), """
+                server:
+                  port: 8080
+                  servlet:
+                    context-path: /api
+                ---
+                spring.config.activate.on-profile: staging
+                server:
+                  port: 8090
+                ---
+                spring.config.activate.on-profile: dev
+                server:
+                  port: 8081
+                """);
+        Files.writeString(resources.resolve("application-dev.yml"), "server:\n  port: 9091\n");
+
+        ResourceIndexCache cache = new ResourceIndexCache();
+        SpringConfiguration configuration = cache.springConfiguration(tempDir);
+
+        assertThat(configuration.documentProfiles()).containsExactly("staging", "dev");
+        assertThat(configuration.overlay("staging").get("server", "port")).isEqualTo(8090);
+        assertThat(configuration.overlay("dev").get("server", "port")).isEqualTo(9091);
+        assertThat(configuration.overlay("staging").get("server", "servlet", "context-path")).isEqualTo("/api");
+        assertThat(new DeploymentMetadataDetector(cache).detectServerPort(tempDir)).isEqualTo(8080);
+        assertThat(new SpringBootProfileDetector(null, cache).detectProfiles(tempDir, new Model(), tempDir))
+                .containsExactly("dev", "staging");
+        assertThat(cache.parses()).isEqualTo(2);
+    }
+}
@@ -2,11 +2,18 @@ package io.github.tourem.maven.plugin;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.tourem.maven.descriptor.model.Gav;
+import io.github.tourem.maven.descriptor.model.MavenVersion;
 import io.github.tourem.maven.descriptor.model.analysis.AnalyzedDependency;
 import io.github.tourem.maven.descriptor.model.analysis.DependencyAnalysisResult;
 import io.github.tourem.maven.descriptor.model.analysis.RepositoryHealth;
 import io.github.tourem.maven.descriptor.service.DependencyVersionLookup;
+import io.github.tourem.maven.descriptor.service.GitHubClient;
+import io.github.tourem.maven.descriptor.service.MavenMetadataCache;
+import io.github.tourem.maven.descriptor.service.MetadataHttpClient;
+import io.github.tourem.maven.descriptor.service.RepositoryHealthCache;
 import io.github.tourem.maven.descriptor.service.RepositoryHealthChecker;
+import io.github.tourem.maven.descriptor.service.RepositoryStats;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -19,7 +26,6 @@ import org.apache.maven.shared.dependency.analyzer.ProjectDependencyAnalysis;
 import org.apache.maven.shared.dependency.analyzer.ProjectDependencyAnalyzer;
 import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
 import org.apache.maven.shared.dependency.graph.DependencyNode;
-import org.apache.maven.project.DefaultProjectBuildingRequest;
 
 import org.eclipse.jgit.api.BlameCommand;
 import org.eclipse.jgit.api.Git;
@@ -33,10 +39,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Mojo(name = "analyze-dependencies", defaultPhase = LifecyclePhase.VERIFY, threadSafe = true)
@@ -91,6 +99,29 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
     @Parameter(property = "descriptor.versionLookupTimeoutMs", defaultValue = "5000")
     private int versionLookupTimeoutMs;
 
+    /** Maximum version lookups in flight at once. */
+    @Parameter(property = "descriptor.versionLookupConcurrency", defaultValue = "16")
+    private int versionLookupConcurrency;
+
+    /** Overall deadline for all version lookups of the module; unfinished lookups are skipped. */
+    @Parameter(property = "descriptor.versionLookupDeadlineMs", defaultValue = "30000")
+    private long versionLookupDeadlineMs;
+
+    /**
+     * Race repositories during version lookups: delay before also querying the next repository
+     * (0 = query all at once, negative = one after the other).
+     */
+    @Parameter(property = "descriptor.repositoryHedgeDelayMs", defaultValue = "-1")
+    private long repositoryHedgeDelayMs;
+
+    /** Consecutive failures after which a repository is skipped (circuit open). */
+    @Parameter(property = "descriptor.repositoryFailureThreshold", defaultValue = "3")
+    private int repositoryFailureThreshold;
+
+    /** Time after which a skipped repository gets a single probe request. */
+    @Parameter(property = "descriptor.repositoryRetryAfterMs", defaultValue = "30000")
+    private long repositoryRetryAfterMs;
+
     // Repository health check
     @Parameter(property = "descriptor.checkRepositoryHealth", defaultValue = "true")
     private boolean checkRepositoryHealth;
@@ -98,9 +129,67 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
     @Parameter(property = "descriptor.repositoryHealthTimeoutMs", defaultValue = "5000")
     private int repositoryHealthTimeoutMs;
 
+    /** Maximum dependencies checked against Maven Central at once. */
+    @Parameter(property = "descriptor.repositoryHealthConcurrency", defaultValue = "8")
+    private int repositoryHealthConcurrency;
+
     @Parameter(property = "descriptor.githubToken")
     private String githubToken;
 
+    /** GitHub REST API base URL (GitHub Enterprise: https://host/api/v3; GraphQL is then queried at https://host/api/graphql). */
+    @Parameter(property = "descriptor.githubApiUrl", defaultValue = "https://api.github.com")
+    private String githubApiUrl;
+
+    /** Repositories per GitHub GraphQL query (used when a token is configured). */
+    @Parameter(property = "descriptor.githubBatchSize", defaultValue = "25")
+    private int githubBatchSize;
+
+    /** Total time the build may wait for GitHub rate limits before skipping remaining repositories. */
+    @Parameter(property = "descriptor.githubRateLimitMaxWaitMs", defaultValue = "60000")
+    private long githubRateLimitMaxWaitMs;
+
+    /** Persistent cache of Maven Central and GitHub data used by repository health checks. */
+    @Parameter(property = "descriptor.repositoryHealthCache", defaultValue = "true")
+    private boolean repositoryHealthCache;
+
+    /** Cache directory (default: ~/.m2/deploy-manifest/health). */
+    @Parameter(property = "descriptor.repositoryHealthCacheDirectory")
+    private String repositoryHealthCacheDirectory;
+
+    /** Age under which cached repository health data is used without checking again. */
+    @Parameter(property = "descriptor.repositoryHealthCacheTtlHours", defaultValue = "24")
+    private long repositoryHealthCacheTtlHours;
+
+    // Shared HTTP layer for version lookups, health checks and plugin update checks
+    @Parameter(property = "descriptor.httpMaxConcurrency", defaultValue = "16")
+    private int httpMaxConcurrency;
+
+    @Parameter(property = "descriptor.httpMaxConnectionsPerHost", defaultValue = "6")
+    private int httpMaxConnectionsPerHost;
+
+    /** Persistent maven-metadata.xml cache shared by version lookups, health checks and plugin update checks. */
+    @Parameter(property = "descriptor.metadataCache", defaultValue = "true")
+    private boolean metadataCache;
+
+    /** Cache directory (default: ~/.m2/deploy-manifest/metadata). */
+    @Parameter(property = "descriptor.metadataCacheDirectory")
+    private String metadataCacheDirectory;
+
+    /** Age under which cached metadata is used without revalidation. */
+    @Parameter(property = "descriptor.metadataCacheTtlMinutes", defaultValue = "60")
+    private long metadataCacheTtlMinutes;
+
+    /** Serve metadata from the cache only (also enabled by Maven offline mode). */
+    @Parameter(property = "descriptor.metadataOffline", defaultValue = "false")
+    private boolean metadataOffline;
+
+    /** How long a 404 for an artifact is remembered on disk (0 = within the build only). */
+    @Parameter(property = "descriptor.metadataCacheNegativeTtlMinutes", defaultValue = "0")
+    private long metadataCacheNegativeTtlMinutes;
+
+    /** HTTP client of the current execution (null outside execute: services then use the shared client). */
+    private MetadataHttpClient httpClient;
+
     // Plugin analysis
     @Parameter(property = "descriptor.includePlugins", defaultValue = "true")
     private boolean includePlugins;
@@ -124,6 +213,14 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
 
     @Override
     public void execute() throws MojoExecutionException {
+        MavenMetadataCache cache = metadataCache
+                ? MavenMetadataCache.open(metadataCacheDirectory, Duration.ofMinutes(metadataCacheTtlMinutes),
+                        Duration.ofMinutes(metadataCacheNegativeTtlMinutes),
+                        metadataOffline || (session != null && session.isOffline()))
+                : null;
+        httpClient = new MetadataHttpClient(httpMaxConcurrency, httpMaxConnectionsPerHost,
+                Math.max(versionLookupTimeoutMs, repositoryHealthTimeoutMs), cache,
+                new RepositoryStats(repositoryFailureThreshold, repositoryRetryAfterMs));
         try {
             ProjectDependencyAnalysis result = projectDependencyAnalyzer.analyze(project);
 
@@ -141,9 +238,7 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
             // Count all resolved dependencies (direct + transitive) using dependency graph
             int totalCount = 0;
             try {
-                DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest());
-                buildingRequest.setProject(project);
-                DependencyNode rootNode = dependencyGraphBuilder.buildDependencyGraph(buildingRequest, null);
+                DependencyNode rootNode = DependencyGraphCache.forSession(session).graph(dependencyGraphBuilder, project);
 
                 // Count all nodes in the tree (excluding root)
                 Set<String> uniqueDeps = new java.util.HashSet<>();
@@ -191,12 +286,14 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
                 detectFalsePositives(unused);
             }
             if (lookupAvailableVersions) {
-                enrichWithAvailableVersions(unused);
-                enrichWithAvailableVersions(undeclared);
+                List<AnalyzedDependency> lookupTargets = new ArrayList<>(unused);
+                lookupTargets.addAll(undeclared);
+                enrichWithAvailableVersions(lookupTargets);
             }
             if (checkRepositoryHealth) {
-                enrichWithRepositoryHealth(unused);
-                enrichWithRepositoryHealth(undeclared);
+                List<AnalyzedDependency> healthTargets = new ArrayList<>(unused);
+                healthTargets.addAll(undeclared);
+                enrichWithRepositoryHealth(healthTargets);
             }
             List<io.github.tourem.maven.descriptor.model.analysis.Recommendation> recs = null;
             if (generateRecommendations) {
@@ -242,6 +339,10 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
             getLog().info("Dependency analysis generated: " + getOutputPath());
         } catch (Exception e) {
             throw new MojoExecutionException("Failed to analyze dependencies", e);
+        } finally {
+            getLog().debug(httpClient.summary());
+            httpClient.close();
+            httpClient = null;
         }
     }
 
@@ -424,37 +525,34 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
             return;
         }
 
-        try {
-            // Create version lookup service using project's Maven model
-            DependencyVersionLookup versionLookup = new DependencyVersionLookup(
-                    project.getModel(),
-                    versionLookupTimeoutMs
-            );
+        // Create version lookup service using project's Maven model
+        try (DependencyVersionLookup versionLookup = new DependencyVersionLookup(
+                project.getModel(),
+                versionLookupTimeoutMs,
+                httpClient,
+                repositoryHedgeDelayMs)) {
+
+            // One batch for all dependencies: lookups run concurrently under a single deadline
+            List<Gav> coordinates = new ArrayList<>(dependencies.size());
+            for (AnalyzedDependency dep : dependencies) {
+                coordinates.add(new Gav(dep.getGroupId(), dep.getArtifactId(), dep.getVersion()));
+            }
+            Map<Gav, List<String>> found = versionLookup.lookupAll(coordinates, maxAvailableVersions,
+                    versionLookupConcurrency, versionLookupDeadlineMs).join();
 
             for (AnalyzedDependency dep : dependencies) {
-                try {
-                    List<String> availableVersions = versionLookup.lookupAvailableVersions(
+                List<String> availableVersions = found.get(new Gav(dep.getGroupId(), dep.getArtifactId(), dep.getVersion()));
+                if (availableVersions != null && !availableVersions.isEmpty()) {
+                    dep.setAvailableVersions(availableVersions);
+                    getLog().debug(String.format("Found %d available versions for %s:%s:%s",
+                            availableVersions.size(),
                             dep.getGroupId(),
                             dep.getArtifactId(),
-                            dep.getVersion(),
-                            maxAvailableVersions
-                    );
-
-                    if (availableVersions != null && !availableVersions.isEmpty()) {
-                        dep.setAvailableVersions(availableVersions);
-                        getLog().debug(String.format("Found %d available versions for %s:%s:%s",
-                                availableVersions.size(),
-                                dep.getGroupId(),
-                                dep.getArtifactId(),
-                                dep.getVersion()));
-                    }
-                } catch (Exception e) {
-                    getLog().debug("Failed to lookup versions for " + dep.getGroupId() + ":" +
-                                   dep.getArtifactId() + ": " + e.getMessage());
+                            dep.getVersion()));
                 }
             }
         } catch (Exception e) {
-            getLog().warn("Failed to initialize version lookup: " + e.getMessage());
+            getLog().warn("Failed to lookup available versions: " + e.getMessage());
         }
     }
 
@@ -469,46 +567,54 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
 
         try {
             // Create repository health checker
+            GitHubClient github = new GitHubClient(githubApiUrl, githubToken, httpClient,
+                    repositoryHealthTimeoutMs, githubBatchSize, githubRateLimitMaxWaitMs);
+            RepositoryHealthCache healthCache = repositoryHealthCache
+                    ? RepositoryHealthCache.open(repositoryHealthCacheDirectory,
+                            Duration.ofHours(repositoryHealthCacheTtlHours),
+                            metadataOffline || (session != null && session.isOffline()))
+                    : null;
             RepositoryHealthChecker healthChecker = new RepositoryHealthChecker(
                     repositoryHealthTimeoutMs,
-                    githubToken
+                    httpClient,
+                    github,
+                    healthCache,
+                    repositoryHealthConcurrency
             );
 
             int healthyCount = 0;
             int warningCount = 0;
             int dangerCount = 0;
 
+            List<Gav> coordinates = new ArrayList<>();
             for (AnalyzedDependency dep : dependencies) {
-                try {
-                    RepositoryHealth health = healthChecker.checkHealth(
-                            dep.getGroupId(),
-                            dep.getArtifactId(),
-                            dep.getVersion()
-                    );
-
-                    if (health != null) {
-                        dep.setRepositoryHealth(health);
-
-                        // Log warnings and dangers
-                        if (health.getLevel() == RepositoryHealth.HealthLevel.DANGER) {
-                            dangerCount++;
-                            getLog().warn(String.format("⚠️  DANGER: %s:%s - %s",
-                                    dep.getGroupId(),
-                                    dep.getArtifactId(),
-                                    health.getConcerns() != null ? String.join(", ", health.getConcerns()) : "Unknown issues"));
-                        } else if (health.getLevel() == RepositoryHealth.HealthLevel.WARNING) {
-                            warningCount++;
-                            getLog().warn(String.format("⚠️  WARNING: %s:%s - %s",
-                                    dep.getGroupId(),
-                                    dep.getArtifactId(),
-                                    health.getConcerns() != null ? String.join(", ", health.getConcerns()) : "Some concerns"));
-                        } else if (health.getLevel() == RepositoryHealth.HealthLevel.HEALTHY) {
-                            healthyCount++;
-                        }
+                coordinates.add(new Gav(dep.getGroupId(), dep.getArtifactId(), dep.getVersion()));
+            }
+            // Maven Central concurrently once per G:A, then all GitHub repositories in batches
+            Map<Gav, RepositoryHealth> healthByGav = healthChecker.checkHealthAll(coordinates);
+
+            for (AnalyzedDependency dep : dependencies) {
+                RepositoryHealth health = healthByGav.get(new Gav(dep.getGroupId(), dep.getArtifactId(), dep.getVersion()));
+
+                if (health != null) {
+                    dep.setRepositoryHealth(health);
+
+                    // Log warnings and dangers
+                    if (health.getLevel() == RepositoryHealth.HealthLevel.DANGER) {
+                        dangerCount++;
+                        getLog().warn(String.format("⚠️  DANGER: %s:%s - %s",
+                                dep.getGroupId(),
+                                dep.getArtifactId(),
+                                health.getConcerns() != null ? String.join(", ", health.getConcerns()) : "Unknown issues"));
+                    } else if (health.getLevel() == RepositoryHealth.HealthLevel.WARNING) {
+                        warningCount++;
+                        getLog().warn(String.format("⚠️  WARNING: %s:%s - %s",
+                                dep.getGroupId(),
+                                dep.getArtifactId(),
+                                health.getConcerns() != null ? String.join(", ", health.getConcerns()) : "Some concerns"));
+                    } else if (health.getLevel() == RepositoryHealth.HealthLevel.HEALTHY) {
+                        healthyCount++;
                     }
-                } catch (Exception e) {
-                    getLog().debug("Failed to check repository health for " + dep.getGroupId() + ":" +
-                                   dep.getArtifactId() + ": " + e.getMessage());
                 }
             }
 
@@ -599,9 +705,7 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
     private List<io.github.tourem.maven.descriptor.model.analysis.VersionConflict> detectVersionConflicts() {
         List<io.github.tourem.maven.descriptor.model.analysis.VersionConflict> out = new ArrayList<>();
         try {
-            DefaultProjectBuildingRequest req = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest());
-            req.setProject(project);
-            DependencyNode root = dependencyGraphBuilder.buildDependencyGraph(req, null);
+            DependencyNode root = DependencyGraphCache.forSession(session).graph(dependencyGraphBuilder, project);
             java.util.Map<String, java.util.Set<String>> versionsByGa = new java.util.HashMap<>();
             collectVersions(root, versionsByGa);
             java.util.Map<String, String> selectedByGa = new java.util.HashMap<>();
@@ -640,15 +744,14 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
     }
 
     private io.github.tourem.maven.descriptor.model.analysis.VersionConflict.RiskLevel riskLevel(java.util.Set<String> versions) {
-        String major = null; String minor = null;
+        MavenVersion first = null;
         boolean diffMajor = false; boolean diffMinor = false;
         for (String v : versions) {
-            String[] parts = v.split("\\.");
-            String m = parts.length>0?parts[0]:v; String n = parts.length>1?parts[1]:"0";
-            if (major==null) { major=m; minor=n; }
+            MavenVersion parsed = MavenVersion.parse(v);
+            if (first==null) { first=parsed; }
             else {
-                if (!m.equals(major)) diffMajor = true;
-                if (!n.equals(minor)) diffMinor = true;
+                if (parsed.major() != first.major()) diffMajor = true;
+                if (parsed.minor() != first.minor()) diffMinor = true;
             }
         }
         if (diffMajor) return io.github.tourem.maven.descriptor.model.analysis.VersionConflict.RiskLevel.HIGH;
@@ -1276,7 +1379,7 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
 
             // Use PluginCollector to collect plugin information
             io.github.tourem.maven.descriptor.service.PluginCollector pluginCollector =
-                new io.github.tourem.maven.descriptor.service.PluginCollector();
+                new io.github.tourem.maven.descriptor.service.PluginCollector(httpClient);
 
             io.github.tourem.maven.descriptor.model.PluginOptions options =
                 io.github.tourem.maven.descriptor.model.PluginOptions.builder()
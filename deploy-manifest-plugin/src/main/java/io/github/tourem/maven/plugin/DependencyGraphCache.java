@@ -0,0 +1,79 @@
+package io.github.tourem.maven.plugin;
+
+import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilderException;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.eclipse.aether.RepositorySystemSession;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolved dependency graphs of one Maven session, shared by all goals and analysis steps.
+ *
+ * Resolving a graph walks the whole transitive tree, so each module's graph is built once per session and filter,
+ * then served from memory. Graphs are stored in the repository session data, so they live exactly as long as the
+ * build. Callers must treat the returned nodes as read-only.
+ * @author tourem
+ */
+final class DependencyGraphCache {
+
+    private static final String SESSION_KEY = DependencyGraphCache.class.getName();
+
+    private final MavenSession session;
+    private final Map<String, DependencyNode> graphs;
+
+    private DependencyGraphCache(MavenSession session, Map<String, DependencyNode> graphs) {
+        this.session = session;
+        this.graphs = graphs;
+    }
+
+    /**
+     * Graph cache of the session; without repository session data (tests, embedded use) graphs are built on every call.
+     */
+    @SuppressWarnings("unchecked")
+    static DependencyGraphCache forSession(MavenSession session) {
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        if (repositorySession == null || repositorySession.getData() == null) {
+            return new DependencyGraphCache(session, null);
+        }
+        Map<String, DependencyNode> graphs = (Map<String, DependencyNode>) repositorySession.getData()
+                .computeIfAbsent(SESSION_KEY, ConcurrentHashMap::new);
+        return new DependencyGraphCache(session, graphs);
+    }
+
+    /**
+     * Unfiltered dependency graph of the project.
+     */
+    DependencyNode graph(DependencyGraphBuilder builder, MavenProject project) throws DependencyGraphBuilderException {
+        return graph(builder, project, null, "");
+    }
+
+    /**
+     * Dependency graph of the project restricted by {@code filter}.
+     *
+     * @param filterKey identifies the filter in the cache key: equal keys must denote equivalent filters
+     */
+    DependencyNode graph(DependencyGraphBuilder builder, MavenProject project, ArtifactFilter filter, String filterKey)
+            throws DependencyGraphBuilderException {
+        String key = project.getId() + "@" + project.getFile() + "#" + filterKey;
+        DependencyNode cached = graphs != null ? graphs.get(key) : null;
+        if (cached != null) {
+            return cached;
+        }
+        ProjectBuildingRequest request = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest());
+        request.setProject(project);
+        DependencyNode root = builder.buildDependencyGraph(request, filter);
+        if (graphs != null && root != null) {
+            // Concurrent builders of the same graph keep the first one published
+            DependencyNode previous = graphs.putIfAbsent(key, root);
+            return previous != null ? previous : root;
+        }
+        return root;
+    }
+}
@@ -71,8 +71,57 @@ public class GenerateDependencyReportMojo extends AbstractMojo {
     @Parameter(property = "dependency.report.versionLookupTimeoutMs", defaultValue = "5000")
     private int versionLookupTimeoutMs;
 
+    @Parameter(property = "dependency.report.versionLookupConcurrency", defaultValue = "16")
+    private int versionLookupConcurrency;
+
+    @Parameter(property = "dependency.report.versionLookupDeadlineMs", defaultValue = "30000")
+    private long versionLookupDeadlineMs;
+
+    @Parameter(property = "dependency.report.repositoryHedgeDelayMs", defaultValue = "-1")
+    private long repositoryHedgeDelayMs;
+
+    @Parameter(property = "dependency.report.repositoryFailureThreshold", defaultValue = "3")
+    private int repositoryFailureThreshold;
+
+    @Parameter(property = "dependency.report.repositoryRetryAfterMs", defaultValue = "30000")
+    private long repositoryRetryAfterMs;
+
+    @Parameter(property = "dependency.report.httpMaxConcurrency", defaultValue = "16")
+    private int httpMaxConcurrency;
+
+    @Parameter(property = "dependency.report.httpMaxConnectionsPerHost", defaultValue = "6")
+    private int httpMaxConnectionsPerHost;
+
+    @Parameter(property = "dependency.report.metadataCache", defaultValue = "true")
+    private boolean metadataCache;
+
+    @Parameter(property = "dependency.report.metadataCacheDirectory")
+    private String metadataCacheDirectory;
+
+    @Parameter(property = "dependency.report.metadataCacheTtlMinutes", defaultValue = "60")
+    private long metadataCacheTtlMinutes;
+
+    @Parameter(property = "dependency.report.metadataOffline", defaultValue = "false")
+    private boolean metadataOffline;
+
+    @Parameter(property = "dependency.report.metadataCacheNegativeTtlMinutes", defaultValue = "0")
+    private long metadataCacheNegativeTtlMinutes;
+
+    /** HTTP client of the current execution (null outside execute: services then use the shared client). */
+    private io.github.tourem.maven.descriptor.service.MetadataHttpClient httpClient;
+
     @Override
     public void execute() throws MojoExecutionException {
+        io.github.tourem.maven.descriptor.service.MavenMetadataCache cache = metadataCache
+                ? io.github.tourem.maven.descriptor.service.MavenMetadataCache.open(metadataCacheDirectory,
+                        java.time.Duration.ofMinutes(metadataCacheTtlMinutes),
+                        java.time.Duration.ofMinutes(metadataCacheNegativeTtlMinutes),
+                        metadataOffline || (session != null && session.isOffline()))
+                : null;
+        httpClient = new io.github.tourem.maven.descriptor.service.MetadataHttpClient(
+                httpMaxConcurrency, httpMaxConnectionsPerHost, versionLookupTimeoutMs, cache,
+                new io.github.tourem.maven.descriptor.service.RepositoryStats(
+                        repositoryFailureThreshold, repositoryRetryAfterMs));
         try {
             DependencyReport.DependencyReportBuilder builder = DependencyReport.builder()
                     .timestamp(Instant.now())
@@ -114,6 +163,10 @@ public class GenerateDependencyReportMojo extends AbstractMojo {
             getLog().info("Dependency report generated: " + getOutputPath("json"));
         } catch (Exception e) {
             throw new MojoExecutionException("Failed to generate dependency report", e);
+        } finally {
+            getLog().debug(httpClient.summary());
+            httpClient.close();
+            httpClient = null;
         }
     }
 
@@ -178,24 +231,35 @@ public class GenerateDependencyReportMojo extends AbstractMojo {
             io.github.tourem.maven.descriptor.service.DependencyVersionLookup versionLookup =
                 new io.github.tourem.maven.descriptor.service.DependencyVersionLookup(
                     project.getModel(),
-                    versionLookupTimeoutMs
+                    versionLookupTimeoutMs,
+                    httpClient,
+                    repositoryHedgeDelayMs
                 );
 
-            // Enrich unused dependencies
+            // Collect unused + undeclared dependencies still lacking versions, then look them up in one batch
+            List<io.github.tourem.maven.descriptor.model.analysis.AnalyzedDependency> pending = new ArrayList<>();
             if (result.getRawResults().getUnused() != null) {
-                for (io.github.tourem.maven.descriptor.model.analysis.AnalyzedDependency dep : result.getRawResults().getUnused()) {
-                    if (dep.getAvailableVersions() == null || dep.getAvailableVersions().isEmpty()) {
-                        enrichDependencyWithVersions(dep, versionLookup);
-                    }
-                }
+                pending.addAll(result.getRawResults().getUnused());
             }
-
-            // Enrich undeclared dependencies
             if (result.getRawResults().getUndeclared() != null) {
-                for (io.github.tourem.maven.descriptor.model.analysis.AnalyzedDependency dep : result.getRawResults().getUndeclared()) {
-                    if (dep.getAvailableVersions() == null || dep.getAvailableVersions().isEmpty()) {
-                        enrichDependencyWithVersions(dep, versionLookup);
-                    }
+                pending.addAll(result.getRawResults().getUndeclared());
+            }
+            pending.removeIf(dep -> dep.getAvailableVersions() != null && !dep.getAvailableVersions().isEmpty());
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            List<io.github.tourem.maven.descriptor.model.Gav> coordinates = new ArrayList<>(pending.size());
+            for (io.github.tourem.maven.descriptor.model.analysis.AnalyzedDependency dep : pending) {
+                coordinates.add(gavOf(dep));
+            }
+            java.util.Map<io.github.tourem.maven.descriptor.model.Gav, List<String>> found = versionLookup.lookupAll(
+                    coordinates, maxAvailableVersions, versionLookupConcurrency, versionLookupDeadlineMs).join();
+
+            for (io.github.tourem.maven.descriptor.model.analysis.AnalyzedDependency dep : pending) {
+                List<String> availableVersions = found.get(gavOf(dep));
+                if (availableVersions != null && !availableVersions.isEmpty()) {
+                    dep.setAvailableVersions(availableVersions);
                 }
             }
         } catch (Exception e) {
@@ -203,24 +267,9 @@ public class GenerateDependencyReportMojo extends AbstractMojo {
         }
     }
 
-    private void enrichDependencyWithVersions(
-            io.github.tourem.maven.descriptor.model.analysis.AnalyzedDependency dep,
-            io.github.tourem.maven.descriptor.service.DependencyVersionLookup versionLookup) {
-        try {
-            List<String> availableVersions = versionLookup.lookupAvailableVersions(
-                dep.getGroupId(),
-                dep.getArtifactId(),
-                dep.getVersion(),
-                maxAvailableVersions
-            );
-
-            if (availableVersions != null && !availableVersions.isEmpty()) {
-                dep.setAvailableVersions(availableVersions);
-            }
-        } catch (Exception e) {
-            getLog().debug("Failed to lookup versions for " + dep.getGroupId() + ":" +
-                          dep.getArtifactId() + ": " + e.getMessage());
-        }
+    private static io.github.tourem.maven.descriptor.model.Gav gavOf(
+            io.github.tourem.maven.descriptor.model.analysis.AnalyzedDependency dep) {
+        return new io.github.tourem.maven.descriptor.model.Gav(dep.getGroupId(), dep.getArtifactId(), dep.getVersion());
     }
 
 
@@ -839,20 +888,14 @@ public class GenerateDependencyReportMojo extends AbstractMojo {
         if (currentVersion == null || latestVersion == null) return false;
         if (currentVersion.equals(latestVersion)) return false;
 
-        try {
-            // Extract major version numbers
-            String currentMajor = currentVersion.split("[.-]")[0];
-            String latestMajor = latestVersion.split("[.-]")[0];
+        long current = io.github.tourem.maven.descriptor.model.MavenVersion.parse(currentVersion).major();
+        long latest = io.github.tourem.maven.descriptor.model.MavenVersion.parse(latestVersion).major();
 
-            int current = Integer.parseInt(currentMajor);
-            int latest = Integer.parseInt(latestMajor);
+        // If we can't parse versions, assume it's not critical
+        if (current < 0 || latest < 0) return false;
 
-            // Consider it critical if major version differs by 1 or more
-            return (latest - current) >= 1;
-        } catch (Exception e) {
-            // If we can't parse versions, assume it's not critical
-            return false;
-        }
+        // Consider it critical if major version differs by 1 or more
+        return (latest - current) >= 1;
     }
 
     private void writeHtmlPluginsTab(StringBuilder html, DependencyReport report) {
@@ -5,7 +5,11 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import io.github.tourem.maven.descriptor.service.DaemonThreadFactory;
+import io.github.tourem.maven.descriptor.service.MavenMetadataCache;
 import io.github.tourem.maven.descriptor.service.MavenProjectAnalyzer;
+import io.github.tourem.maven.descriptor.service.MetadataHttpClient;
+import io.github.tourem.maven.descriptor.service.ResolvedVersionIndex;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -20,7 +24,6 @@ import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
-import org.apache.maven.shared.dependency.graph.DependencyGraphBuilderException;
 import org.apache.maven.artifact.Artifact;
 
 import java.io.*;
@@ -30,7 +33,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -43,6 +50,7 @@ import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.FileEntity;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 
 /**
@@ -314,6 +322,30 @@ public class GenerateDescriptorMojo extends AbstractMojo {
     @Parameter(property = "descriptor.includeTransitiveLicenses", defaultValue = "true")
     private boolean includeTransitiveLicenses;
 
+    /** Persist licenses of released artifacts across builds (SNAPSHOTs are never cached). */
+    @Parameter(property = "descriptor.licenseCache", defaultValue = "true")
+    private boolean licenseCache;
+
+    /** Directory of the persistent license cache (default: ~/.m2/deploy-manifest). */
+    @Parameter(property = "descriptor.licenseCacheDirectory")
+    private String licenseCacheDirectory;
+
+    /** Resolve transitive licenses breadth-first on a worker pool (sequential depth-first walk by default). */
+    @Parameter(property = "descriptor.parallelLicenseResolution", defaultValue = "false")
+    private boolean parallelLicenseResolution;
+
+    /** Worker threads for parallel license resolution (0 = available processors). */
+    @Parameter(property = "descriptor.licenseResolutionThreads", defaultValue = "0")
+    private int licenseResolutionThreads;
+
+    /** Threads resolving reactor module dependency graphs before license collection (0 = available processors). */
+    @Parameter(property = "descriptor.licensePreResolveThreads", defaultValue = "1")
+    private int licensePreResolveThreads;
+
+    /** Seconds license collection waits for the pre-resolution of a module before reading versions from its POMs. */
+    @Parameter(property = "descriptor.licensePreResolveTimeout", defaultValue = "300")
+    private long licensePreResolveTimeout;
+
     // =============================
     // Properties Feature Options
     // =============================
@@ -370,6 +402,61 @@ public class GenerateDescriptorMojo extends AbstractMojo {
     @Parameter(property = "descriptor.pluginUpdateTimeoutMillis", defaultValue = "2000")
     private int pluginUpdateTimeoutMillis;
 
+    /** Max concurrent HTTP requests of plugin update checks. */
+    @Parameter(property = "descriptor.httpMaxConcurrency", defaultValue = "16")
+    private int httpMaxConcurrency;
+
+    /** Max concurrent HTTP requests per repository host. */
+    @Parameter(property = "descriptor.httpMaxConnectionsPerHost", defaultValue = "6")
+    private int httpMaxConnectionsPerHost;
+
+    /** Persistent maven-metadata.xml cache used by plugin update checks. */
+    @Parameter(property = "descriptor.metadataCache", defaultValue = "true")
+    private boolean metadataCache;
+
+    /** Cache directory (default: ~/.m2/deploy-manifest/metadata). */
+    @Parameter(property = "descriptor.metadataCacheDirectory")
+    private String metadataCacheDirectory;
+
+    /** Age under which cached metadata is used without revalidation. */
+    @Parameter(property = "descriptor.metadataCacheTtlMinutes", defaultValue = "60")
+    private long metadataCacheTtlMinutes;
+
+    /** Serve metadata from the cache only (also enabled by Maven offline mode). */
+    @Parameter(property = "descriptor.metadataOffline", defaultValue = "false")
+    private boolean metadataOffline;
+
+    /** How long a 404 for an artifact is remembered on disk (0 = within the build only). */
+    @Parameter(property = "descriptor.metadataCacheNegativeTtlMinutes", defaultValue = "0")
+    private long metadataCacheNegativeTtlMinutes;
+
+    // =============================
+    // Reactor Analysis Options
+    // =============================
+
+    /** Analyze reactor modules concurrently (disabled by default). */
+    @Parameter(property = "descriptor.parallelAnalysis", defaultValue = "false")
+    private boolean parallelAnalysis;
+
+    /** Worker threads for parallel analysis: 0 = available processors. */
+    @Parameter(property = "descriptor.analysisThreads", defaultValue = "0")
+    private int analysisThreads;
+
+    /**
+     * Reuse the previous analysis of modules whose POMs, configuration files and Dockerfile did not change.
+     * The state is kept next to the descriptor (e.g. descriptor.state.json), so {@code clean} forces a full analysis.
+     */
+    @Parameter(property = "descriptor.incremental", defaultValue = "false")
+    private boolean incremental;
+
+    /**
+     * Write the JSON descriptor module by module while the project is analyzed, instead of serializing it once
+     * complete, so memory stays bounded by one module. Only used for JSON-only output without summary or HTML,
+     * which need the whole descriptor.
+     */
+    @Parameter(property = "descriptor.streamingOutput", defaultValue = "false")
+    private boolean streamingOutput;
+
 
 
     @Override
@@ -421,6 +508,11 @@ public class GenerateDescriptorMojo extends AbstractMojo {
                 .licenseWarnings(licenseWarnings)
                 .includeTransitiveLicenses(includeTransitiveLicenses)
                 .incompatibleLicenses(licIncompatSet)
+                .cache(licenseCache)
+                .cacheDirectory(licenseCacheDirectory)
+                .parallelResolution(parallelLicenseResolution)
+                .resolutionThreads(licenseResolutionThreads)
+                .preResolveTimeoutSeconds(licensePreResolveTimeout)
                 .build();
 
             // Build property options for core analyzer
@@ -448,6 +540,15 @@ public class GenerateDescriptorMojo extends AbstractMojo {
                     .filterSensitivePluginConfig(filterSensitivePluginConfig)
                     .updateCheckTimeoutMillis(pluginUpdateTimeoutMillis)
                     .build();
+
+            // Reactor analysis options
+            io.github.tourem.maven.descriptor.model.AnalysisOptions analysisOpts = io.github.tourem.maven.descriptor.model.AnalysisOptions.builder()
+                    .parallel(parallelAnalysis)
+                    .threads(analysisThreads)
+                    .incrementalStateFile(incremental
+                            ? changeExtension(resolveOutputPath(), ".state.json").toString()
+                            : null)
+                    .build();
             // Ensure core uses the exact local repository Maven is using
             try {
                 if (session != null && session.getLocalRepository() != null
@@ -460,27 +561,67 @@ public class GenerateDescriptorMojo extends AbstractMojo {
             }
 
 
-            // Pre-resolve dependencies to ensure POMs are present for license collection
+            // Pre-resolve dependencies to ensure POMs are present for license collection (overlaps with the analysis)
+            ResolvedVersionIndex resolvedVersions = new ResolvedVersionIndex();
+            ExecutorService preResolver = null;
             if (includeLicenses) {
                 try {
-                    preResolveDependenciesForLicensesInSession();
+                    preResolver = preResolveDependenciesForLicensesInSession(resolvedVersions);
                 } catch (Exception e) {
                     getLog().debug("Pre-resolving dependencies for license collection failed: " + e.getMessage(), e);
                 }
             }
 
 
-            MavenProjectAnalyzer analyzer = new MavenProjectAnalyzer(dtOptionsBuilder.build(), licOpts, propOpts, pluginOpts);
-            ProjectDescriptor descriptor = analyzer.analyzeProject(projectDir.toPath());
-
-            // Optionally enrich BuildInfo with properties, profiles, goals and Maven runtime
-            if (includeProperties) {
-                descriptor = enrichBuildInfoWithProperties(descriptor);
+            var dtOptions = dtOptionsBuilder.build();
+            boolean enrichTrees = dtOptions.isInclude() && !excludeTransitive;
+            String normalizedExportFormat = exportFormat.trim().toLowerCase();
+            ObjectMapper jsonMapper = createJsonMapper();
+
+            StreamingDescriptorWriter streamWriter = null;
+            if (isStreamingOutput(normalizedExportFormat)) {
+                Path streamPath = resolveOutputPath();
+                Files.createDirectories(streamPath.getParent());
+                streamWriter = new StreamingDescriptorWriter(jsonMapper, streamPath,
+                        enrichTrees ? module -> enrichDependencyTree(module, dtOptions) : null);
             }
+            ProjectDescriptor descriptor;
+            try {
+                // Plugin update checks of this run go through the persistent metadata cache
+                MetadataHttpClient pluginHttp = includePlugins && checkPluginUpdates ? createMetadataHttpClient() : null;
+                try {
+                    MavenProjectAnalyzer analyzer = new MavenProjectAnalyzer(dtOptionsBuilder.build(), licOpts, propOpts,
+                            pluginOpts, analysisOpts, resolvedVersions, pluginHttp);
+                    descriptor = streamWriter != null
+                            ? analyzer.analyzeProject(projectDir.toPath(), streamWriter)
+                            : analyzer.analyzeProject(projectDir.toPath());
+                } finally {
+                    if (preResolver != null) {
+                        stopPreResolution(preResolver);
+                    }
+                    if (pluginHttp != null) {
+                        getLog().debug(pluginHttp.summary());
+                        pluginHttp.close();
+                    }
+                }
+
+                // Optionally enrich BuildInfo with properties, profiles, goals and Maven runtime
+                if (includeProperties) {
+                    descriptor = enrichBuildInfoWithProperties(descriptor);
+                }
 
-            // Validate descriptor if requested
-            if (validate) {
-                validateDescriptor(descriptor);
+                // Validate descriptor if requested
+                if (validate) {
+                    validateDescriptor(descriptor);
+                }
+                if (streamWriter != null) {
+                    streamWriter.finish(descriptor);
+                }
+            } finally {
+                // No-op once finished; otherwise releases the stream and deletes the partial file
+                if (streamWriter != null) {
+                    streamWriter.close();
+                }
             }
 
             // If summary mode, print dashboard and exit
@@ -496,11 +637,8 @@ public class GenerateDescriptorMojo extends AbstractMojo {
             // Create output directory if needed
             Files.createDirectories(outputPath.getParent());
 
-            // Configure ObjectMapper
-            ObjectMapper jsonMapper = new ObjectMapper();
-            // Enrich dependencies with resolved transitive tree for HTML if enabled
-            var dtOptions = dtOptionsBuilder.build();
-            if (dtOptions.isInclude() && !excludeTransitive) {
+            // Enrich dependencies with resolved transitive tree for HTML if enabled (already done per module when streaming)
+            if (enrichTrees && streamWriter == null) {
                 try {
                     enrichDependencyTrees(descriptor, dtOptions);
                 } catch (Exception e) {
@@ -509,21 +647,16 @@ public class GenerateDescriptorMojo extends AbstractMojo {
                 }
             }
 
-            jsonMapper.findAndRegisterModules();
-            jsonMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-            if (prettyPrint) {
-                jsonMapper.enable(SerializationFeature.INDENT_OUTPUT);
-            }
-
             // Export based on format
-            String normalizedExportFormat = exportFormat.trim().toLowerCase();
             Path jsonOutputPath = null;
             Path yamlOutputPath = null;
 
             switch (normalizedExportFormat) {
                 case "json":
                     jsonOutputPath = outputPath;
-                    jsonMapper.writeValue(jsonOutputPath.toFile(), descriptor);
+                    if (streamWriter == null) {
+                        jsonMapper.writeValue(jsonOutputPath.toFile(), descriptor);
+                    }
                     getLog().info("✓ Descriptor JSON generated successfully");
                     break;
 
@@ -617,6 +750,34 @@ public class GenerateDescriptorMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Mapper used for the JSON descriptor.
+     */
+    private ObjectMapper createJsonMapper() {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        jsonMapper.findAndRegisterModules();
+        jsonMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (prettyPrint) {
+            jsonMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        }
+        return jsonMapper;
+    }
+
+    /**
+     * Whether the JSON descriptor is written while the project is analyzed; outputs that need the whole
+     * descriptor in memory fall back to the regular path.
+     */
+    private boolean isStreamingOutput(String normalizedExportFormat) {
+        if (!streamingOutput) {
+            return false;
+        }
+        if (!"json".equals(normalizedExportFormat) || summary || generateHtml) {
+            getLog().warn("Streaming output only applies to JSON-only export without summary or HTML; writing the descriptor in one pass");
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Resolves the output path based on configuration.
      *
@@ -950,13 +1111,17 @@ public class GenerateDescriptorMojo extends AbstractMojo {
                 httpPost.setHeader("Authorization", "Bearer " + webhookToken);
             }
 
-            // Create payload
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.findAndRegisterModules();
-            mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            // Create payload: stream the JSON descriptor already on disk rather than serializing it again
+            if (filePath != null && filePath.getFileName().toString().endsWith(".json")) {
+                httpPost.setEntity(new FileEntity(filePath.toFile(), ContentType.APPLICATION_JSON));
+            } else {
+                ObjectMapper mapper = new ObjectMapper();
+                mapper.findAndRegisterModules();
+                mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
-            String jsonPayload = mapper.writeValueAsString(descriptor);
-            httpPost.setEntity(new StringEntity(jsonPayload, ContentType.APPLICATION_JSON));
+                String jsonPayload = mapper.writeValueAsString(descriptor);
+                httpPost.setEntity(new StringEntity(jsonPayload, ContentType.APPLICATION_JSON));
+            }
 
             // Execute request
             try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
@@ -2547,11 +2712,21 @@ d af f CSV</button>\\n");
      * and populate the descriptor's tree view (keeping existing flat view if present).
      */
     private void enrichDependencyTrees(ProjectDescriptor descriptor,
-                                       io.github.tourem.maven.descriptor.model.DependencyTreeOptions options)
-            throws DependencyGraphBuilderException {
+                                       io.github.tourem.maven.descriptor.model.DependencyTreeOptions options) {
         if (descriptor == null || descriptor.deployableModules() == null || descriptor.deployableModules().isEmpty()) {
             return;
         }
+        for (io.github.tourem.maven.descriptor.model.DeployableModule module : descriptor.deployableModules()) {
+            enrichDependencyTree(module, options);
+        }
+    }
+
+    /**
+     * Build the transitive dependency tree of one module and populate its tree view
+     * (keeping existing flat view if present). Failures are logged and leave the module unchanged.
+     */
+    private void enrichDependencyTree(io.github.tourem.maven.descriptor.model.DeployableModule module,
+                                      io.github.tourem.maven.descriptor.model.DependencyTreeOptions options) {
         if (session == null || dependencyGraphBuilder == null) {
             getLog().debug("Dependency graph services not available; skipping tree enrichment");
             return;
@@ -2563,70 +2738,67 @@ d af f CSV</button>\\n");
                 : new HashSet<>(options.getScopes().stream().map(String::toLowerCase).toList());
         final boolean includeOptionalDeps = options.isIncludeOptional();
         final int depthLimit = options.getDepth(); // -1 unlimited; 0 direct only; N max depth
+        final DependencyGraphCache graphs = DependencyGraphCache.forSession(session);
 
-        for (io.github.tourem.maven.descriptor.model.DeployableModule module : descriptor.deployableModules()) {
-            try {
-                // Find the MavenProject for this module in the session or build from its pom.xml
-                MavenProject moduleProject = findModuleProject(module);
-                if (moduleProject == null) {
-                    getLog().debug("Module project not found for " + module.getArtifactId() + "; skipping tree");
-                    continue;
-                }
+        try {
+            // Find the MavenProject for this module in the session or build from its pom.xml
+            MavenProject moduleProject = findModuleProject(module);
+            if (moduleProject == null) {
+                getLog().debug("Module project not found for " + module.getArtifactId() + "; skipping tree");
+                return;
+            }
 
-                ProjectBuildingRequest req = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest());
-                req.setProject(moduleProject);
-                org.apache.maven.shared.dependency.graph.DependencyNode root =
-                        dependencyGraphBuilder.buildDependencyGraph(req, null);
-                if (root == null || root.getChildren() == null) {
-                    continue;
-                }
+            org.apache.maven.shared.dependency.graph.DependencyNode root =
+                    graphs.graph(dependencyGraphBuilder, moduleProject);
+            if (root == null || root.getChildren() == null) {
+                return;
+            }
 
-                // Convert to our model (top-level children of root are direct deps)
-                List<io.github.tourem.maven.descriptor.model.DependencyNode> topNodes = new ArrayList<>();
-                for (org.apache.maven.shared.dependency.graph.DependencyNode child : root.getChildren()) {
-                    io.github.tourem.maven.descriptor.model.DependencyNode converted =
-                            convertNode(child, allowedScopes, includeOptionalDeps, depthLimit, 1, new HashSet<>());
-                    if (converted != null) {
-                        topNodes.add(converted);
-                    }
+            // Convert to our model (top-level children of root are direct deps)
+            List<io.github.tourem.maven.descriptor.model.DependencyNode> topNodes = new ArrayList<>();
+            for (org.apache.maven.shared.dependency.graph.DependencyNode child : root.getChildren()) {
+                io.github.tourem.maven.descriptor.model.DependencyNode converted =
+                        convertNode(child, allowedScopes, includeOptionalDeps, depthLimit, 1, new HashSet<>());
+                if (converted != null) {
+                    topNodes.add(converted);
                 }
+            }
 
-                // Compute summary counters from built tree
-                int direct = topNodes.size();
-                SummaryCounters counters = new SummaryCounters();
-                for (io.github.tourem.maven.descriptor.model.DependencyNode n : topNodes) {
-                    accumulateCounters(n, counters);
-                }
-                int total = counters.total;
-                int transitive = Math.max(0, total - direct);
-
-                io.github.tourem.maven.descriptor.model.DependencySummary summary =
-                        io.github.tourem.maven.descriptor.model.DependencySummary.builder()
-                                .total(total)
-                                .direct(direct)
-                                .transitive(transitive)
-                                .optional(counters.optional)
-                                .scopes(counters.scopes)
-                                .build();
-
-                // Preserve existing flat entries if any
-                List<io.github.tourem.maven.descriptor.model.DependencyFlatEntry> flat = null;
-                if (module.getDependencies() != null) {
-                    flat = module.getDependencies().getFlat();
-                }
+            // Compute summary counters from built tree
+            int direct = topNodes.size();
+            SummaryCounters counters = new SummaryCounters();
+            for (io.github.tourem.maven.descriptor.model.DependencyNode n : topNodes) {
+                accumulateCounters(n, counters);
+            }
+            int total = counters.total;
+            int transitive = Math.max(0, total - direct);
+
+            io.github.tourem.maven.descriptor.model.DependencySummary summary =
+                    io.github.tourem.maven.descriptor.model.DependencySummary.builder()
+                            .total(total)
+                            .direct(direct)
+                            .transitive(transitive)
+                            .optional(counters.optional)
+                            .scopes(counters.scopes)
+                            .build();
+
+            // Preserve existing flat entries if any
+            List<io.github.tourem.maven.descriptor.model.DependencyFlatEntry> flat = null;
+            if (module.getDependencies() != null) {
+                flat = module.getDependencies().getFlat();
+            }
 
-                io.github.tourem.maven.descriptor.model.DependencyTreeInfo info =
-                        io.github.tourem.maven.descriptor.model.DependencyTreeInfo.builder()
-                                .summary(summary)
-                                .flat(flat)
-                                .tree(topNodes)
-                                .build();
+            io.github.tourem.maven.descriptor.model.DependencyTreeInfo info =
+                    io.github.tourem.maven.descriptor.model.DependencyTreeInfo.builder()
+                            .summary(summary)
+                            .flat(flat)
+                            .tree(topNodes)
+                            .build();
 
-                module.setDependencies(info);
+            module.setDependencies(info);
 
-            } catch (Exception ex) {
-                getLog().debug("Failed to enrich dependency tree for module " + module.getArtifactId() + ": " + ex.getMessage(), ex);
-            }
+        } catch (Exception ex) {
+            getLog().debug("Failed to enrich dependency tree for module " + module.getArtifactId() + ": " + ex.getMessage(), ex);
         }
     }
 
@@ -2657,52 +2829,106 @@ d af f CSV</button>\\n");
      * Pre-resolve dependencies for all reactor modules so that required POMs are available
      * in the local repository before license collection runs. This prevents "unknown" licenses
      * and null versions when the build is invoked directly on this goal without a prior resolve.
+     * The version selected for each G:A is recorded per module in {@code resolvedVersions}.
+     *
+     * Modules are resolved on a pool of {@code licensePreResolveThreads} daemon threads, in reactor order, while the
+     * analysis runs: license collection of a module waits only for that module (see {@link ResolvedVersionIndex}).
+     *
+     * @return the pool running the resolution (shut down by the caller), or null when nothing is resolved
      */
-    private void preResolveDependenciesForLicensesInSession() {
+    private ExecutorService preResolveDependenciesForLicensesInSession(ResolvedVersionIndex resolvedVersions) {
         if (session == null || dependencyGraphBuilder == null) {
-            return;
+            return null;
         }
         if (session.getAllProjects() == null || session.getAllProjects().isEmpty()) {
-            return;
+            return null;
         }
-        getLog().debug("Pre-resolving dependencies for license collection across reactor modules");
+        List<MavenProject> projects = new ArrayList<>();
         for (MavenProject p : session.getAllProjects()) {
-            try {
-                ProjectBuildingRequest req = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest());
-                req.setProject(p);
-                org.apache.maven.shared.dependency.graph.DependencyNode root =
-                        dependencyGraphBuilder.buildDependencyGraph(req, null);
-
-                // Traverse the resolved graph to publish GA->V mapping so core can resolve versions fast
-                if (root != null) {
-                    java.util.ArrayDeque<org.apache.maven.shared.dependency.graph.DependencyNode> stack = new java.util.ArrayDeque<>();
-                    java.util.HashSet<String> seen = new java.util.HashSet<>();
-                    stack.push(root);
-                    while (!stack.isEmpty()) {
-                        org.apache.maven.shared.dependency.graph.DependencyNode n = stack.pop();
-                        Artifact a = (n != null) ? n.getArtifact() : null;
-                        if (a != null) {
-                            String g = a.getGroupId();
-                            String aId = a.getArtifactId();
-                            String v = a.getVersion();
-                            if (g != null && aId != null && v != null) {
-                                String k = g + ":" + aId;
-                                if (seen.add(k)) {
-                                    System.setProperty("deploy.manifest.resolved.ga." + k, v);
-                                }
-                            }
+            if (p.getBasedir() != null) {
+                projects.add(p);
+                resolvedVersions.expect(p.getBasedir().toPath());
+            }
+        }
+        int threads = licensePreResolveThreads > 0 ? licensePreResolveThreads : Runtime.getRuntime().availableProcessors();
+        getLog().debug("Pre-resolving dependencies for license collection across " + projects.size()
+                + " reactor modules on " + threads + " thread(s)");
+        DependencyGraphCache graphs = DependencyGraphCache.forSession(session);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, projects.size())),
+                new DaemonThreadFactory("deploy-manifest-preresolve"));
+        for (MavenProject p : projects) {
+            executor.execute(() -> {
+                try {
+                    preResolveModule(p, graphs, resolvedVersions);
+                } finally {
+                    resolvedVersions.complete(p.getBasedir().toPath());
+                }
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * HTTP client of this execution, backed by the persistent metadata cache when enabled; closed by the caller.
+     */
+    private MetadataHttpClient createMetadataHttpClient() {
+        MavenMetadataCache cache = metadataCache
+                ? MavenMetadataCache.open(metadataCacheDirectory, Duration.ofMinutes(metadataCacheTtlMinutes),
+                        Duration.ofMinutes(metadataCacheNegativeTtlMinutes),
+                        metadataOffline || (session != null && session.isOffline()))
+                : null;
+        return new MetadataHttpClient(httpMaxConcurrency, httpMaxConnectionsPerHost, pluginUpdateTimeoutMillis, cache);
+    }
+
+    /**
+     * Cancel the modules no analysis waits for anymore and let running resolutions finish, within the pre-resolve
+     * timeout, so that no worker uses the session or the log once the mojo returns.
+     */
+    private void stopPreResolution(ExecutorService preResolver) {
+        List<Runnable> cancelled = preResolver.shutdownNow();
+        if (!cancelled.isEmpty()) {
+            getLog().debug("Cancelled pre-resolution of " + cancelled.size() + " module(s) not awaited by the analysis");
+        }
+        try {
+            if (!preResolver.awaitTermination(Math.max(1, licensePreResolveTimeout), TimeUnit.SECONDS)) {
+                getLog().warn("Dependency pre-resolution did not stop within " + licensePreResolveTimeout + "s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void preResolveModule(MavenProject p, DependencyGraphCache graphs, ResolvedVersionIndex resolvedVersions) {
+        try {
+            org.apache.maven.shared.dependency.graph.DependencyNode root =
+                    graphs.graph(dependencyGraphBuilder, p);
+
+            // Traverse the resolved graph to index GA->V for this module so core can resolve versions fast
+            if (root != null) {
+                java.util.ArrayDeque<org.apache.maven.shared.dependency.graph.DependencyNode> stack = new java.util.ArrayDeque<>();
+                java.util.HashSet<String> seen = new java.util.HashSet<>();
+                stack.push(root);
+                while (!stack.isEmpty()) {
+                    org.apache.maven.shared.dependency.graph.DependencyNode n = stack.pop();
+                    Artifact a = (n != null) ? n.getArtifact() : null;
+                    if (a != null) {
+                        String g = a.getGroupId();
+                        String aId = a.getArtifactId();
+                        String v = a.getVersion();
+                        if (g != null && aId != null && v != null && seen.add(g + ":" + aId)) {
+                            resolvedVersions.put(p.getBasedir().toPath(), g, aId, v);
                         }
-                        if (n != null && n.getChildren() != null) {
-                            for (org.apache.maven.shared.dependency.graph.DependencyNode c : n.getChildren()) {
-                                if (c != null) stack.push(c);
-                            }
+                    }
+                    if (n != null && n.getChildren() != null) {
+                        for (org.apache.maven.shared.dependency.graph.DependencyNode c : n.getChildren()) {
+                            if (c != null) stack.push(c);
                         }
                     }
                 }
-            } catch (Throwable t) {
-                // Best-effort: do not fail plugin execution because of pre-resolution
-                getLog().debug("Skipping pre-resolve for " + p.getGroupId() + ":" + p.getArtifactId() + ": " + t.getMessage());
             }
+        } catch (Throwable t) {
+            // Best-effort: do not fail plugin execution because of pre-resolution
+            getLog().debug("Skipping pre-resolve for " + p.getGroupId() + ":" + p.getArtifactId() + ": " + t.getMessage());
         }
     }
 
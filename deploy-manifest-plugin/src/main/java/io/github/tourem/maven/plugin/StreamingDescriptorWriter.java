@@ -0,0 +1,121 @@
+package io.github.tourem.maven.plugin;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import io.github.tourem.maven.descriptor.service.DescriptorSink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Writes the JSON descriptor while the project is analyzed: each module is serialized as soon as the analyzer
+ * hands it over, then dropped, so memory is bounded by one module instead of the whole reactor.
+ *
+ * The output is the same document {@code ObjectMapper.writeValue} produces for the complete descriptor, with
+ * fields in the same order. It is written to a temporary file that replaces the target on {@link #finish}, so a
+ * failed analysis never leaves a truncated descriptor behind.
+ * @author tourem
+ */
+final class StreamingDescriptorWriter implements DescriptorSink, Closeable {
+
+    private static final String MODULES_FIELD = "deployableModules";
+
+    private final ObjectMapper mapper;
+    private final ObjectWriter writer;
+    private final Path target;
+    private final Path tmp;
+    private final Consumer<DeployableModule> beforeWrite;
+    private final OutputStream out;
+    private final JsonGenerator generator;
+    private boolean finished;
+
+    /**
+     * @param mapper      mapper configured like the one of the in-memory output
+     * @param target      descriptor file
+     * @param beforeWrite last enrichment of each module before it is written (may be null)
+     */
+    StreamingDescriptorWriter(ObjectMapper mapper, Path target, Consumer<DeployableModule> beforeWrite) throws IOException {
+        this.mapper = mapper;
+        this.writer = mapper.writer();
+        this.target = target;
+        this.beforeWrite = beforeWrite;
+        this.tmp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        this.out = Files.newOutputStream(tmp);
+        this.generator = writer.createGenerator(out);
+    }
+
+    @Override
+    public void begin(ProjectDescriptor header) throws IOException {
+        generator.writeStartObject();
+        Iterator<Map.Entry<String, JsonNode>> fields = mapper.valueToTree(header).fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (MODULES_FIELD.equals(field.getKey())) {
+                break;
+            }
+            generator.writeFieldName(field.getKey());
+            writer.writeValue(generator, field.getValue());
+        }
+        generator.writeFieldName(MODULES_FIELD);
+        generator.writeStartArray();
+    }
+
+    @Override
+    public void module(DeployableModule module) throws IOException {
+        if (beforeWrite != null) {
+            beforeWrite.accept(module);
+        }
+        writer.writeValue(generator, module);
+        generator.flush();
+    }
+
+    /**
+     * Write the fields known once the analysis is over (counters, build info) and publish the file.
+     *
+     * @param descriptor the descriptor returned by the analyzer; its module list is ignored
+     */
+    void finish(ProjectDescriptor descriptor) throws IOException {
+        generator.writeEndArray();
+        Iterator<Map.Entry<String, JsonNode>> fields = mapper.valueToTree(descriptor).fields();
+        boolean afterModules = false;
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (afterModules) {
+                generator.writeFieldName(field.getKey());
+                writer.writeValue(generator, field.getValue());
+            }
+            afterModules |= MODULES_FIELD.equals(field.getKey());
+        }
+        generator.writeEndObject();
+        generator.close();
+        out.close();
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        finished = true;
+    }
+
+    /**
+     * Release the file; without a successful {@link #finish} the partial output is deleted.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            try {
+                generator.close();
+                out.close();
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.tourem.maven.plugin;
+
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that dependency graphs are resolved once per session, module and filter.
+ * @author tourem
+ */
+public class DependencyGraphCacheTest {
+
+    private final AtomicInteger builds = new AtomicInteger();
+    private final DependencyGraphBuilder builder = (request, filter) -> {
+        builds.incrementAndGet();
+        MavenProject p = request.getProject();
+        return new DefaultDependencyNode(null, new DefaultArtifact(p.getGroupId(), p.getArtifactId(), p.getVersion(),
+                "compile", "jar", null, new DefaultArtifactHandler("jar")), null, null, null);
+    };
+
+    @Test
+    void shouldBuildEachGraphOncePerSession() throws Exception {
+        MavenSession session = session();
+        MavenProject app = project("app");
+        MavenProject lib = project("lib");
+
+        DependencyNode first = DependencyGraphCache.forSession(session).graph(builder, app);
+        DependencyNode second = DependencyGraphCache.forSession(session).graph(builder, app);
+        DependencyGraphCache.forSession(session).graph(builder, lib);
+        DependencyGraphCache.forSession(session).graph(builder, app, artifact -> true, "all-artifacts");
+
+        assertThat(second).isSameAs(first);
+        assertThat(builds).hasValue(3);
+
+        DependencyGraphCache.forSession(session()).graph(builder, app);
+        assertThat(builds).hasValue(4);
+    }
+
+    @Test
+    void shouldBuildEveryTimeWithoutRepositorySession() throws Exception {
+        @SuppressWarnings("deprecation")
+        MavenSession session = new MavenSession(null, null, new DefaultMavenExecutionRequest(), new DefaultMavenExecutionResult());
+        MavenProject app = project("app");
+
+        DependencyGraphCache.forSession(session).graph(builder, app);
+        DependencyGraphCache.forSession(session).graph(builder, app);
+
+        assertThat(builds).hasValue(2);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static MavenSession session() {
+        return new MavenSession(null, new DefaultRepositorySystemSession(), new DefaultMavenExecutionRequest(),
+                new DefaultMavenExecutionResult());
+    }
+
+    private static MavenProject project(String artifactId) {
+        Model model = new Model();
+        model.setGroupId("com.example");
+        model.setArtifactId(artifactId);
+        model.setVersion("1.0.0");
+        return new MavenProject(model);
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.tourem.maven.plugin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.tourem.maven.descriptor.model.BuildInfo;
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the streamed descriptor is the document the in-memory serialization produces.
+ * @author tourem
+ */
+public class StreamingDescriptorWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final LocalDateTime generatedAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+    private final List<DeployableModule> modules = List.of(
+            DeployableModule.builder().groupId("com.example").artifactId("api").version("1.0.0").packaging("jar").build(),
+            DeployableModule.builder().groupId("com.example").artifactId("app").version("1.0.0").packaging("jar")
+                    .springBootExecutable(true).buildPlugins(List.of("spring-boot-maven-plugin")).build());
+
+    @Test
+    void shouldWriteSameDocumentAsInMemorySerialization() throws Exception {
+        for (boolean pretty : new boolean[]{true, false}) {
+            ObjectMapper mapper = mapper(pretty);
+            Path target = tempDir.resolve("descriptor-" + pretty + ".json");
+
+            try (StreamingDescriptorWriter writer = new StreamingDescriptorWriter(mapper, target,
+                    module -> module.setRepositoryUrl("https://repo.example.com/" + module.getArtifactId()))) {
+                writer.begin(descriptor(List.of(), null));
+                for (DeployableModule module : modules) {
+                    writer.module(module);
+                }
+                writer.finish(descriptor(List.of(), BuildInfo.builder().gitBranch("main").buildTimestamp(generatedAt).build()));
+            }
+
+            String expected = mapper.writeValueAsString(
+                    descriptor(modules, BuildInfo.builder().gitBranch("main").buildTimestamp(generatedAt).build()));
+            assertThat(Files.readString(target)).isEqualTo(expected);
+            assertThat(Files.readString(target)).contains("https://repo.example.com/app");
+        }
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).allMatch(f -> f.toString().endsWith(".json"));
+        }
+    }
+
+    @Test
+    void shouldKeepPreviousDescriptorWhenNotFinished() throws Exception {
+        Path target = tempDir.resolve("descriptor.json");
+        Files.writeString(target, "previous");
+
+        try (StreamingDescriptorWriter writer = new StreamingDescriptorWriter(mapper(true), target, null)) {
+            writer.begin(descriptor(List.of(), null));
+            writer.module(modules.get(0));
+        }
+
+        assertThat(Files.readString(target)).isEqualTo("previous");
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(target);
+        }
+    }
+
+    private ProjectDescriptor descriptor(List<DeployableModule> deployableModules, BuildInfo buildInfo) {
+        return ProjectDescriptor.builder()
+                .projectGroupId("com.example")
+                .projectArtifactId("parent")
+                .projectVersion("1.0.0")
+                .projectName("Example")
+                .generatedAt(generatedAt)
+                .deployableModules(deployableModules)
+                .totalModules(buildInfo != null ? 3 : 0)
+                .deployableModulesCount(buildInfo != null ? 2 : 0)
+                .buildInfo(buildInfo)
+                .mavenRepositoryUrl("https://repo.example.com")
+                .build();
+    }
+
+    private static ObjectMapper mapper(boolean pretty) {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (pretty) {
+            mapper.enable(SerializationFeature.INDENT_OUTPUT);
+        }
+        return mapper;
+    }
+}